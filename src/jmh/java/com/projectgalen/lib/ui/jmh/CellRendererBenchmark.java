@@ -0,0 +1,107 @@
+package com.projectgalen.lib.ui.jmh;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: CellRendererBenchmark.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.components.combobox.PGJListCellRenderer;
+import com.projectgalen.lib.ui.components.table.misc.CurrencyCellRenderer;
+import com.projectgalen.lib.ui.test.TestData;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PGJListCellRenderer} and {@link CurrencyCellRenderer} against the plain Swing renderers they wrap. Every sixteenth list item is
+ * <code>null</code> and every eighth cell is selected so both branches are exercised.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellRendererBenchmark {
+
+    private static final int COUNT = 1024;
+
+    private final TestData[]                    items   = new TestData[COUNT];
+    private final BigDecimal[]                  amounts = new BigDecimal[COUNT];
+    private       JList<TestData>               list;
+    private       JTable                        table;
+    private       PGJListCellRenderer<TestData> listRenderer;
+    private       DefaultListCellRenderer       defaultListRenderer;
+    private       CurrencyCellRenderer          currencyRenderer;
+    private       DefaultTableCellRenderer      defaultTableRenderer;
+    private       int                           index;
+
+    @Setup
+    public void setup() {
+        List<TestData> data = TestData.createTestData(COUNT);
+
+        for(int i = 0; i < COUNT; i++) {
+            items[i]   = (((i & 15) == 0) ? null : data.get(i));
+            amounts[i] = data.get(i).getSalary();
+        }
+
+        list                 = new JList<>();
+        table                = new JTable();
+        listRenderer         = new PGJListCellRenderer<>(TestData::getName);
+        defaultListRenderer  = new DefaultListCellRenderer();
+        currencyRenderer     = new CurrencyCellRenderer();
+        defaultTableRenderer = new DefaultTableCellRenderer();
+    }
+
+    @Benchmark
+    public Component currencyCellRenderer() {
+        int i = next();
+        return currencyRenderer.getTableCellRendererComponent(table, amounts[i], ((i & 7) == 0), false, i, 3);
+    }
+
+    @Benchmark
+    public Component defaultListCellRenderer() {
+        int      i    = next();
+        TestData item = items[i];
+        return defaultListRenderer.getListCellRendererComponent(list, ((item == null) ? null : item.getName()), i, ((i & 7) == 0), false);
+    }
+
+    @Benchmark
+    public Component defaultTableCellRenderer() {
+        int i = next();
+        return defaultTableRenderer.getTableCellRendererComponent(table, amounts[i], ((i & 7) == 0), false, i, 3);
+    }
+
+    @Benchmark
+    public Component pgjListCellRenderer() {
+        int i = next();
+        return listRenderer.getListCellRendererComponent(list, items[i], i, ((i & 7) == 0), false);
+    }
+
+    private int next() {
+        return (index = ((index + 1) & (COUNT - 1)));
+    }
+}
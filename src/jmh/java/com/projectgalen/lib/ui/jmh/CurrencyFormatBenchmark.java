@@ -0,0 +1,97 @@
+package com.projectgalen.lib.ui.jmh;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: CurrencyFormatBenchmark.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.utils.CurrencyCodec;
+import com.projectgalen.lib.ui.utils.CurrencyFormats;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CurrencyCodec} with the {@link NumberFormat} it replaces in {@link com.projectgalen.lib.ui.components.PGCurrencyTextField}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyFormatBenchmark {
+
+    private static final int COUNT = 1024;
+
+    private final BigDecimal[]  values   = new BigDecimal[COUNT];
+    private final long[]        unscaled = new long[COUNT];
+    private final String[]      strings  = new String[COUNT];
+    private       NumberFormat  numberFormat;
+    private       CurrencyCodec codec;
+    private       int           index;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(8675309L);
+
+        numberFormat = CurrencyFormats.newFormatter();
+        codec        = CurrencyFormats.getCodec();
+
+        for(int i = 0; i < COUNT; i++) {
+            unscaled[i] = (rnd.nextLong() % 10_000_000_000_000L);
+            values[i]   = BigDecimal.valueOf(unscaled[i], codec.getFractionDigits());
+            strings[i]  = numberFormat.format(values[i]);
+        }
+    }
+
+    @Benchmark
+    public String codecFormat() {
+        return codec.format(values[next()]);
+    }
+
+    @Benchmark
+    public String codecFormatUnscaled() {
+        return codec.format(unscaled[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal codecParse() throws ParseException {
+        return codec.parse(strings[next()]);
+    }
+
+    @Benchmark
+    public String numberFormatFormat() {
+        return numberFormat.format(values[next()].doubleValue());
+    }
+
+    @Benchmark
+    public BigDecimal numberFormatParse() throws ParseException {
+        return BigDecimal.valueOf(numberFormat.parse(strings[next()]).doubleValue());
+    }
+
+    private int next() {
+        return (index = ((index + 1) & (COUNT - 1)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.projectgalen.lib.ui.jmh;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: FontsBenchmark.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.FontStyles;
+import com.projectgalen.lib.ui.Fonts;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import javax.swing.border.CompoundBorder;
+import javax.swing.border.EmptyBorder;
+import javax.swing.border.TitledBorder;
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the component tree walks done by {@link Fonts#setFont(Component, Font, String...)} and {@link Fonts#setFont(Component, float, FontStyles...)}. The
+ * tree is a menu bar plus panels with titled borders, each holding ten labels, buttons and text fields. Two fonts are alternated so no call is a no-op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FontsBenchmark {
+
+    @Param({ "100", "1000" })
+    private int componentCount;
+
+    private final Font[]  fonts = new Font[2];
+    private final float[] sizes = { 12f, 13f };
+    private       JPanel  root;
+    private       int     index;
+
+    @Setup
+    public void setup() {
+        JMenuBar menuBar = new JMenuBar();
+
+        for(int m = 0; m < 5; m++) {
+            JMenu menu = new JMenu("Menu " + m);
+            for(int i = 0; i < 10; i++) menu.add(new JMenuItem("Item " + i));
+            menuBar.add(menu);
+        }
+
+        root = new JPanel(new BorderLayout());
+        root.add(menuBar, BorderLayout.NORTH);
+
+        JPanel body = new JPanel(new GridLayout(0, 1));
+        root.add(body, BorderLayout.CENTER);
+
+        for(int p = 0, j = Math.max(1, (componentCount / 10)); p < j; p++) {
+            JPanel panel = new JPanel(new FlowLayout());
+            panel.setBorder(new CompoundBorder(new TitledBorder("Panel " + p), new EmptyBorder(2, 2, 2, 2)));
+            for(int i = 0; i < 10; i++) {
+                panel.add(switch(i % 3) {/*@f0*/
+                    case 0  -> new JLabel("Label " + i);
+                    case 1  -> new JButton("Button " + i);
+                    default -> new JTextField("Field " + i);
+                });/*@f1*/
+            }
+            body.add(panel);
+        }
+
+        fonts[0] = new Font(Font.DIALOG, Font.PLAIN, 12);
+        fonts[1] = new Font(Font.SANS_SERIF, Font.BOLD, 13);
+    }
+
+    @Benchmark
+    public Component setFont() {
+        Fonts.setFont(root, fonts[next()]);
+        return root;
+    }
+
+    @Benchmark
+    public Component setFontStyles() {
+        Fonts.setFont(root, sizes[next()], FontStyles.WeightBold);
+        return root;
+    }
+
+    private int next() {
+        return (index = ((index + 1) & 1));
+    }
+}
@@ -0,0 +1,88 @@
+package com.projectgalen.lib.ui.jmh;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: TableModelBenchmark.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.components.table.misc.PGJTableModel;
+import com.projectgalen.lib.ui.components.table.misc.PGListDataSupplier;
+import com.projectgalen.lib.ui.test.TestData;
+import com.projectgalen.lib.ui.test.TestRowModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PGJTableModel#getValueAt(int, int)} for random cells and for the cells of one screen of rows, which is what a repaint asks for.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableModelBenchmark {
+
+    private static final int COUNT       = 1024;
+    private static final int SCREEN_ROWS = 40;
+
+    @Param({ "10000", "1000000" })
+    private int rowCount;
+
+    private final int[]                   rows    = new int[COUNT];
+    private final int[]                   columns = new int[COUNT];
+    private       PGJTableModel<TestData> model;
+    private       int                     index;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(8675309L);
+
+        model = new PGJTableModel<>(new TestRowModel(), new PGListDataSupplier<>(TestData.createTestData(rowCount)));
+
+        for(int i = 0; i < COUNT; i++) {
+            rows[i]    = rnd.nextInt(rowCount);
+            columns[i] = rnd.nextInt(model.getColumnCount());
+        }
+    }
+
+    @Benchmark
+    public Object getValueAt() {
+        int i = next();
+        return model.getValueAt(rows[i], columns[i]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCREEN_ROWS * 4)
+    public void getValueAtScreen(Blackhole bh) {
+        int first = Math.min(rows[next()], (rowCount - SCREEN_ROWS));
+        int cols  = model.getColumnCount();
+
+        for(int r = first, j = (first + SCREEN_ROWS); r < j; r++) for(int c = 0; c < cols; c++) bh.consume(model.getValueAt(r, c));
+    }
+
+    private int next() {
+        return (index = ((index + 1) & (COUNT - 1)));
+    }
+}
@@ -0,0 +1,102 @@
+package com.projectgalen.lib.ui.jmh;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: TableRenderBenchmark.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.components.table.PGJTable;
+import com.projectgalen.lib.ui.components.table.SelectionMode;
+import com.projectgalen.lib.ui.components.table.misc.PGJTableModel;
+import com.projectgalen.lib.ui.components.table.misc.PGListDataSupplier;
+import com.projectgalen.lib.ui.test.TestData;
+import com.projectgalen.lib.ui.test.TestRowModel;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures preparing the renderer for a single cell of a {@link PGJTable} and painting a full viewport of it into an offscreen image. The table is never
+ * shown so the benchmark thread owns it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableRenderBenchmark {
+
+    private static final int WIDTH  = 800;
+    private static final int HEIGHT = 600;
+
+    @Param({ "10000", "1000000" })
+    private int rowCount;
+
+    private PGJTable<TestData> table;
+    private JTable             view;
+    private BufferedImage      image;
+    private int                firstRow;
+    private int                visibleRows;
+    private int                index;
+
+    @Setup
+    public void setup() {
+        RepaintManager.currentManager(null).setDoubleBufferingEnabled(false);
+
+        table = new PGJTable<>(new PGJTableModel<>(new TestRowModel(), new PGListDataSupplier<>(TestData.createTestData(rowCount))), SelectionMode.MultiInterval);
+        table.setSize(WIDTH, HEIGHT);
+        table.doLayout();
+        table.getViewport().doLayout();
+
+        view        = (JTable)table.getViewport().getView();
+        image       = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        visibleRows = Math.max(1, (table.getViewport().getHeight() / view.getRowHeight()));
+        firstRow    = ((rowCount - visibleRows) / 2);
+
+        table.getViewport().setViewPosition(view.getCellRect(firstRow, 0, true).getLocation());
+        table.getViewport().doLayout();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BufferedImage paintViewport() {
+        Graphics2D g = image.createGraphics();
+        try {
+            table.getViewport().paint(g);
+        }
+        finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    @Benchmark
+    public Component prepareRenderer() {
+        int i   = index++;
+        int row = (firstRow + ((i / view.getColumnCount()) % visibleRows));
+        int col = (i % view.getColumnCount());
+        return view.prepareRenderer(view.getCellRenderer(row, col), row, col);
+    }
+}
@@ -0,0 +1,66 @@
+package com.projectgalen.lib.ui.jmh;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: UIFutureBenchmark.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.UIFuture;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Measures the round-trip from the benchmark thread to the event dispatch thread and back through {@link UIFuture}, with
+ * {@link SwingUtilities#invokeAndWait(Runnable)} as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UIFutureBenchmark {
+
+    private final Integer value = 42;
+
+    @Benchmark
+    public Integer invokeAndWait() throws InterruptedException, InvocationTargetException {
+        AtomicReference<Integer> result = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> result.set(value));
+        return result.get();
+    }
+
+    @Benchmark
+    public Integer uiFutureGet() throws InterruptedException, ExecutionException {
+        return new UIFuture<>(() -> value).get();
+    }
+
+    @Benchmark
+    public Integer uiFutureGetWithTimeout() throws InterruptedException, ExecutionException, TimeoutException {
+        return new UIFuture<>(() -> value).get(1, TimeUnit.SECONDS);
+    }
+}
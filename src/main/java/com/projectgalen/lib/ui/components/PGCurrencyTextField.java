@@ -22,21 +22,23 @@ package com.projectgalen.lib.ui.components;
 // IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
 // ===========================================================================
 
-import com.projectgalen.lib.ui.M;
+import com.projectgalen.lib.ui.utils.CurrencyFormats;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
+import javax.swing.text.DefaultFormatter;
 import java.awt.*;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
 import java.math.BigDecimal;
 import java.text.NumberFormat;
+import java.text.ParseException;
 import java.util.Objects;
 
 @SuppressWarnings({ "unused" })
 public class PGCurrencyTextField extends JFormattedTextField {
 
-    private static final String MAX_VALUE_STRING = M.props.getProperty("largest.currency.string", "$999,999,999,999.99");
+    private static final String MAX_VALUE_STRING = CurrencyFormats.MAX_VALUE_STRING;
 
     public PGCurrencyTextField() {
         this(BigDecimal.ZERO);
@@ -47,8 +49,8 @@ public class PGCurrencyTextField extends JFormattedTextField {
     }
 
     public PGCurrencyTextField(@NotNull BigDecimal value) {
-        super(getCurrencyFormatter());
-        setValue(value.doubleValue());
+        super(new CurrencyFormatter());
+        setValue(value);
         setColumns(MAX_VALUE_STRING.length() + 1);
         addFocusListener(new FocusAdapter() {
             public @Override void focusGained(FocusEvent e) {
@@ -80,30 +82,34 @@ public class PGCurrencyTextField extends JFormattedTextField {
     }
 
     public @NotNull BigDecimal getNumber() {
-        return ((getValue() instanceof Number n) ? BigDecimal.valueOf(n.doubleValue()) : BigDecimal.ZERO);
+        return CurrencyFormats.toBigDecimal((getValue() instanceof Number n) ? n : null);
     }
 
     public void setNumber(double number) {
-        setValue(number);
+        setValue(BigDecimal.valueOf(number));
     }
 
     public void setNumber(BigDecimal number) {
-        setValue(Objects.requireNonNullElse(number, BigDecimal.ZERO).doubleValue());
+        setValue(Objects.requireNonNullElse(number, BigDecimal.ZERO));
     }
 
     public static @NotNull NumberFormat getCurrencyFormatter() {
-        String[]     parts = fooBar();
-        NumberFormat fmt   = NumberFormat.getCurrencyInstance();
-        fmt.setMaximumIntegerDigits(parts[0].length());
-        fmt.setMinimumIntegerDigits(1);
-        fmt.setMinimumFractionDigits(parts[1].length());
-        fmt.setMaximumFractionDigits(parts[1].length());
-        return fmt;
+        return CurrencyFormats.newFormatter();
     }
 
-    private static @NotNull String @NotNull [] fooBar() {
-        String str = MAX_VALUE_STRING.replaceAll("[^0-9.]", "");
-        int    dp  = str.lastIndexOf('.');
-        return ((dp < 0) ? new String[] { str, "00" } : new String[] { str.substring(0, dp), str.substring(dp + 1) });
+    private static final class CurrencyFormatter extends DefaultFormatter {
+        public CurrencyFormatter() {
+            setValueClass(BigDecimal.class);
+            setOverwriteMode(false);
+            setAllowsInvalid(true);
+        }
+
+        public @Override Object stringToValue(String text) throws ParseException {
+            return CurrencyFormats.parse(Objects.requireNonNullElse(text, ""));
+        }
+
+        public @Override String valueToString(Object value) {
+            return ((value instanceof Number n) ? CurrencyFormats.format(n) : "");
+        }
     }
 }
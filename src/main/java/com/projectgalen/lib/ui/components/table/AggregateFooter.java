@@ -0,0 +1,234 @@
+package com.projectgalen.lib.ui.components.table;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: AggregateFooter.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.components.table.misc.PGJTableModel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.event.*;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
+import java.awt.*;
+
+import static com.projectgalen.lib.ui.M.props;
+
+/**
+ * The footer under the viewport of a {@link PGJTable} that shows the aggregates declared by the row model. It scrolls horizontally with the table but stays
+ * put vertically. When columns are frozen the footer also spans the row header and shows the frozen columns' aggregates there, without scrolling them. Bursts
+ * of table model events only update the aggregates; the footer is repainted once the events stop for a moment.
+ */
+final class AggregateFooter extends JComponent {
+
+    private static final int REPAINT_DELAY = props.getInt("table.footer.repaint.delay");
+
+    private final PGJTable<?>              table;
+    private final Timer                    repaintTimer;
+    private final TableModelListener       modelListener       = this::onTableModelChanged;
+    private final TableColumnModelListener columnModelListener = new ColumnModelListener();
+    private final ChangeListener           viewportListener    = e -> repaint();
+    private       PGJTableModel<?>         model               = null;
+    private       TableColumnModel         columnModel         = null;
+    private       TableColumnModel         frozenColumnModel   = null;
+    private       ColumnAggregates         aggregates          = null;
+
+    AggregateFooter(@NotNull PGJTable<?> table) {
+        this.table        = table;
+        this.repaintTimer = new Timer(REPAINT_DELAY, e -> repaint());
+        this.repaintTimer.setRepeats(false);
+        setOpaque(true);
+        table.getViewport().addChangeListener(viewportListener);
+        setModel(table.getModel());
+    }
+
+    public @Override Dimension getPreferredSize() {
+        Font font = getFooterFont();
+        return new Dimension(1, (getFontMetrics(font).getHeight() + 4));
+    }
+
+    void dispose() {
+        repaintTimer.stop();
+        table.getViewport().removeChangeListener(viewportListener);
+        setModel(null);
+    }
+
+    @Nullable Object getValue(int column) {
+        return ((aggregates == null) ? null : aggregates.getValue(column));
+    }
+
+    void setModel(@Nullable PGJTableModel<?> model) {
+        if(this.model != null) this.model.removeTableModelListener(modelListener);
+        if(columnModel != null) columnModel.removeColumnModelListener(columnModelListener);
+        if(frozenColumnModel != null) frozenColumnModel.removeColumnModelListener(columnModelListener);
+        this.model             = model;
+        this.columnModel       = null;
+        this.frozenColumnModel = null;
+        this.aggregates  = ((model == null) ? null : new ColumnAggregates(model));
+        if(model != null) model.addTableModelListener(modelListener);
+        repaint();
+    }
+
+    protected @Override void paintComponent(Graphics g) {
+        JTableHeader header = table.getTableHeader();
+        Color        bg     = ((header != null) ? header.getBackground() : UIManager.getColor("TableHeader.background"));
+        Color        fg     = ((header != null) ? header.getForeground() : UIManager.getColor("TableHeader.foreground"));
+
+        g.setColor((bg == null) ? getBackground() : bg);
+        g.fillRect(0, 0, getWidth(), getHeight());
+        g.setColor(table.getGridColor());
+        g.drawLine(0, 0, getWidth(), 0);
+
+        JTable           frozenTable = getFrozenTable();
+        TableColumnModel cm          = (columnModel = track(columnModel, table.getColumnModel()));
+        TableColumnModel frozen      = (frozenColumnModel = track(frozenColumnModel, ((frozenTable == null) ? null : frozenTable.getColumnModel())));
+        if((aggregates == null) || aggregates.isEmpty() || (cm == null) || (model == null)) return;
+
+        Graphics2D  g2 = (Graphics2D)g.create();
+        FontMetrics fm = g2.getFontMetrics(getFooterFont());
+        int         x0 = getFrozenWidth();
+        int         y  = (((getHeight() - fm.getHeight()) / 2) + fm.getAscent());
+
+        try {
+            g2.setFont(getFooterFont());
+            g2.setColor((fg == null) ? getForeground() : fg);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            if(frozen != null) paintColumns(g2, fm, frozen, 0, 0, x0, y);
+            paintColumns(g2, fm, cm, (x0 - table.getViewport().getViewPosition().x), x0, getWidth(), y);
+        }
+        finally {
+            g2.dispose();
+        }
+    }
+
+    private @NotNull Font getFooterFont() {
+        JTableHeader header = table.getTableHeader();
+        Font         font   = ((header != null) ? header.getFont() : null);
+        return ((font != null) ? font : table.getFont());
+    }
+
+    /**
+     * Returns the companion table showing the frozen columns, or <code>null</code> if no columns are frozen.
+     */
+    private @Nullable JTable getFrozenTable() {
+        JViewport rowHeader = table.getRowHeader();
+        return (((rowHeader != null) && (rowHeader.getView() instanceof JTable frozen)) ? frozen : null);
+    }
+
+    private int getFrozenWidth() {
+        JViewport rowHeader = table.getRowHeader();
+        return (((getFrozenTable() != null) && rowHeader.isVisible()) ? rowHeader.getWidth() : 0);
+    }
+
+    private void onTableModelChanged(@NotNull TableModelEvent e) {
+        if(e.getFirstRow() == TableModelEvent.HEADER_ROW) aggregates = new ColumnAggregates(model);
+        else if((aggregates == null) || !aggregates.tableChanged(e)) return;
+        if(!repaintTimer.isRunning()) repaintTimer.start();
+    }
+
+    /**
+     * Paints the aggregates of the columns of a column model, the first one starting at <code>x</code>, clipped to the range from <code>minX</code> to
+     * <code>maxX</code>.
+     */
+    private void paintColumns(@NotNull Graphics2D g2, @NotNull FontMetrics fm, @NotNull TableColumnModel cm, int x, int minX, int maxX, int y) {
+        for(int i = 0, j = cm.getColumnCount(); (i < j) && (x < maxX); i++) {
+            TableColumn column = cm.getColumn(i);
+            int         width  = column.getWidth();
+
+            if((x + width) > minX) {
+                String text = aggregates.getText(column.getModelIndex());
+                if(!text.isEmpty()) {
+                    int textWidth = fm.stringWidth(text);
+                    int tx        = switch(model.getRowModel().getColumnAlignment(column.getModelIndex())) {/*@f0*/
+                        case SwingConstants.RIGHT, SwingConstants.TRAILING -> (x + width - textWidth - 3);
+                        case SwingConstants.CENTER                         -> (x + ((width - textWidth) / 2));
+                        default                                            -> (x + 3);
+                    };/*@f1*/
+                    int clipX = Math.max(x, minX);
+                    g2.setClip(clipX, 0, (Math.min((x + width), maxX) - clipX), getHeight());
+                    g2.drawString(text, tx, y);
+                }
+            }
+            x += width;
+        }
+    }
+
+    /**
+     * Moves the column model listener from the tracked column model to the current one if they differ.
+     *
+     * @return The current column model.
+     */
+    private @Nullable TableColumnModel track(@Nullable TableColumnModel tracked, @Nullable TableColumnModel current) {
+        if(current != tracked) {
+            if(tracked != null) tracked.removeColumnModelListener(columnModelListener);
+            if(current != null) current.addColumnModelListener(columnModelListener);
+        }
+        return current;
+    }
+
+    /**
+     * Places the footer directly under the viewport, above the horizontal scroll bar. The table reserves the room for it in its insets so the viewport and
+     * the scroll bars are sized correctly by {@link ScrollPaneLayout}.
+     */
+    static final class Layout extends ScrollPaneLayout {
+        private final AggregateFooter footer;
+
+        Layout(@NotNull AggregateFooter footer) {
+            this.footer = footer;
+        }
+
+        public @Override void layoutContainer(Container parent) {
+            super.layoutContainer(parent);
+            if((viewport != null) && footer.isVisible()) {
+                Rectangle vp     = viewport.getBounds();
+                int       height = footer.getPreferredSize().height;
+
+                // Span the row header too, where the frozen columns are.
+                if((rowHead != null) && rowHead.isVisible()) vp = vp.union(rowHead.getBounds());
+                footer.setBounds(vp.x, (vp.y + vp.height), vp.width, height);
+                for(Component c : new Component[] { hsb, lowerLeft, lowerRight }) if(c != null) c.setLocation(c.getX(), (c.getY() + height));
+            }
+        }
+    }
+
+    private final class ColumnModelListener implements TableColumnModelListener {
+        public @Override void columnAdded(TableColumnModelEvent e) {
+            repaint();
+        }
+
+        public @Override void columnMarginChanged(ChangeEvent e) {
+            repaint();
+        }
+
+        public @Override void columnMoved(TableColumnModelEvent e) {
+            if(e.getFromIndex() != e.getToIndex()) repaint();
+        }
+
+        public @Override void columnRemoved(TableColumnModelEvent e) {
+            repaint();
+        }
+
+        public @Override void columnSelectionChanged(ListSelectionEvent e) { }
+    }
+}
@@ -0,0 +1,233 @@
+package com.projectgalen.lib.ui.components.table;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: CellFlashes.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.components.table.misc.PGJTableModel;
+import com.projectgalen.lib.ui.events.TableCellModelEvent;
+import com.projectgalen.lib.ui.listeners.TableCellModelListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import java.awt.*;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static com.projectgalen.lib.ui.M.props;
+
+/**
+ * Flashes the background of table cells when their values change: green when the value went up, red when it went down, and amber when it changed but cannot
+ * be compared. The flash fades out over the flash duration. The changes come from the row model's {@link TableCellModelEvent}s, which carry the old and the
+ * new value.
+ * <p>
+ * Every flash lasts just as long, so flashes expire in the order they started and are kept in a ring buffer ordered by start time, with a map from each cell
+ * to its newest flash. A single timer repaints the flashing cells that are showing and drops the expired flashes from the head of the ring. It stops when no
+ * cell is flashing. Inserting or deleting rows ends all flashes, since the rows they refer to have moved.
+ */
+final class CellFlashes {
+
+    private static final int     TICK   = props.getInt("table.flash.tick");
+    private static final byte    NONE   = -1;
+    private static final byte    RISE   = 0;
+    private static final byte    FALL   = 1;
+    private static final byte    CHANGE = 2;
+    private static final Color[] COLORS = { new Color(0x2E, 0xB0, 0x4A), new Color(0xE0, 0x3E, 0x3E), new Color(0xF0, 0xB4, 0x28) };
+
+    private final Supplier<List<JTable>> tables;
+    private final Timer                  timer;
+    private final TableCellModelListener cellListener  = this::onTableCellChanged;
+    private final TableModelListener     modelListener = this::onTableChanged;
+    private final Map<Long, Integer>     newest        = new HashMap<>();
+    private       long[]                 cells         = new long[64];
+    private       long[]                 starts        = new long[64];
+    private       byte[]                 kinds         = new byte[64];
+    private       int                    head          = 0;
+    private       int                    tail          = 0;
+    private       long                   duration;
+    private       PGJTableModel<?>       model         = null;
+
+    /**
+     * @param tables   Returns the tables showing the model's columns.
+     * @param duration How long a flash lasts, in milliseconds.
+     */
+    CellFlashes(@NotNull Supplier<List<JTable>> tables, int duration) {
+        this.tables   = tables;
+        this.timer    = new Timer(TICK, e -> tick());
+        this.duration = Math.max(1, duration) * 1_000_000L;
+    }
+
+    void dispose() {
+        setModel(null);
+        clear();
+    }
+
+    /**
+     * Returns the background of a flashing cell, its flash color faded into the given background, or <code>null</code> if the cell is not flashing.
+     *
+     * @param row        The model row.
+     * @param column     The model column.
+     * @param background The cell's background without the flash.
+     *
+     * @return The background or <code>null</code>.
+     */
+    @Nullable Color getBackground(int row, int column, @NotNull Color background) {
+        if(head == tail) return null;
+        Integer seq = newest.get(key(row, column));
+        if(seq == null) return null;
+
+        int    i     = (seq & (cells.length - 1));
+        double faded = ((double)(System.nanoTime() - starts[i]) / duration);
+        if(faded >= 1.0) return null;
+
+        Color  flash  = COLORS[kinds[i]];
+        double weight = (1.0 - faded);
+        return new Color(mix(background.getRed(), flash.getRed(), weight), mix(background.getGreen(), flash.getGreen(), weight), mix(background.getBlue(), flash.getBlue(), weight));
+    }
+
+    int getDuration() {
+        return (int)(duration / 1_000_000L);
+    }
+
+    void setDuration(int duration) {
+        this.duration = Math.max(1, duration) * 1_000_000L;
+    }
+
+    void setModel(@Nullable PGJTableModel<?> model) {
+        if(this.model != null) {
+            this.model.removeTableModelListener(modelListener);
+            this.model.getRowModel().removeTableCellModelListener(cellListener);
+        }
+        this.model = model;
+        if(model != null) {
+            model.addTableModelListener(modelListener);
+            model.getRowModel().addTableCellModelListener(cellListener);
+        }
+        clear();
+    }
+
+    private void add(int row, int column, byte kind) {
+        if((tail - head) == cells.length) grow();
+        int  seq = tail++;
+        int  i   = (seq & (cells.length - 1));
+        long key = key(row, column);
+        cells[i]  = key;
+        starts[i] = System.nanoTime();
+        kinds[i]  = kind;
+        newest.put(key, seq);
+        if(!timer.isRunning()) timer.start();
+    }
+
+    private void clear() {
+        boolean flashing = (head != tail);
+        timer.stop();
+        newest.clear();
+        head = tail = 0;
+        if(flashing) tables.get().forEach(JTable::repaint);
+    }
+
+    private void grow() {
+        int    size      = cells.length;
+        long[] newCells  = new long[size * 2];
+        long[] newStarts = new long[size * 2];
+        byte[] newKinds  = new byte[size * 2];
+        for(int seq = head; seq != tail; seq++) {
+            newCells[seq & ((size * 2) - 1)]  = cells[seq & (size - 1)];
+            newStarts[seq & ((size * 2) - 1)] = starts[seq & (size - 1)];
+            newKinds[seq & ((size * 2) - 1)]  = kinds[seq & (size - 1)];
+        }
+        cells  = newCells;
+        starts = newStarts;
+        kinds  = newKinds;
+    }
+
+    private void onTableCellChanged(@NotNull TableCellModelEvent e) {
+        switch(e.getEventType()) {
+            case CellDataUpdated -> {
+                byte kind = kind(e.getOldValue(), e.getNewValue());
+                if((kind != NONE) && (e.getRowIndex() >= 0) && (e.getColumnIndex() >= 0)) add(e.getRowIndex(), e.getColumnIndex(), kind);
+            }
+            case TableDataUpdated -> clear();
+        }
+    }
+
+    private void onTableChanged(@NotNull TableModelEvent e) {
+        if((e.getType() != TableModelEvent.UPDATE) || (e.getFirstRow() < 0) || (e.getLastRow() == Integer.MAX_VALUE)) clear();
+    }
+
+    /**
+     * Drops the expired flashes and repaints the flashing cells that are showing, along with the ones that just expired so they lose their color.
+     */
+    private void tick() {
+        long now     = System.nanoTime();
+        int  expired = head;
+        while((head != tail) && ((now - starts[head & (cells.length - 1)]) >= duration)) {
+            Long key = cells[head & (cells.length - 1)];
+            if(Objects.equals(newest.get(key), head)) newest.remove(key);
+            head++;
+        }
+
+        for(JTable table : tables.get()) {
+            Rectangle visible = table.getVisibleRect();
+            Rectangle dirty   = null;
+            for(int seq = expired; seq != tail; seq++) {
+                long cell    = cells[seq & (cells.length - 1)];
+                int  row     = (int)(cell >>> 32);
+                int  viewRow = (((row >= 0) && (row < table.getModel().getRowCount())) ? table.convertRowIndexToView(row) : -1);
+                int  viewCol = table.convertColumnIndexToView((int)cell);
+                if((viewRow >= 0) && (viewCol >= 0)) {
+                    Rectangle rect = table.getCellRect(viewRow, viewCol, true);
+                    if(rect.intersects(visible)) dirty = ((dirty == null) ? rect : dirty.union(rect));
+                }
+            }
+            if(dirty != null) table.repaint(dirty);
+        }
+
+        if(head == tail) {
+            timer.stop();
+            head = tail = 0;
+        }
+    }
+
+    private static byte kind(@Nullable Object oldValue, @Nullable Object newValue) {
+        if(Objects.equals(oldValue, newValue)) return NONE;
+        int cc;
+        if((oldValue instanceof BigDecimal o) && (newValue instanceof BigDecimal n)) cc = n.compareTo(o);
+        else if((oldValue instanceof Number o) && (newValue instanceof Number n)) cc = Double.compare(n.doubleValue(), o.doubleValue());
+        else return CHANGE;
+        return ((cc > 0) ? RISE : ((cc < 0) ? FALL : NONE));
+    }
+
+    private static long key(int row, int column) {
+        return ((((long)row) << 32) | (column & 0xffffffffL));
+    }
+
+    private static int mix(int from, int to, double weight) {
+        return (int)Math.round(from + ((to - from) * weight));
+    }
+}
@@ -0,0 +1,328 @@
+package com.projectgalen.lib.ui.components.table;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: CellTextIndex.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A trigram index over the display text of a table's cells. Each trigram maps to the rows whose text contains it, so a substring query only has to look at the
+ * rows that contain every trigram of the query. Updating a cell only adds postings; stale ones are harmless because every candidate row is checked against the
+ * stored text before it is reported. Not thread safe.
+ * <p>
+ * The postings hold row ids rather than row numbers, so inserting or deleting rows does not touch them. Rows deleted from the head only move a base offset;
+ * rows inserted or deleted anywhere else shift the text array, and the row numbers of the ids after them are corrected by the next query. A postings list is
+ * compacted (sorted, de-duplicated and stripped of deleted rows) before it grows, and the ids are renumbered before they run out, so neither grows with the
+ * number of updates.
+ */
+final class CellTextIndex {
+
+    private static final int NGRAM = 3;
+    private static final int DEAD  = -1;
+
+    private final int                    columnCount;
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    private       String[]               texts;
+    private       int[]                  rowIds;
+    private       int[]                  idRows;
+    private       int                    head     = 0;
+    private       int                    rowCount = 0;
+    private       int                    nextId   = 0;
+    private       int                    base     = 0;
+    private       int                    stale    = Integer.MAX_VALUE;
+
+    CellTextIndex(int rowCount, int columnCount) {
+        int capacity = Math.max(16, rowCount);
+        this.columnCount = columnCount;
+        this.texts       = new String[capacity * columnCount];
+        this.rowIds      = new int[capacity];
+        this.idRows      = new int[capacity];
+        insertRows(0, rowCount);
+    }
+
+    /**
+     * Adds rows to the end of the index. Their text must be set with {@link #set(int, int, String)} afterwards.
+     *
+     * @param count The number of rows to add.
+     */
+    void appendRows(int count) {
+        insertRows(rowCount, count);
+    }
+
+    /**
+     * Removes rows from the index.
+     *
+     * @param first The first row to remove.
+     * @param count The number of rows to remove.
+     */
+    void deleteRows(int first, int count) {
+        for(int row = first, end = (first + count); row < end; row++) idRows[rowIds[head + row]] = DEAD;
+
+        if(first == 0) {
+            Arrays.fill(texts, (head * columnCount), ((head + count) * columnCount), null);
+            head += count;
+            base += count;
+            if(stale != Integer.MAX_VALUE) stale = Math.max(0, (stale - count));
+        }
+        else {
+            int tail = (rowCount - first - count);
+            if(tail > 0) {
+                System.arraycopy(texts, ((head + first + count) * columnCount), texts, ((head + first) * columnCount), (tail * columnCount));
+                System.arraycopy(rowIds, (head + first + count), rowIds, (head + first), tail);
+                stale = Math.min(stale, first);
+            }
+            Arrays.fill(texts, ((head + rowCount - count) * columnCount), ((head + rowCount) * columnCount), null);
+        }
+        rowCount -= count;
+    }
+
+    int getColumnCount() {
+        return columnCount;
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Finds the cells containing the given text, ignoring case.
+     *
+     * @param query    The text to find.
+     * @param consumer Receives the row and column of each match, in row-major order.
+     */
+    void find(@NotNull String query, @NotNull CellConsumer consumer) {
+        String q = query.toLowerCase(Locale.ROOT);
+        if(q.isEmpty()) return;
+
+        if(q.length() < NGRAM) {
+            for(int row = 0; row < rowCount; row++) matchRow(row, q, consumer);
+            return;
+        }
+
+        Postings[] lists = new Postings[q.length() - NGRAM + 1];
+        for(int i = 0; i < lists.length; i++) {
+            if((lists[i] = postings.get(key(q, i))) == null) return;
+            lists[i].compact();
+        }
+        // Start with the shortest list so every intersection is as small as possible.
+        Arrays.sort(lists, Comparator.comparingInt(p -> p.size));
+
+        int[] candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+        int   count      = candidates.length;
+
+        for(int i = 1; (i < lists.length) && (count > 0); i++) count = intersect(candidates, count, lists[i].ids, lists[i].size);
+
+        // Ids are not in row order once rows have been inserted in the middle, so the candidates are sorted by row before they are matched.
+        renumber();
+        int rows = 0;
+        for(int i = 0; i < count; i++) if(idRows[candidates[i]] != DEAD) candidates[rows++] = (idRows[candidates[i]] - base);
+        Arrays.sort(candidates, 0, rows);
+        for(int i = 0; i < rows; i++) matchRow(candidates[i], q, consumer);
+    }
+
+    /**
+     * Inserts empty rows into the index. Their text must be set with {@link #set(int, int, String)} afterwards.
+     *
+     * @param first The row the first new row is inserted at.
+     * @param count The number of rows to insert.
+     */
+    void insertRows(int first, int count) {
+        ensureIds(count);
+        ensureRows(rowCount + count);
+
+        if(first < rowCount) {
+            System.arraycopy(texts, ((head + first) * columnCount), texts, ((head + first + count) * columnCount), ((rowCount - first) * columnCount));
+            System.arraycopy(rowIds, (head + first), rowIds, (head + first + count), (rowCount - first));
+            Arrays.fill(texts, ((head + first) * columnCount), ((head + first + count) * columnCount), null);
+            stale = Math.min(stale, first);
+        }
+        for(int row = first, end = (first + count); row < end; row++) {
+            rowIds[head + row] = nextId;
+            idRows[nextId++] = (row + base);
+        }
+        rowCount += count;
+    }
+
+    /**
+     * Sets the text of a cell.
+     *
+     * @param row    The model row.
+     * @param column The model column.
+     * @param text   The display text or <code>null</code>.
+     */
+    void set(int row, int column, @Nullable String text) {
+        String t  = (((text == null) || text.isEmpty()) ? null : text.toLowerCase(Locale.ROOT));
+        int    id = rowIds[head + row];
+        texts[((head + row) * columnCount) + column] = t;
+        if(t != null) for(int i = 0, j = (t.length() - NGRAM); i <= j; i++) postings.computeIfAbsent(key(t, i), k -> new Postings()).add(id);
+    }
+
+    /**
+     * Makes room for the given number of new ids. If at most half the ids in use belong to rows that still exist, the rows are given new ids in row order and
+     * every postings list is rewritten; otherwise the id table grows.
+     *
+     * @param count The number of new ids needed.
+     */
+    private void ensureIds(int count) {
+        if((nextId + count) <= idRows.length) return;
+
+        if(((rowCount + count) * 2) > idRows.length) {
+            idRows = Arrays.copyOf(idRows, Math.max((nextId + count), (idRows.length * 2)));
+            return;
+        }
+
+        renumber();
+        int[] newIds = new int[nextId];
+        for(int id = 0; id < nextId; id++) newIds[id] = ((idRows[id] == DEAD) ? DEAD : (idRows[id] - base));
+
+        Arrays.fill(idRows, DEAD);
+        for(int row = 0; row < rowCount; row++) {
+            rowIds[head + row] = row;
+            idRows[row]        = row;
+        }
+        for(Postings p : postings.values()) p.remap(newIds);
+        postings.values().removeIf(p -> (p.size == 0));
+        nextId = rowCount;
+        base   = 0;
+        stale  = Integer.MAX_VALUE;
+    }
+
+    private void ensureRows(int capacity) {
+        if((head + capacity) > rowIds.length) {
+            int      size = ((capacity <= (rowIds.length / 2)) ? rowIds.length : Math.max(16, (capacity * 2)));
+            String[] t    = ((size == rowIds.length) ? texts : new String[size * columnCount]);
+            int[]    i    = ((size == rowIds.length) ? rowIds : new int[size]);
+
+            System.arraycopy(texts, (head * columnCount), t, 0, (rowCount * columnCount));
+            System.arraycopy(rowIds, head, i, 0, rowCount);
+            if(t == texts) Arrays.fill(texts, (rowCount * columnCount), ((head + rowCount) * columnCount), null);
+            texts  = t;
+            rowIds = i;
+            head   = 0;
+        }
+    }
+
+    private void matchRow(int row, @NotNull String q, @NotNull CellConsumer consumer) {
+        for(int col = 0, start = ((head + row) * columnCount); col < columnCount; col++) {
+            String t = texts[start + col];
+            if((t != null) && t.contains(q)) consumer.accept(row, col);
+        }
+    }
+
+    /**
+     * Gives the id of every row from the first stale row on the row number it is at now. Rows before the first stale row have not moved since they were last
+     * numbered.
+     */
+    private void renumber() {
+        for(int row = stale; row < rowCount; row++) idRows[rowIds[head + row]] = (row + base);
+        stale = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Builds a new index.
+     *
+     * @param rowCount    The number of rows.
+     * @param columnCount The number of columns.
+     * @param cellText    Returns the display text of a cell.
+     * @param cancelled   Polled once per row; the build stops with a {@link CancellationException} when it returns <code>true</code>.
+     *
+     * @return The index.
+     */
+    static @NotNull CellTextIndex build(int rowCount, int columnCount, @NotNull CellText cellText, @NotNull BooleanSupplier cancelled) {
+        CellTextIndex index = new CellTextIndex(rowCount, columnCount);
+        for(int row = 0; row < rowCount; row++) {
+            if(cancelled.getAsBoolean()) throw new CancellationException();
+            for(int col = 0; col < columnCount; col++) index.set(row, col, cellText.get(row, col));
+        }
+        return index;
+    }
+
+    private static int intersect(int @NotNull [] a, int aSize, int @NotNull [] b, int bSize) {
+        int i = 0, j = 0, k = 0;
+        while((i < aSize) && (j < bSize)) {
+            if(a[i] < b[j]) i++;
+            else if(a[i] > b[j]) j++;
+            else { a[k++] = a[i++]; j++; }
+        }
+        return k;
+    }
+
+    private static int key(@NotNull String s, int i) {
+        // Collisions only add candidate rows, which are filtered out when the text is checked.
+        return ((s.charAt(i) << 20) ^ (s.charAt(i + 1) << 10) ^ s.charAt(i + 2));
+    }
+
+    interface CellConsumer {
+        void accept(int row, int column);
+    }
+
+    interface CellText {
+        @Nullable String get(int row, int column);
+    }
+
+    private final class Postings {
+        private int[]   ids    = new int[4];
+        private int     size   = 0;
+        private boolean sorted = true;
+
+        public void add(int id) {
+            if(size == ids.length) {
+                compact();
+                if(size > (ids.length / 2)) ids = Arrays.copyOf(ids, (ids.length * 2));
+            }
+            if(size > 0) {
+                int last = ids[size - 1];
+                if(last == id) return;
+                if(last > id) sorted = false;
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Sorts the ids, removes duplicates and drops the ids of deleted rows.
+         */
+        public void compact() {
+            if(!sorted) Arrays.sort(ids, 0, size);
+            int k = 0;
+            for(int i = 0; i < size; i++) if((idRows[ids[i]] != DEAD) && ((k == 0) || (ids[k - 1] != ids[i]))) ids[k++] = ids[i];
+            size   = k;
+            sorted = true;
+        }
+
+        public void remap(int @NotNull [] newIds) {
+            int k = 0;
+            for(int i = 0; i < size; i++) if(newIds[ids[i]] != DEAD) ids[k++] = newIds[ids[i]];
+            size   = k;
+            sorted = false;
+            compact();
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package com.projectgalen.lib.ui.components.table;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: ColumnAggregates.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.components.table.misc.PGAggregate;
+import com.projectgalen.lib.ui.components.table.misc.PGJTableModel;
+import com.projectgalen.lib.ui.components.table.misc.PGJTableRowModel;
+import com.projectgalen.lib.ui.utils.CurrencyFormats;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.event.TableModelEvent;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the aggregates declared by a row model up to date from table model events. Every aggregated column keeps a copy of its values so deleted and updated
+ * rows can be taken out of the aggregate without reading the whole column again. Numeric columns keep their values in a <code>double[]</code> with
+ * <code>NaN</code> for <code>null</code>, and the sum uses Kahan summation so it does not drift as values are added and removed. {@link BigDecimal} columns
+ * keep {@link BigDecimal} values and sum them exactly, so a currency total is never off by a cent. Only a minimum or maximum that is removed makes the column
+ * scan its own copy again. Must be used on the event dispatch thread.
+ */
+final class ColumnAggregates {
+
+    private final PGJTableModel<?> model;
+    private final Accumulator[]    accumulators;
+    private final boolean          empty;
+
+    ColumnAggregates(@NotNull PGJTableModel<?> model) {
+        PGJTableRowModel<?> rowModel = model.getRowModel();
+
+        this.model        = model;
+        this.accumulators = new Accumulator[model.getColumnCount()];
+
+        for(int c = 0; c < accumulators.length; c++) {
+            PGAggregate aggregate = rowModel.getColumnAggregate(c);
+            if(aggregate == PGAggregate.Distinct) accumulators[c] = new DistinctAccumulator(c);
+            else if(aggregate != null) accumulators[c] = ((model.getColumnClass(c) == BigDecimal.class) ? new DecimalAccumulator(c, aggregate) : new NumericAccumulator(c, aggregate));
+        }
+
+        this.empty = Arrays.stream(accumulators).allMatch(a -> (a == null));
+        rebuild();
+    }
+
+    @NotNull String getText(int column) {
+        Object value = getValue(column);
+        if(value instanceof BigDecimal bd) return CurrencyFormats.format(bd);
+        if(!(value instanceof Double d)) return ((value == null) ? "" : value.toString());
+
+        Class<?> cls = model.getColumnClass(column);
+        if(cls == BigDecimal.class) return CurrencyFormats.format(d.doubleValue());
+        if(isIntegral(cls) && (accumulators[column] instanceof NumericAccumulator n) && (n.aggregate != PGAggregate.Average)) return String.valueOf(Math.round(d));
+        return String.valueOf(d);
+    }
+
+    @Nullable Object getValue(int column) {
+        return (((column >= 0) && (column < accumulators.length) && (accumulators[column] != null)) ? accumulators[column].value() : null);
+    }
+
+    boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Updates the aggregates for a table model event.
+     *
+     * @param e The event.
+     *
+     * @return <code>true</code> if any aggregate may have changed.
+     */
+    boolean tableChanged(@NotNull TableModelEvent e) {
+        int first = e.getFirstRow();
+        int last  = e.getLastRow();
+
+        if(empty) return false;
+        if((first == TableModelEvent.HEADER_ROW) || (last == Integer.MAX_VALUE)) {
+            rebuild();
+            return true;
+        }
+
+        switch(e.getType()) {
+            case TableModelEvent.INSERT -> {
+                for(Accumulator a : accumulators) if(a != null) a.insert(first, (last - first + 1));
+            }
+            case TableModelEvent.DELETE -> {
+                for(Accumulator a : accumulators) if(a != null) a.delete(first, (last - first + 1));
+            }
+            default -> {
+                int column = e.getColumn();
+                if(column == TableModelEvent.ALL_COLUMNS) {
+                    for(Accumulator a : accumulators) if(a != null) a.update(first, last);
+                }
+                else if((column >= 0) && (column < accumulators.length) && (accumulators[column] != null)) {
+                    accumulators[column].update(first, last);
+                }
+                else {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void rebuild() {
+        int rowCount = model.getRowCount();
+        for(Accumulator a : accumulators) {
+            if(a != null) {
+                a.clear();
+                a.insert(0, rowCount);
+            }
+        }
+    }
+
+    private static boolean isIntegral(@NotNull Class<?> cls) {
+        return ((cls == int.class) || (cls == long.class) || (cls == short.class) || (cls == byte.class) || (cls == Integer.class) || (cls == Long.class) || (cls == Short.class) || (cls == Byte.class));
+    }
+
+    private abstract class Accumulator {
+        protected final int column;
+        protected       int size = 0;
+
+        protected Accumulator(int column) {
+            this.column = column;
+        }
+
+        public abstract void clear();
+
+        public void delete(int first, int count) {
+            int end = Math.min(size, (first + count));
+            for(int row = first; row < end; row++) remove(row);
+            move((first + count), first, (size - end));
+            size -= (end - first);
+        }
+
+        public void insert(int first, int count) {
+            ensureCapacity(size + count);
+            move(first, (first + count), (size - first));
+            size += count;
+            for(int row = first, end = (first + count); row < end; row++) add(row);
+        }
+
+        public void update(int first, int last) {
+            for(int row = first, end = Math.min((last + 1), size); row < end; row++) {
+                remove(row);
+                add(row);
+            }
+        }
+
+        public abstract @Nullable Object value();
+
+        /**
+         * Reads the row's value from the model into the copy and adds it to the aggregate.
+         */
+        protected abstract void add(int row);
+
+        protected abstract void ensureCapacity(int capacity);
+
+        protected abstract void move(int from, int to, int count);
+
+        /**
+         * Removes the row's value in the copy from the aggregate.
+         */
+        protected abstract void remove(int row);
+    }
+
+    private final class DecimalAccumulator extends Accumulator {
+        private final PGAggregate  aggregate;
+        private       BigDecimal[] values        = new BigDecimal[16];
+        private       BigDecimal   sum           = BigDecimal.ZERO;
+        private       long         count         = 0;
+        private       BigDecimal   min           = null;
+        private       BigDecimal   max           = null;
+        private       boolean      extremesValid = true;
+
+        public DecimalAccumulator(int column, @NotNull PGAggregate aggregate) {
+            super(column);
+            this.aggregate = aggregate;
+        }
+
+        public @Override void clear() {
+            Arrays.fill(values, 0, size, null);
+            size          = 0;
+            sum           = BigDecimal.ZERO;
+            count         = 0;
+            min           = null;
+            max           = null;
+            extremesValid = true;
+        }
+
+        public @Override @Nullable Object value() {
+            return switch(aggregate) {/*@f0*/
+                case Sum     -> sum;
+                case Average -> ((count == 0) ? null : sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128));
+                case Minimum -> ((count == 0) ? null : extremes()[0]);
+                case Maximum -> ((count == 0) ? null : extremes()[1]);
+                default      -> count;
+            };/*@f1*/
+        }
+
+        protected @Override void add(int row) {
+            BigDecimal value = (values[row] = read(row));
+            if(value != null) {
+                count++;
+                sum = sum.add(value);
+                if(extremesValid) {
+                    if((min == null) || (value.compareTo(min) < 0)) min = value;
+                    if((max == null) || (value.compareTo(max) > 0)) max = value;
+                }
+            }
+        }
+
+        protected @Override void ensureCapacity(int capacity) {
+            if(capacity > values.length) values = Arrays.copyOf(values, Math.max(capacity, (values.length + (values.length >> 1))));
+        }
+
+        protected @Override void move(int from, int to, int count) {
+            if(count > 0) System.arraycopy(values, from, values, to, count);
+            if(to < from) Arrays.fill(values, (to + count), (from + count), null);
+        }
+
+        protected @Override void remove(int row) {
+            BigDecimal value = values[row];
+            if(value != null) {
+                sum = ((--count == 0) ? BigDecimal.ZERO : sum.subtract(value));
+                if(extremesValid && ((value.compareTo(min) <= 0) || (value.compareTo(max) >= 0))) extremesValid = false;
+            }
+        }
+
+        private @NotNull BigDecimal @NotNull [] extremes() {
+            if(!extremesValid) {
+                min = null;
+                max = null;
+                for(int i = 0; i < size; i++) {
+                    BigDecimal value = values[i];
+                    if(value != null) {
+                        if((min == null) || (value.compareTo(min) < 0)) min = value;
+                        if((max == null) || (value.compareTo(max) > 0)) max = value;
+                    }
+                }
+                extremesValid = true;
+            }
+            return new BigDecimal[] { min, max };
+        }
+
+        private @Nullable BigDecimal read(int row) {
+            Object value = model.getValueAt(row, column);
+            if((value == null) || (value instanceof BigDecimal)) return (BigDecimal)value;
+            if(value instanceof Number n) return (Double.isFinite(n.doubleValue()) ? BigDecimal.valueOf(n.doubleValue()) : null);
+            // Only their presence matters for the count.
+            return ((aggregate == PGAggregate.Count) ? BigDecimal.ZERO : null);
+        }
+    }
+
+    private final class DistinctAccumulator extends Accumulator {
+        private final Map<Object, int[]> counts = new HashMap<>();
+        private       Object[]           values = new Object[16];
+
+        public DistinctAccumulator(int column) {
+            super(column);
+        }
+
+        public @Override void clear() {
+            counts.clear();
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+        }
+
+        public @Override @NotNull Object value() {
+            return counts.size();
+        }
+
+        protected @Override void add(int row) {
+            Object value = (values[row] = model.getValueAt(row, column));
+            if(value != null) counts.computeIfAbsent(value, k -> new int[1])[0]++;
+        }
+
+        protected @Override void ensureCapacity(int capacity) {
+            if(capacity > values.length) values = Arrays.copyOf(values, Math.max(capacity, (values.length + (values.length >> 1))));
+        }
+
+        protected @Override void move(int from, int to, int count) {
+            if(count > 0) System.arraycopy(values, from, values, to, count);
+            if(to < from) Arrays.fill(values, (to + count), (from + count), null);
+        }
+
+        protected @Override void remove(int row) {
+            Object value = values[row];
+            int[]  count = ((value == null) ? null : counts.get(value));
+            if((count != null) && (--count[0] == 0)) counts.remove(value);
+        }
+    }
+
+    private final class NumericAccumulator extends Accumulator {
+        private final PGAggregate aggregate;
+        private final boolean     primitive;
+        private       double[]    values        = new double[16];
+        private       double      sum           = 0.0;
+        private       double      compensation  = 0.0;
+        private       long        count         = 0;
+        private       double      min           = Double.POSITIVE_INFINITY;
+        private       double      max           = Double.NEGATIVE_INFINITY;
+        private       boolean     extremesValid = true;
+
+        public NumericAccumulator(int column, @NotNull PGAggregate aggregate) {
+            super(column);
+            this.aggregate = aggregate;
+            this.primitive = model.isPrimitiveColumn(column);
+        }
+
+        public @Override void clear() {
+            size          = 0;
+            sum           = 0.0;
+            compensation  = 0.0;
+            count         = 0;
+            min           = Double.POSITIVE_INFINITY;
+            max           = Double.NEGATIVE_INFINITY;
+            extremesValid = true;
+        }
+
+        public @Override @Nullable Object value() {
+            return switch(aggregate) {/*@f0*/
+                case Sum     -> sum;
+                case Average -> ((count == 0) ? null : (sum / count));
+                case Minimum -> ((count == 0) ? null : extremes()[0]);
+                case Maximum -> ((count == 0) ? null : extremes()[1]);
+                default      -> count;
+            };/*@f1*/
+        }
+
+        protected @Override void add(int row) {
+            double value = (values[row] = read(row));
+            if(!Double.isNaN(value)) {
+                count++;
+                kahanAdd(value);
+                if(extremesValid) {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+        }
+
+        protected @Override void ensureCapacity(int capacity) {
+            if(capacity > values.length) values = Arrays.copyOf(values, Math.max(capacity, (values.length + (values.length >> 1))));
+        }
+
+        protected @Override void move(int from, int to, int count) {
+            if(count > 0) System.arraycopy(values, from, values, to, count);
+        }
+
+        protected @Override void remove(int row) {
+            double value = values[row];
+            if(!Double.isNaN(value)) {
+                if(--count == 0) {
+                    sum          = 0.0;
+                    compensation = 0.0;
+                }
+                else {
+                    kahanAdd(-value);
+                }
+                if((value <= min) || (value >= max)) extremesValid = false;
+            }
+        }
+
+        private double @NotNull [] extremes() {
+            if(!extremesValid) {
+                min = Double.POSITIVE_INFINITY;
+                max = Double.NEGATIVE_INFINITY;
+                for(int i = 0; i < size; i++) {
+                    double value = values[i];
+                    if(!Double.isNaN(value)) {
+                        min = Math.min(min, value);
+                        max = Math.max(max, value);
+                    }
+                }
+                extremesValid = true;
+            }
+            return new double[] { min, max };
+        }
+
+        private void kahanAdd(double value) {
+            double y = (value - compensation);
+            double t = (sum + y);
+            compensation = ((t - sum) - y);
+            sum          = t;
+        }
+
+        private double read(int row) {
+            if(primitive) return (model.isRowAvailable(row) ? model.getDoubleValueAt(row, column) : Double.NaN);
+
+            Object value = model.getValueAt(row, column);
+            if(value instanceof Number n) return n.doubleValue();
+            if(value == null) return Double.NaN;
+            // Only their presence matters for the count.
+            return ((aggregate == PGAggregate.Count) ? 0.0 : Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.projectgalen.lib.ui.components.table;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: DirtyCells.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import java.awt.*;
+
+/**
+ * Collects the cells of a table that were updated and repaints them together, at most once per frame. Updates to cells that are not showing are dropped
+ * right away; the scroll pane paints those when they are scrolled into view. All the updated cells that are showing are repainted with a single call to
+ * {@link JTable#repaint(Rectangle)} covering all of them, instead of JTable's repaint per event.
+ */
+final class DirtyCells {
+
+    private final JTable table;
+    private final Timer  timer;
+    private       int    maximumRate;
+    private       int    firstRow    = Integer.MAX_VALUE;
+    private       int    lastRow     = -1;
+    private       int    firstColumn = Integer.MAX_VALUE;
+    private       int    lastColumn  = -1;
+
+    /**
+     * @param table       The table.
+     * @param maximumRate The maximum number of repaints per second. Zero repaints the cells of each event right away.
+     */
+    DirtyCells(@NotNull JTable table, int maximumRate) {
+        this.table = table;
+        this.timer = new Timer(0, e -> flush());
+        this.timer.setRepeats(false);
+        setMaximumRate(maximumRate);
+    }
+
+    /**
+     * Adds the cells of an update event.
+     *
+     * @param first  The first model row.
+     * @param last   The last model row.
+     * @param column The model column or {@link TableModelEvent#ALL_COLUMNS}.
+     */
+    void add(int first, int last, int column) {
+        Rectangle visible = table.getVisibleRect();
+        int       rows    = table.getRowCount();
+        if(visible.isEmpty() || (rows == 0)) return;
+
+        int top    = table.rowAtPoint(new Point(visible.x, visible.y));
+        int bottom = table.rowAtPoint(new Point(visible.x, (visible.y + visible.height - 1)));
+        int left   = table.columnAtPoint(new Point(visible.x, visible.y));
+        int right  = table.columnAtPoint(new Point((visible.x + visible.width - 1), visible.y));
+        if((top < 0) || (left < 0)) return;
+        if(bottom < 0) bottom = (rows - 1);
+        if(right < 0) right = (table.getColumnCount() - 1);
+
+        if(column != TableModelEvent.ALL_COLUMNS) {
+            int viewColumn = table.convertColumnIndexToView(column);
+            if((viewColumn < left) || (viewColumn > right)) return;
+            left = right = viewColumn;
+        }
+
+        int minRow = Integer.MAX_VALUE;
+        int maxRow = -1;
+        if((last - first) <= (bottom - top)) {
+            for(int row = first; row <= last; row++) {
+                int viewRow = table.convertRowIndexToView(row);
+                if((viewRow >= top) && (viewRow <= bottom)) {
+                    minRow = Math.min(minRow, viewRow);
+                    maxRow = Math.max(maxRow, viewRow);
+                }
+            }
+        }
+        else {
+            for(int viewRow = top; viewRow <= bottom; viewRow++) {
+                int row = table.convertRowIndexToModel(viewRow);
+                if((row >= first) && (row <= last)) {
+                    minRow = Math.min(minRow, viewRow);
+                    maxRow = viewRow;
+                }
+            }
+        }
+        if(maxRow < 0) return;
+
+        firstRow    = Math.min(firstRow, minRow);
+        lastRow     = Math.max(lastRow, maxRow);
+        firstColumn = Math.min(firstColumn, left);
+        lastColumn  = Math.max(lastColumn, right);
+        if(maximumRate <= 0) flush();
+        else if(!timer.isRunning()) timer.start();
+    }
+
+    void dispose() {
+        timer.stop();
+    }
+
+    /**
+     * Repaints the collected cells now.
+     */
+    void flush() {
+        timer.stop();
+        if(lastRow >= 0) {
+            Rectangle dirty = table.getCellRect(firstRow, firstColumn, true).union(table.getCellRect(lastRow, lastColumn, true));
+            firstRow    = Integer.MAX_VALUE;
+            lastRow     = -1;
+            firstColumn = Integer.MAX_VALUE;
+            lastColumn  = -1;
+            table.repaint(dirty);
+        }
+    }
+
+    int getMaximumRate() {
+        return maximumRate;
+    }
+
+    void setMaximumRate(int maximumRate) {
+        this.maximumRate = maximumRate;
+        timer.setInitialDelay(1000 / Math.max(1, maximumRate));
+    }
+}
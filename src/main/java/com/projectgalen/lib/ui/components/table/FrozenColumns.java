@@ -0,0 +1,234 @@
+package com.projectgalen.lib.ui.components.table;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: FrozenColumns.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.event.*;
+import javax.swing.table.DefaultTableColumnModel;
+import javax.swing.table.TableColumnModel;
+import javax.swing.table.TableModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Pins the leading columns of a {@link PGJTable} by moving them to a companion table shown in the scroll pane's row header. The companion shares the table
+ * model and the row selection model of the main table and takes its rows, their order, and their heights from the main table, so the pinned cells are only
+ * looked up and rendered by the companion and the two tables always show the same rows. The scroll pane keeps the row header scrolled with the viewport.
+ */
+final class FrozenColumns {
+
+    private final JScrollPane              scrollPane;
+    private final JTable                   table;
+    private final JTable                   frozen;
+    private final PropertyChangeListener   propertyListener     = this::onPropertyChanged;
+    private final TableModelListener       modelListener        = this::onTableModelChanged;
+    private final RowSorterListener        sorterListener       = e -> repaintFrozen();
+    private final ListSelectionListener    tableColumnListener  = this::onTableColumnsSelected;
+    private final ListSelectionListener    frozenColumnListener = this::onFrozenColumnsSelected;
+    private final TableColumnModelListener widthListener        = new ColumnWidthListener();
+    private final MouseAdapter             headerListener       = new HeaderListener();
+    private       int                      count                = 0;
+
+    /**
+     * @param scrollPane The scroll pane showing the main table.
+     * @param table      The main table.
+     * @param frozen     The companion table. It must map its rows through the main table and leave updating the shared selection model to it.
+     */
+    FrozenColumns(@NotNull JScrollPane scrollPane, @NotNull JTable table, @NotNull JTable frozen) {
+        this.scrollPane = scrollPane;
+        this.table      = table;
+        this.frozen     = frozen;
+
+        frozen.setAutoCreateColumnsFromModel(false);
+        frozen.setColumnModel(new DefaultTableColumnModel());
+        frozen.setSelectionModel(table.getSelectionModel());
+        frozen.setFocusable(false);
+        frozen.getTableHeader().setReorderingAllowed(false);
+        copyProperties();
+
+        table.addPropertyChangeListener(propertyListener);
+        table.getTableHeader().addPropertyChangeListener(propertyListener);
+        table.getModel().addTableModelListener(modelListener);
+        table.getColumnModel().getSelectionModel().addListSelectionListener(tableColumnListener);
+        frozen.getColumnModel().getSelectionModel().addListSelectionListener(frozenColumnListener);
+        frozen.getColumnModel().addColumnModelListener(widthListener);
+        frozen.getTableHeader().addMouseListener(headerListener);
+        ofNullable(table.getRowSorter()).ifPresent(s -> s.addRowSorterListener(sorterListener));
+
+        scrollPane.setRowHeaderView(frozen);
+        scrollPane.setCorner(ScrollPaneConstants.UPPER_LEADING_CORNER, frozen.getTableHeader());
+    }
+
+    /**
+     * Moves the pinned columns back to the main table and removes the companion from the scroll pane.
+     */
+    void dispose() {
+        unfreeze();
+        table.removePropertyChangeListener(propertyListener);
+        table.getTableHeader().removePropertyChangeListener(propertyListener);
+        table.getModel().removeTableModelListener(modelListener);
+        table.getColumnModel().getSelectionModel().removeListSelectionListener(tableColumnListener);
+        ofNullable(table.getRowSorter()).ifPresent(s -> s.removeRowSorterListener(sorterListener));
+        scrollPane.setRowHeader(null);
+        scrollPane.setCorner(ScrollPaneConstants.UPPER_LEADING_CORNER, null);
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    void setCount(int count) {
+        unfreeze();
+        this.count = count;
+        freeze();
+    }
+
+    private void copyProperties() {
+        frozen.setFont(table.getFont());
+        frozen.setRowHeight(table.getRowHeight());
+        frozen.setRowMargin(table.getRowMargin());
+        frozen.setGridColor(table.getGridColor());
+        frozen.setShowHorizontalLines(table.getShowHorizontalLines());
+        frozen.setShowVerticalLines(table.getShowVerticalLines());
+        frozen.setSelectionBackground(table.getSelectionBackground());
+        frozen.setSelectionForeground(table.getSelectionForeground());
+        frozen.setCellSelectionEnabled(table.getCellSelectionEnabled());
+        frozen.setRowSelectionAllowed(table.getRowSelectionAllowed());
+        frozen.setColumnSelectionAllowed(table.getColumnSelectionAllowed());
+        frozen.getTableHeader().setFont(table.getTableHeader().getFont());
+        frozen.getTableHeader().setPreferredSize(new Dimension(1, table.getTableHeader().getPreferredSize().height));
+    }
+
+    private void discardFrozen() {
+        TableColumnModel cm = frozen.getColumnModel();
+        while(cm.getColumnCount() > 0) cm.removeColumn(cm.getColumn(0));
+    }
+
+    private void freeze() {
+        TableColumnModel from = table.getColumnModel();
+        TableColumnModel to   = frozen.getColumnModel();
+        for(int i = 0, j = Math.min(count, (from.getColumnCount() - 1)); i < j; i++) {
+            to.addColumn(from.getColumn(0));
+            from.removeColumn(from.getColumn(0));
+        }
+        updateWidth();
+    }
+
+    private void onFrozenColumnsSelected(@NotNull ListSelectionEvent e) {
+        // Only one of the tables can have selected columns, otherwise selecting a cell in one would leave cells selected in the other.
+        if(!frozen.getColumnModel().getSelectionModel().isSelectionEmpty()) table.getColumnModel().getSelectionModel().clearSelection();
+    }
+
+    private void onPropertyChanged(@NotNull PropertyChangeEvent e) {
+        switch(e.getPropertyName()) {
+            case "model" -> {
+                ((TableModel)e.getOldValue()).removeTableModelListener(modelListener);
+                ((TableModel)e.getNewValue()).addTableModelListener(modelListener);
+                frozen.setModel((TableModel)e.getNewValue());
+                // The main table has already created new columns for the new model.
+                discardFrozen();
+                freeze();
+            }
+            case "rowSorter" -> {
+                ofNullable((RowSorter<?>)e.getOldValue()).ifPresent(s -> s.removeRowSorterListener(sorterListener));
+                ofNullable((RowSorter<?>)e.getNewValue()).ifPresent(s -> s.addRowSorterListener(sorterListener));
+                repaintFrozen();
+            }
+            case "columnModel" -> {
+                ((TableColumnModel)e.getOldValue()).getSelectionModel().removeListSelectionListener(tableColumnListener);
+                ((TableColumnModel)e.getNewValue()).getSelectionModel().addListSelectionListener(tableColumnListener);
+            }
+            case "selectionModel" -> frozen.setSelectionModel(table.getSelectionModel());
+            case "font", "rowHeight", "rowMargin", "gridColor", "showHorizontalLines", "showVerticalLines", "selectionBackground", "selectionForeground",
+                 "cellSelectionEnabled", "rowSelectionAllowed", "columnSelectionAllowed", "preferredSize" -> copyProperties();
+            default -> { }
+        }
+    }
+
+    private void onTableModelChanged(@NotNull TableModelEvent e) {
+        if(e.getFirstRow() == TableModelEvent.HEADER_ROW) {
+            // The main table recreates all of its columns after this listener has run.
+            discardFrozen();
+            SwingUtilities.invokeLater(this::freeze);
+        }
+    }
+
+    private void onTableColumnsSelected(@NotNull ListSelectionEvent e) {
+        if(!table.getColumnModel().getSelectionModel().isSelectionEmpty()) frozen.getColumnModel().getSelectionModel().clearSelection();
+    }
+
+    private void repaintFrozen() {
+        frozen.revalidate();
+        frozen.repaint();
+    }
+
+    private void unfreeze() {
+        TableColumnModel from = frozen.getColumnModel();
+        TableColumnModel to   = table.getColumnModel();
+        for(int i = (from.getColumnCount() - 1); i >= 0; i--) {
+            to.addColumn(from.getColumn(i));
+            to.moveColumn((to.getColumnCount() - 1), 0);
+            from.removeColumn(from.getColumn(i));
+        }
+        updateWidth();
+    }
+
+    private void updateWidth() {
+        frozen.setPreferredScrollableViewportSize(new Dimension(frozen.getColumnModel().getTotalColumnWidth(), 0));
+        scrollPane.revalidate();
+        scrollPane.repaint();
+    }
+
+    private final class ColumnWidthListener implements TableColumnModelListener {
+        public @Override void columnAdded(TableColumnModelEvent e) { }
+
+        public @Override void columnMarginChanged(ChangeEvent e) {
+            updateWidth();
+        }
+
+        public @Override void columnMoved(TableColumnModelEvent e) { }
+
+        public @Override void columnRemoved(TableColumnModelEvent e) { }
+
+        public @Override void columnSelectionChanged(ListSelectionEvent e) { }
+    }
+
+    /**
+     * The companion has no row sorter of its own, so clicks on its header sort the main table's rows.
+     */
+    private final class HeaderListener extends MouseAdapter {
+        public @Override void mouseClicked(MouseEvent e) {
+            RowSorter<?> sorter = table.getRowSorter();
+            if((sorter == null) || !SwingUtilities.isLeftMouseButton(e) || (e.getClickCount() != 1)) return;
+            int column = frozen.getTableHeader().columnAtPoint(e.getPoint());
+            if(column >= 0) sorter.toggleSortOrder(frozen.convertColumnIndexToModel(column));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.projectgalen.lib.ui.base.NonGUIEditorCustomComponent;
 import com.projectgalen.lib.ui.components.table.PGJTable.DummyRowModel.DummyDataSupplier;
 import com.projectgalen.lib.ui.components.table.PGJTable.DummyRowModel.DummyDataSupplier.DummyData;
 import com.projectgalen.lib.ui.components.table.misc.*;
+import com.projectgalen.lib.ui.events.TableCellModelEvent;
 import com.projectgalen.lib.ui.interfaces.PGDataSupplier;
 import com.projectgalen.lib.utils.EventListeners;
 import org.jetbrains.annotations.Contract;
@@ -15,7 +16,11 @@ import org.jetbrains.annotations.Range;
 import javax.swing.*;
 import javax.swing.border.Border;
 import javax.swing.event.AncestorListener;
+import javax.swing.event.ChangeEvent;
 import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
 import javax.swing.table.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -23,13 +28,18 @@ import java.beans.PropertyChangeListener;
 import java.beans.VetoableChangeListener;
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.projectgalen.lib.ui.M.msgs;
+import static com.projectgalen.lib.ui.M.props;
 import static com.projectgalen.lib.ui.components.table.VSizePolicy.None;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.Objects.requireNonNullElseGet;
@@ -44,19 +54,30 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
     private static final String   UIKEY_TABLE_FONT                 = "Table.font";
     private static final String   UIKEY_TABLE_SELECTION_BACKGROUND = "Table[Enabled+Selected].textBackground";
     private static final String   UIKEY_TABLE_SELECTION_FOREGROUND = "Table[Enabled+Selected].textForeground";
-
-    private final PGJTableImpl<T>  table;
-    private final EventListeners   listeners             = new EventListeners();
-    private       PGJTableModel<T> tableModel;
-    private       boolean          hideHeader;
-    private       int              aRowHeight;
-    private       int              aHeaderRowHeight;
-    private       int              maximumVisibleRows    = Integer.MAX_VALUE;
-    private       double[]         columnSizePercentages = null;
-    private       VSizePolicy      verticalSizePolicy    = None;
-    private       Font             cellFont;
-    private       Font             headerFont;
-    private final JTableProxy      tableProxy            = new JTableProxy();
+    private static final int      DEFAULT_SELECTION_EVENT_DELAY    = props.getInt("table.selection.event.delay");
+    private static final int      DEFAULT_MAXIMUM_REFRESH_RATE     = props.getInt("table.repaint.max.rate");
+    private static final int      DEFAULT_FLASH_DURATION           = props.getInt("table.flash.duration");
+
+    private final PGJTableImpl<T>    table;
+    private final EventListeners     listeners             = new EventListeners();
+    private       PGJTableModel<T>   tableModel;
+    private       boolean            hideHeader;
+    private       int                aRowHeight;
+    private       int                aHeaderRowHeight;
+    private       int                maximumVisibleRows    = Integer.MAX_VALUE;
+    private       double[]           columnSizePercentages = null;
+    private       VSizePolicy        verticalSizePolicy    = None;
+    private       Font               cellFont;
+    private       Font               headerFont;
+    private final JTableProxy        tableProxy            = new JTableProxy();
+    private final TableModelListener modelListener         = this::onTableModelChanged;
+    private       boolean            resizePending         = false;
+    private       boolean            autoCreateRowSorter   = false;
+    private       boolean            autoScrollToTail      = false;
+    private       boolean            scrollPending         = false;
+    private       AggregateFooter    aggregateFooter       = null;
+    private       FrozenColumns      frozenColumns         = null;
+    private final Timer              selectionTimer        = new Timer(DEFAULT_SELECTION_EVENT_DELAY, e -> fireSelectionEvent());
 
     public PGJTable() {
         this(new PGJTableModel<>(new DummyRowModel<>(), new DummyDataSupplier<>()), null, null, 0, null, null, false);
@@ -125,6 +146,7 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         super();
 
         this.tableModel = model;
+        this.selectionTimer.setRepeats(false);
         this.table      = new PGJTableImpl<>(this.tableModel);
 
         setDoubleBuffered(true);
@@ -139,7 +161,7 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         setCellFont(requireNonNullElseGet(font, this::getCurrentFont));
         setSelectionMode(requireNonNullElseGet(selectionMode, this::getSelectionMode));
         ofNullable(getSelectionModel()).ifPresent(m -> m.addListSelectionListener(this::onSelected));
-        ofNullable(getModel()).ifPresent(m -> m.addTableModelListener(e -> resizeTable()));
+        ofNullable(getModel()).ifPresent(m -> m.addTableModelListener(modelListener));
 
         invokeLater(() -> {
             ofNullable(getColumnHeader()).ifPresent(header -> header.setVisible(!this.hideHeader));
@@ -156,6 +178,14 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         ofNullable(listeners).ifPresent(l -> l.add(PGJTableSelectionListener.class, listener));
     }
 
+    public void batch(@NotNull Runnable runnable) {
+        ofNullable(getModel()).ifPresentOrElse(model -> model.batch(runnable), runnable);
+    }
+
+    public void beginUpdate() {
+        ofNullable(getModel()).ifPresent(PGJTableModel::beginUpdate);
+    }
+
     public void changeSelection(int rowIndex, int columnIndex, boolean toggle, boolean extend) {
         ofNullable(getTable()).ifPresent(table -> table.changeSelection(rowIndex, columnIndex, toggle, extend));
     }
@@ -164,6 +194,18 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         ofNullable(getTable()).ifPresent(JTable::clearSelection);
     }
 
+    public int convertRowIndexToModel(int viewRowIndex) {
+        return ofNullable(getTable()).map(table -> table.convertRowIndexToModel(viewRowIndex)).orElse(viewRowIndex);
+    }
+
+    public int convertRowIndexToView(int modelRowIndex) {
+        return ofNullable(getTable()).map(table -> table.convertRowIndexToView(modelRowIndex)).orElse(modelRowIndex);
+    }
+
+    public void endUpdate() {
+        ofNullable(getModel()).ifPresent(PGJTableModel::endUpdate);
+    }
+
     public void fireTableCellUpdated(int rowIndex, int columnIndex) {
         ofNullable(getModel()).ifPresent(model -> model.fireTableCellUpdated(rowIndex, columnIndex));
     }
@@ -197,6 +239,21 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         });
     }
 
+    /**
+     * Returns the value of the aggregate the row model declares for the column, or <code>null</code> if it has none or the aggregate footer is not visible.
+     *
+     * @param columnIndex The model column index.
+     *
+     * @return The aggregate's value.
+     */
+    public @Nullable Object getAggregateValue(int columnIndex) {
+        return ofNullable(aggregateFooter).map(f -> f.getValue(columnIndex)).orElse(null);
+    }
+
+    public boolean getAutoCreateRowSorter() {
+        return autoCreateRowSorter;
+    }
+
     public int getAutoResizeMode() {
         return ofNullable(getTable()).map(JTable::getAutoResizeMode).orElse(0);
     }
@@ -221,6 +278,10 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         return ofNullable(getTable()).map(JTable::getCellSelectionEnabled).orElse(false);
     }
 
+    public int getChangeFlashDuration() {
+        return ofNullable(getTable()).map(PGJTableImpl::getChangeFlashDuration).orElse(DEFAULT_FLASH_DURATION);
+    }
+
     public TableColumn getColumn(int columnIndex) {
         return ofNullable(getColumnModel()).map(m -> m.getColumn(columnIndex)).orElse(null);
     }
@@ -286,10 +347,30 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         return cellFont;
     }
 
+    /**
+     * Returns the number of leading columns pinned to the left of the table by {@link #setFrozenColumnCount(int)}.
+     *
+     * @return The number of frozen columns.
+     */
+    public int getFrozenColumnCount() {
+        return ofNullable(frozenColumns).map(FrozenColumns::getCount).orElse(0);
+    }
+
     public Color getGridColor() {
         return ofNullable(getTable()).map(JTable::getGridColor).orElse(Color.WHITE);
     }
 
+    public @Override Insets getInsets() {
+        Insets insets = super.getInsets();
+        // Leave room under the viewport for the aggregate footer. See AggregateFooter.Layout.
+        if((aggregateFooter == null) || !aggregateFooter.isVisible()) return insets;
+        return new Insets(insets.top, insets.left, (insets.bottom + aggregateFooter.getPreferredSize().height), insets.right);
+    }
+
+    public int getMaximumRefreshRate() {
+        return ofNullable(getTable()).map(PGJTableImpl::getMaximumRefreshRate).orElse(DEFAULT_MAXIMUM_REFRESH_RATE);
+    }
+
     public final @Range(from = 1, to = Integer.MAX_VALUE) int getMaximumVisibleRows() {
         return maximumVisibleRows;
     }
@@ -358,8 +439,18 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         return ofNullable(getTable()).map(JTable::getSelectedColumns).orElse(UI.EMPTY_INT_ARRAY);
     }
 
+    public @NotNull PGSelectionRanges getSelectedColumnRanges() {
+        return ofNullable(getColumnModel()).map(TableColumnModel::getSelectionModel).map(PGSelectionRanges::of).orElse(PGSelectionRanges.EMPTY);
+    }
+
+    /**
+     * Returns the selected items as a read-only list view. The items are looked up when they are asked for so selecting every row of a large table does not
+     * build a large list.
+     *
+     * @return The selected items.
+     */
     public List<T> getSelectedItems() {
-        return ofNullable(getDataSupplier()).map(dataSupplier -> IntStream.of(getSelectedRows()).mapToObj(dataSupplier::get).toList()).orElseGet(Collections::emptyList);
+        return ofNullable(getDataSupplier()).map(dataSupplier -> getSelectedRowRanges().asList(this::getItemAtViewRow)).orElseGet(Collections::emptyList);
     }
 
     public int getSelectedRow() {
@@ -367,11 +458,19 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
     }
 
     public int getSelectedRowCount() {
-        return ofNullable(getTable()).map(JTable::getSelectedRowCount).orElse(0);
+        return ofNullable(getSelectionModel()).map(ListSelectionModel::getSelectedItemsCount).orElse(0);
+    }
+
+    public @NotNull PGSelectionRanges getSelectedRowRanges() {
+        return ofNullable(getSelectionModel()).map(PGSelectionRanges::of).orElse(PGSelectionRanges.EMPTY);
     }
 
     public int[] getSelectedRows() {
-        return ofNullable(getTable()).map(JTable::getSelectedRows).orElse(UI.EMPTY_INT_ARRAY);
+        return getSelectedRowRanges().toArray();
+    }
+
+    public String getPlaceholderText() {
+        return ofNullable(getTable()).map(PGJTableImpl::getPlaceholderText).orElse("");
     }
 
     public Color getSelectionBackground() {
@@ -382,6 +481,10 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         return ofNullable(getTable()).map(JTable::getSelectionForeground).orElse(requireNonNullElse(UIManager.getColor(UIKEY_TABLE_SELECTION_FOREGROUND), Color.WHITE));
     }
 
+    public int getSelectionEventDelay() {
+        return selectionTimer.getInitialDelay();
+    }
+
     public SelectionMode getSelectionMode() {
         return ofNullable(getSelectionModel()).map(m -> SelectionMode.valueOf(m.getSelectionMode())).orElse(SelectionMode.Single);
     }
@@ -418,6 +521,29 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         return requireNonNullElse(verticalSizePolicy, None);
     }
 
+    /**
+     * Invert the selection of every row. This is only supported when the selection mode is {@link SelectionMode#MultiInterval}.
+     */
+    public void invertSelection() {
+        ofNullable(getSelectionModel()).ifPresent(sm -> {
+            int last = (getRowCount() - 1);
+            if((last < 0) || (sm.getSelectionMode() != ListSelectionModel.MULTIPLE_INTERVAL_SELECTION)) return;
+            if(sm instanceof PGRangeSelectionModel m) m.invertSelection(0, last);
+            else for(int i = 0; i <= last; i++) {
+                if(sm.isSelectedIndex(i)) sm.removeSelectionInterval(i, i);
+                else sm.addSelectionInterval(i, i);
+            }
+        });
+    }
+
+    public boolean isAggregateFooterVisible() {
+        return (aggregateFooter != null);
+    }
+
+    public boolean isAutoRowHeight() {
+        return ofNullable(getTable()).map(PGJTableImpl::isAutoRowHeight).orElse(false);
+    }
+
     public boolean isCellEditable(int row, int column) {
         return ofNullable(getTable()).map(table -> table.isCellEditable(row, column)).orElse(false);
     }
@@ -426,6 +552,10 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         return ofNullable(getTable()).map(table -> table.isCellSelected(row, column)).orElse(false);
     }
 
+    public boolean isChangeFlashEnabled() {
+        return ofNullable(getTable()).map(PGJTableImpl::isChangeFlashEnabled).orElse(false);
+    }
+
     public boolean isColumnSelected(int column) {
         return ofNullable(getTable()).map(table -> table.isColumnSelected(column)).orElse(false);
     }
@@ -434,6 +564,10 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         return ofNullable(getTable()).map(JTable::isEditing).orElse(false);
     }
 
+    public boolean isAutoScrollToTail() {
+        return autoScrollToTail;
+    }
+
     public boolean isHideHeader() {
         return hideHeader;
     }
@@ -466,10 +600,67 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         ofNullable(getTable()).ifPresent(JTable::selectAll);
     }
 
+    /**
+     * Show or hide a footer under the viewport with the aggregates the row model declares with {@link PGJTableRowModel#getColumnAggregate(int)}. While the
+     * footer is visible the aggregates are kept up to date from the table model's events.
+     *
+     * @param visible <code>true</code> to show the footer.
+     */
+    public void setAggregateFooterVisible(boolean visible) {
+        if(visible != isAggregateFooterVisible()) {
+            if(visible) {
+                aggregateFooter = new AggregateFooter(this);
+                setLayout(new AggregateFooter.Layout(aggregateFooter));
+                add(aggregateFooter);
+            }
+            else {
+                aggregateFooter.dispose();
+                remove(aggregateFooter);
+                aggregateFooter = null;
+                setLayout(new ScrollPaneLayout.UIResource());
+            }
+            revalidate();
+            repaint();
+        }
+    }
+
+    /**
+     * When <code>true</code> a {@link PGJTableRowSorter} is installed for the current model, and for any model set later, so that clicking a column header sorts
+     * the table in the background.
+     *
+     * @param autoCreateRowSorter <code>true</code> to sort the table by clicking the column headers.
+     */
+    public void setAutoCreateRowSorter(boolean autoCreateRowSorter) {
+        this.autoCreateRowSorter = autoCreateRowSorter;
+        setRowSorter(autoCreateRowSorter ? new PGJTableRowSorter<>(tableModel) : null);
+    }
+
     public void setAutoResizeMode(int mode) {
         ofNullable(getTable()).ifPresent(table -> table.setAutoResizeMode(mode));
     }
 
+    /**
+     * When <code>true</code> each row is as tall as its tallest cell, so renderers that wrap text, like a {@link JTextArea}, show all of their lines. Only the
+     * rows near the viewport are measured, and measured again when they are updated or the columns are resized; the other rows get an estimated height. The
+     * row height set with {@link #setRowHeight(int)} becomes the minimum height and {@link #setRowHeight(int, int)} is ignored.
+     *
+     * @param autoRowHeight <code>true</code> to fit the rows to their contents.
+     */
+    public void setAutoRowHeight(boolean autoRowHeight) {
+        ofNullable(getTable()).ifPresent(table -> table.setAutoRowHeight(autoRowHeight));
+        resizeTable();
+    }
+
+    /**
+     * When <code>true</code> the table scrolls to its last row whenever rows are inserted while the last row is showing. Scrolling up stops following the tail
+     * until the user scrolls back down. Meant for tables fed by a {@link PGStreamingDataSupplier}.
+     *
+     * @param autoScrollToTail <code>true</code> to follow the tail of the table.
+     */
+    public void setAutoScrollToTail(boolean autoScrollToTail) {
+        this.autoScrollToTail = autoScrollToTail;
+    }
+
     public void setCellEditor(int columnIndex, @NotNull TableCellEditor editor) {
         ofNullable(getColumn(columnIndex)).ifPresent(column -> column.setCellEditor(editor));
     }
@@ -486,6 +677,26 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         ofNullable(getTable()).ifPresent(table -> table.setCellSelectionEnabled(cellSelectionEnabled));
     }
 
+    /**
+     * Set how long, in milliseconds, a cell flashes after its value changed.
+     *
+     * @param duration The duration in milliseconds.
+     */
+    public void setChangeFlashDuration(@Range(from = 1, to = Integer.MAX_VALUE) int duration) {
+        ofNullable(getTable()).ifPresent(table -> table.setChangeFlashDuration(duration));
+    }
+
+    /**
+     * When <code>true</code> a cell's background briefly flashes when the row model reports that its value changed with a {@link TableCellModelEvent}: green if
+     * the value went up, red if it went down, and amber if it changed but is not a number. The flash fades out over {@link #getChangeFlashDuration()}
+     * milliseconds. All the flashing cells are animated by one timer, which stops when no cell is flashing.
+     *
+     * @param enabled <code>true</code> to flash changed cells.
+     */
+    public void setChangeFlashEnabled(boolean enabled) {
+        ofNullable(getTable()).ifPresent(table -> table.setChangeFlashEnabled(enabled));
+    }
+
     public void setColumnModel(@NotNull TableColumnModel columnModel) {
         ofNullable(getTable()).ifPresent(table -> table.setColumnModel(columnModel));
     }
@@ -511,7 +722,25 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         setDataSupplier(new PGListDataSupplier<>(aList, copy));
     }
 
-    public void setDataSupplier(PGListDataSupplier<T> dataModel) {
+    /**
+     * Replace the data with the items of the given list, firing only the row events needed to get from the current items to the new ones. The selection stays
+     * on the rows with the same keys, including rows that moved. See {@link PGJTableModel#setData(List, Function)}.
+     *
+     * @param aList        The new items. The list is copied.
+     * @param keyExtractor Returns the key that identifies an item.
+     *
+     * @return A future that completes on the event dispatch thread once the new data is in place.
+     */
+    public @NotNull CompletableFuture<Void> setData(@NotNull List<T> aList, @NotNull Function<? super T, ?> keyExtractor) {
+        Set<Object> selectedKeys = new HashSet<>();
+        int         lead         = ofNullable(getSelectionModel()).map(ListSelectionModel::getLeadSelectionIndex).orElse(-1);
+        Object      leadKey      = (((lead >= 0) && (lead < getRowCount()) && isRowSelected(lead)) ? keyExtractor.apply(getItemAtViewRow(lead)) : null);
+
+        getSelectedItems().forEach(item -> selectedKeys.add(keyExtractor.apply(item)));
+        return tableModel.setData(aList, keyExtractor).thenRun(() -> restoreSelection(selectedKeys, leadKey, keyExtractor));
+    }
+
+    public void setDataSupplier(@NotNull PGDataSupplier<T> dataModel) {
         ofNullable(getModel()).ifPresent(model -> model.setDataSupplier(dataModel));
         resizeTable();
     }
@@ -541,6 +770,27 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         resizeTable();
     }
 
+    /**
+     * Pins the given number of leading columns to the left of the table so they stay visible when the table is scrolled horizontally. The pinned columns are
+     * shown by a second table in the row header that shares this table's model, selection, row sorter, and row heights. The last column is never pinned.
+     *
+     * @param count The number of columns to pin or zero to unpin them.
+     */
+    public void setFrozenColumnCount(@Range(from = 0, to = Integer.MAX_VALUE) int count) {
+        if((count > 0) && (frozenColumns == null)) {
+            table.companion = new PGJTableImpl<>(tableModel, table);
+            frozenColumns   = new FrozenColumns(this, table, table.companion);
+        }
+        if(frozenColumns != null) {
+            if(count > 0) frozenColumns.setCount(count);
+            else {
+                frozenColumns.dispose();
+                frozenColumns   = null;
+                table.companion = null;
+            }
+        }
+    }
+
     public void setGridColor(@NotNull Color gridColor) {
         ofNullable(getTable()).ifPresent(table -> table.setGridColor(gridColor));
     }
@@ -551,14 +801,36 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         revalidate();
     }
 
+    /**
+     * Set how many times per second, at most, the table repaints cells that were updated. Updates are collected until the next repaint, updates to cells that
+     * are not showing are dropped, and the updated cells are repainted all at once, which keeps tables with thousands of updates per second from flooding the
+     * event dispatch thread with repaints.
+     *
+     * @param maximumRefreshRate The maximum number of repaints per second, or zero to repaint the cells of each update right away.
+     */
+    public void setMaximumRefreshRate(@Range(from = 0, to = Integer.MAX_VALUE) int maximumRefreshRate) {
+        ofNullable(getTable()).ifPresent(table -> table.setMaximumRefreshRate(maximumRefreshRate));
+    }
+
     public void setMaximumVisibleRows(@Range(from = 1, to = Integer.MAX_VALUE) int rows) {
         maximumVisibleRows = rows;
         resizeTable();
     }
 
     public void setModel(@NotNull PGJTableModel<T> model) {
+        ofNullable(this.tableModel).ifPresent(m -> m.removeTableModelListener(modelListener));
         this.tableModel = model;
+        this.tableModel.addTableModelListener(modelListener);
         ofNullable(getTable()).ifPresent(t -> t.setModel(model));
+        ofNullable(aggregateFooter).ifPresent(f -> f.setModel(model));
+        if(autoCreateRowSorter) setRowSorter(new PGJTableRowSorter<>(model));
+    }
+
+    public void setPlaceholderText(@NotNull String placeholderText) {
+        ofNullable(getTable()).ifPresent(table -> {
+            table.setPlaceholderText(placeholderText);
+            table.repaint();
+        });
     }
 
     public void setPreferredScrollableViewportSize(Dimension size) {
@@ -615,6 +887,16 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         ofNullable(getTable()).ifPresent(table -> table.setSelectionForeground(selectionForeground));
     }
 
+    /**
+     * Set how long, in milliseconds, the selection has to stay unchanged before the {@link PGJTableSelectionListener}s are notified. A burst of selection
+     * changes, such as holding down an arrow key, results in a single event.
+     *
+     * @param delay The delay in milliseconds.
+     */
+    public void setSelectionEventDelay(@Range(from = 0, to = Integer.MAX_VALUE) int delay) {
+        selectionTimer.setInitialDelay(Math.max(0, delay));
+    }
+
     public void setSelectionMode(@NotNull SelectionMode mode) {
         ofNullable(getTable()).ifPresent(table -> table.setSelectionMode(mode.getValue()));
     }
@@ -652,6 +934,13 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         ofNullable(getTable()).ifPresent(table -> table.sizeColumnsToFit(resizingColumn));
     }
 
+    private void fireSelectionEvent() {
+        if(getDataSupplier() != null) {
+            PGJTableSelectionEvent event = new PGJTableSelectionEvent(this, getSelectedRowRanges(), getSelectedColumnRanges(), this::getItemAtViewRow);
+            listeners.fireEvent(PGJTableSelectionListener.class, event, PGJTableSelectionListener::onSelection);
+        }
+    }
+
     private @NotNull Font getCurrentFont() {
         return ofNullable(getTable()).map(Component::getFont).orElseGet(PGJTable::getDefaultUIFont);
     }
@@ -660,18 +949,55 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         return ofNullable(getFontMetrics(font)).map(m -> (m.getMaxAscent() + m.getMaxDescent())).orElse(0);
     }
 
+    private T getItemAtViewRow(int row) {
+        return getDataSupplier().get(convertRowIndexToModel(row));
+    }
+
     private @Nullable PGJTableImpl<T> getTable() {
         return table;
     }
 
+    private boolean isShowingTail() {
+        // Called before the table has been resized for the inserted rows, so this tells whether the old last row was showing.
+        return ofNullable(getTable()).map(t -> {
+            Rectangle r = t.getVisibleRect();
+            return ((r.y + r.height) >= (t.getHeight() - t.getRowHeight()));
+        }).orElse(false);
+    }
+
     private void onSelected(@NotNull ListSelectionEvent e) {
-        if(!e.getValueIsAdjusting()) {
-            PGDataSupplier<T>      dataSupplier = getDataSupplier();
-            int[]                  rows         = getSelectedRows();
-            int[]                  cols         = getSelectedColumns();
-            List<T>                items        = IntStream.of(rows).mapToObj(dataSupplier::get).toList();
-            PGJTableSelectionEvent event        = new PGJTableSelectionEvent(this, rows, cols, items);
-            listeners.fireEvent(PGJTableSelectionListener.class, event, PGJTableSelectionListener::onSelection);
+        if(!e.getValueIsAdjusting()) selectionTimer.restart();
+    }
+
+    private void onTableModelChanged(@NotNull TableModelEvent e) {
+        // Cell updates never change the number of rows, so they cannot change the size of the table.
+        if((e.getType() != TableModelEvent.UPDATE) || (e.getFirstRow() < 0) || (e.getLastRow() == Integer.MAX_VALUE)) scheduleResizeTable();
+        if(autoScrollToTail && (e.getType() == TableModelEvent.INSERT) && isShowingTail()) scheduleScrollToTail();
+    }
+
+    private void restoreSelection(@NotNull Set<Object> selectedKeys, @Nullable Object leadKey, @NotNull Function<? super T, ?> keyExtractor) {
+        ListSelectionModel sm = getSelectionModel();
+        if((sm == null) || selectedKeys.isEmpty()) return;
+
+        int leadRow = -1;
+        sm.setValueIsAdjusting(true);
+        try {
+            sm.clearSelection();
+            for(int row = 0, rows = getRowCount(), start = -1; row <= rows; row++) {
+                Object  key      = ((row < rows) ? keyExtractor.apply(getItemAtViewRow(row)) : null);
+                boolean selected = ((row < rows) && selectedKeys.contains(key));
+
+                if(selected && (leadRow < 0) && (leadKey != null) && leadKey.equals(key)) leadRow = row;
+                if(selected && (start < 0)) start = row;
+                else if(!selected && (start >= 0)) {
+                    sm.addSelectionInterval(start, row - 1);
+                    start = -1;
+                }
+            }
+            if(leadRow >= 0) sm.addSelectionInterval(leadRow, leadRow);
+        }
+        finally {
+            sm.setValueIsAdjusting(false);
         }
     }
 
@@ -679,6 +1005,27 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         if(getVerticalSizePolicy() != None) setPreferredScrollableViewportSize(getPreferredScrollableViewportSize());
     }
 
+    private void scheduleResizeTable() {
+        if(!resizePending) {
+            resizePending = true;
+            invokeLater(() -> {
+                resizePending = false;
+                resizeTable();
+            });
+        }
+    }
+
+    private void scheduleScrollToTail() {
+        if(!scrollPending) {
+            scrollPending = true;
+            invokeLater(() -> {
+                scrollPending = false;
+                validate();
+                ofNullable(getTable()).filter(t -> (t.getRowCount() > 0)).ifPresent(t -> t.scrollRectToVisible(t.getCellRect(t.getRowCount() - 1, 0, true)));
+            });
+        }
+    }
+
     private void setCellFont(@NotNull Font font) {
         super.setFont(cellFont = font);
         ofNullable(getTable()).ifPresent(table -> {
@@ -946,22 +1293,115 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
 
         public static final Border EMPTY_BORDER = BorderFactory.createEmptyBorder(1, 1, 1, 1);
 
+        private final PGJTableImpl<T> linkedTable;
+        private final DirtyCells      dirtyCells;
+        private       String          placeholderText = msgs.getString("txt.table.row_placeholder");
+        private       RowHeightCache  rowHeights      = null;
+        private       PGJTableImpl<T> companion       = null;
+        private       CellFlashes     flashes         = null;
+        private       int             flashDuration   = DEFAULT_FLASH_DURATION;
+
         public PGJTableImpl(@Nullable PGJTableModel<T> tableModel) {
+            this(tableModel, null);
+        }
+
+        /**
+         * @param tableModel  The table model.
+         * @param linkedTable If not <code>null</code>, this table shows some of the columns of the linked table. It takes its rows, its row order, and its default
+         *                    renderers and editors from the linked table and leaves the shared selection model and the columns to it.
+         */
+        public PGJTableImpl(@Nullable PGJTableModel<T> tableModel, @Nullable PGJTableImpl<T> linkedTable) {
             super(tableModel);
+            this.linkedTable = linkedTable;
+            this.dirtyCells  = new DirtyCells(this, ((linkedTable == null) ? DEFAULT_MAXIMUM_REFRESH_RATE : linkedTable.dirtyCells.getMaximumRate()));
             setDoubleBuffered(true);
             setDefaultRenderer(BigDecimal.class, new CurrencyCellRenderer());
             setDefaultEditor(BigDecimal.class, new CurrencyCellEditor());
+            PrimitiveCellRenderer primitiveCellRenderer = new PrimitiveCellRenderer();
+            Stream.of(int.class, long.class, double.class, boolean.class).forEach(cls -> setDefaultRenderer(cls, primitiveCellRenderer));
             setFillsViewportHeight(true);
             setCellSelectionEnabled(true);
             setColumnSelectionAllowed(true);
             setRowSelectionAllowed(true);
             getTableHeader().setReorderingAllowed(false);
+            addMouseListener(new MouseAdapter() {
+                public @Override void mousePressed(MouseEvent e) {
+                    toggleGroup(e);
+                }
+            });
+        }
+
+        public @Override void columnMarginChanged(ChangeEvent e) {
+            super.columnMarginChanged(e);
+            ofNullable(getRowHeights()).ifPresent(cache -> cache.invalidateAll(false));
+        }
+
+        public @Override int convertRowIndexToModel(int viewRowIndex) {
+            return ((linkedTable == null) ? super.convertRowIndexToModel(viewRowIndex) : linkedTable.convertRowIndexToModel(viewRowIndex));
+        }
+
+        public @Override int convertRowIndexToView(int modelRowIndex) {
+            return ((linkedTable == null) ? super.convertRowIndexToView(modelRowIndex) : linkedTable.convertRowIndexToView(modelRowIndex));
+        }
+
+        public @Override @NotNull Rectangle getCellRect(int row, int column, boolean includeSpacing) {
+            Rectangle rect = super.getCellRect(row, column, includeSpacing);
+            if(linkedTable != null) {
+                // The linked table always keeps at least one column, and its row geometry does not depend on the column.
+                Rectangle linked = linkedTable.getCellRect(row, 0, includeSpacing);
+                rect.y      = linked.y;
+                rect.height = linked.height;
+            }
+            else if((rowHeights != null) && (row >= 0) && (row < getRowCount())) {
+                int height = rowHeights.getRowHeight(row);
+                int margin = (includeSpacing ? 0 : Math.min(getRowMargin(), height));
+                rect.y      = (rowHeights.getRowY(row) + (margin / 2));
+                rect.height = (height - margin);
+            }
+            return rect;
+        }
+
+        public @Override TableCellEditor getDefaultEditor(Class<?> columnClass) {
+            return ((linkedTable == null) ? super.getDefaultEditor(columnClass) : linkedTable.getDefaultEditor(columnClass));
+        }
+
+        public @Override TableCellRenderer getDefaultRenderer(Class<?> columnClass) {
+            return ((linkedTable == null) ? super.getDefaultRenderer(columnClass) : linkedTable.getDefaultRenderer(columnClass));
+        }
+
+        public int getChangeFlashDuration() {
+            return flashDuration;
+        }
+
+        public int getMaximumRefreshRate() {
+            return dirtyCells.getMaximumRate();
         }
 
         @SuppressWarnings("unchecked") public @Override @Nullable PGJTableModel<T> getModel() {
             return (PGJTableModel<T>)super.getModel();
         }
 
+        public String getPlaceholderText() {
+            return placeholderText;
+        }
+
+        public @Override int getRowCount() {
+            return ((linkedTable == null) ? super.getRowCount() : linkedTable.getRowCount());
+        }
+
+        public @Override int getRowHeight(int row) {
+            if(linkedTable != null) return linkedTable.getRowHeight(row);
+            return (((rowHeights != null) && (row >= 0) && (row < getRowCount())) ? rowHeights.getRowHeight(row) : super.getRowHeight(row));
+        }
+
+        public boolean isAutoRowHeight() {
+            return (rowHeights != null);
+        }
+
+        public boolean isChangeFlashEnabled() {
+            return (flashes != null);
+        }
+
         public @Override Component prepareEditor(TableCellEditor editor, int row, int column) {
             Component c = super.prepareEditor(editor, row, column);
             c.setFont(getFont());
@@ -969,25 +1409,198 @@ public class PGJTable<T> extends JScrollPane implements NonGUIEditorCustomCompon
         }
 
         public @NotNull Component prepareRenderer(@NotNull PGJTableModel<T> model, @NotNull Component renderer, int row, int column, boolean isSelected) {
+            int modelRow    = convertRowIndexToModel(row);
+            int modelColumn = convertColumnIndexToModel(column);
             renderer.setBackground(isSelected ? getSelectionBackground() : getBackground());
             renderer.setForeground(isSelected ? getSelectionForeground() : getForeground());
-            if(renderer instanceof JLabel l) l.setHorizontalAlignment(model.getRowModel().getColumnAlignment(column));
+            if(renderer instanceof JLabel l) l.setHorizontalAlignment(model.getRowModel().getColumnAlignment(modelColumn));
             if(renderer instanceof JComponent c) c.setBorder(EMPTY_BORDER);
-            return model.setRowAttributes(renderer, this, row, column, isSelected);
+            if(!model.isRowAvailable(modelRow)) {
+                model.prefetchRow(modelRow);
+                if(renderer instanceof JLabel l) l.setText((column == 0) ? placeholderText : "");
+                return renderer;
+            }
+            model.setRowAttributes(renderer, this, modelRow, modelColumn, isSelected);
+            CellFlashes cellFlashes = getFlashes();
+            if(cellFlashes != null) ofNullable(cellFlashes.getBackground(modelRow, modelColumn, renderer.getBackground())).ifPresent(renderer::setBackground);
+            return renderer;
         }
 
         public @Override Component prepareRenderer(TableCellRenderer renderer, int row, int column) {
             PGJTableModel<T> model = getModel();
-            return ((model != null) ? prepareRenderer(model, super.prepareRenderer(renderer, row, column), row, column, isCellSelected(row, column)) : super.prepareRenderer(renderer, row, column));
+            if(model == null) return super.prepareRenderer(renderer, row, column);
+            if(renderer instanceof PrimitiveCellRenderer r) return prepareRenderer(model, preparePrimitiveRenderer(model, r, row, column), row, column, isCellSelected(row, column));
+            return prepareRenderer(model, super.prepareRenderer(renderer, row, column), row, column, isCellSelected(row, column));
+        }
+
+        public @Override int rowAtPoint(@NotNull Point point) {
+            if(linkedTable != null) return linkedTable.rowAtPoint(point);
+            return ((rowHeights == null) ? super.rowAtPoint(point) : rowHeights.rowAtY(point.y));
+        }
+
+        public void setAutoRowHeight(boolean autoRowHeight) {
+            if(autoRowHeight != isAutoRowHeight()) {
+                if(rowHeights != null) rowHeights.dispose();
+                rowHeights = (autoRowHeight ? new RowHeightCache(this, this::measureRowHeight, this::onRowHeightsChanged) : null);
+                resizeAndRepaint();
+                onRowHeightsChanged();
+            }
+        }
+
+        public void setChangeFlashDuration(int duration) {
+            flashDuration = duration;
+            if(flashes != null) flashes.setDuration(duration);
+        }
+
+        public void setChangeFlashEnabled(boolean enabled) {
+            if(enabled != isChangeFlashEnabled()) {
+                if(enabled) {
+                    flashes = new CellFlashes(this::getFlashTables, flashDuration);
+                    flashes.setModel(getModel());
+                }
+                else {
+                    flashes.dispose();
+                    flashes = null;
+                }
+            }
+        }
+
+        public void setMaximumRefreshRate(int maximumRefreshRate) {
+            dirtyCells.setMaximumRate(maximumRefreshRate);
+            if(companion != null) companion.setMaximumRefreshRate(maximumRefreshRate);
         }
 
         public @Override void setModel(@NotNull TableModel dataModel) {
-            if(dataModel instanceof PGJTableModel<?>) super.setModel(dataModel);
-            else throw new IllegalArgumentException(msgs.getString("msg.err.pgjtableimpl.invalid_instance_of_model"));
+            if(!(dataModel instanceof PGJTableModel<?>)) throw new IllegalArgumentException(msgs.getString("msg.err.pgjtableimpl.invalid_instance_of_model"));
+            super.setModel(dataModel);
+            if(flashes != null) flashes.setModel(getModel());
         }
 
         public void setModel(@NotNull PGJTableModel<T> model) {
             super.setModel(model);
         }
+
+        public void setPlaceholderText(@NotNull String placeholderText) {
+            this.placeholderText = placeholderText;
+        }
+
+        public @Override void setRowHeight(int rowHeight) {
+            super.setRowHeight(rowHeight);
+            if(rowHeights != null) rowHeights.invalidateAll(true);
+            onRowHeightsChanged();
+        }
+
+        public @Override void setRowHeight(int row, int rowHeight) {
+            super.setRowHeight(row, rowHeight);
+            onRowHeightsChanged();
+        }
+
+        public @Override void sorterChanged(RowSorterEvent e) {
+            super.sorterChanged(e);
+            if(rowHeights != null) rowHeights.invalidateOrder();
+        }
+
+        public @Override void tableChanged(TableModelEvent e) {
+            boolean cellsUpdated = ((e.getType() == TableModelEvent.UPDATE) && (e.getFirstRow() >= 0) && (e.getLastRow() != Integer.MAX_VALUE));
+
+            // Called by the JTable constructor before linkedTable and dirtyCells are set.
+            if(dirtyCells == null) {
+                super.tableChanged(e);
+            }
+            else if(linkedTable == null) {
+                if(rowHeights != null) rowHeights.tableChanged(e);
+                if(cellsUpdated) {
+                    // Besides repainting the cells, all JTable does for an update is tell the row sorter.
+                    RowSorter<? extends TableModel> sorter = getRowSorter();
+                    if(sorter != null) {
+                        if(e.getColumn() == TableModelEvent.ALL_COLUMNS) sorter.rowsUpdated(e.getFirstRow(), e.getLastRow());
+                        else sorter.rowsUpdated(e.getFirstRow(), e.getLastRow(), e.getColumn());
+                    }
+                    dirtyCells.add(e.getFirstRow(), e.getLastRow(), e.getColumn());
+                }
+                else {
+                    // Repaint the collected cells where they are now, before the rows move.
+                    dirtyCells.flush();
+                    super.tableChanged(e);
+                    if((rowHeights != null) && (getRowSorter() != null)) rowHeights.invalidateOrder();
+                }
+            }
+            else if(cellsUpdated) {
+                dirtyCells.add(e.getFirstRow(), e.getLastRow(), e.getColumn());
+            }
+            else if(e.getFirstRow() != TableModelEvent.HEADER_ROW) {
+                dirtyCells.flush();
+                resizeAndRepaint();
+            }
+        }
+
+        protected @Override @NotNull ListSelectionModel createDefaultSelectionModel() {
+            return new PGRangeSelectionModel();
+        }
+
+        /**
+         * Returns the cell flashes of this table, or those of the linked table.
+         */
+        private @Nullable CellFlashes getFlashes() {
+            return ((linkedTable == null) ? flashes : linkedTable.flashes);
+        }
+
+        private @NotNull List<JTable> getFlashTables() {
+            return ((companion == null) ? List.of(this) : List.of(this, companion));
+        }
+
+        /**
+         * Returns the row heights of this table in auto-fit mode, or those of the linked table.
+         */
+        private @Nullable RowHeightCache getRowHeights() {
+            return ((linkedTable == null) ? rowHeights : linkedTable.rowHeights);
+        }
+
+        private int measureCells(int row) {
+            int height = 0;
+            for(int column = 0, columns = getColumnCount(); column < columns; column++) {
+                Component c = prepareRenderer(getCellRenderer(row, column), row, column);
+                // Renderers that wrap their text, like a JTextArea, only know their height once they know their width.
+                c.setSize(getColumnModel().getColumn(column).getWidth(), Short.MAX_VALUE);
+                height = Math.max(height, c.getPreferredSize().height);
+            }
+            return (height + getRowMargin());
+        }
+
+        private int measureRowHeight(int row) {
+            int height = measureCells(row);
+            return ((companion == null) ? height : Math.max(height, companion.measureCells(row)));
+        }
+
+        private void onRowHeightsChanged() {
+            if(companion != null) companion.resizeAndRepaint();
+        }
+
+        private @NotNull Component preparePrimitiveRenderer(@NotNull PGJTableModel<T> model, @NotNull PrimitiveCellRenderer renderer, int row, int column) {
+            boolean isSelected = isCellSelected(row, column);
+            boolean hasFocus   = false;
+
+            if(!isPaintingForPrint()) {
+                boolean rowIsLead = (getSelectionModel().getLeadSelectionIndex() == row);
+                boolean colIsLead = (getColumnModel().getSelectionModel().getLeadSelectionIndex() == column);
+                hasFocus = (rowIsLead && colIsLead && isFocusOwner());
+            }
+
+            return renderer.getPrimitiveCellRendererComponent(this, model, isSelected, hasFocus, row, column, convertRowIndexToModel(row), convertColumnIndexToModel(column));
+        }
+
+        /**
+         * Expands or collapses a group when the first column of its header row is clicked while the table shows a {@link PGGroupedDataSupplier}.
+         */
+        private void toggleGroup(@NotNull MouseEvent e) {
+            PGJTableModel<T> model = getModel();
+            if((model == null) || !SwingUtilities.isLeftMouseButton(e) || (e.getClickCount() != 1)) return;
+            if(!(model.getDataSupplier() instanceof PGGroupedDataSupplier<?> supplier)) return;
+            int row    = rowAtPoint(e.getPoint());
+            int column = columnAtPoint(e.getPoint());
+            if((row < 0) || (column < 0) || (convertColumnIndexToModel(column) != 0)) return;
+            int modelRow = convertRowIndexToModel(row);
+            if(supplier.isHeader(modelRow)) supplier.toggle(modelRow);
+        }
     }
 }
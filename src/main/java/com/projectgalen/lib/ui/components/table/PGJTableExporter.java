@@ -0,0 +1,408 @@
+package com.projectgalen.lib.ui.components.table;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGJTableExporter.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.UI;
+import com.projectgalen.lib.ui.components.table.misc.PGJTableModel;
+import com.projectgalen.lib.ui.components.table.misc.PGJTableRowModel;
+import com.projectgalen.lib.ui.components.table.misc.PGJTableRowSorter;
+import com.projectgalen.lib.ui.interfaces.PGDataSupplier;
+import com.projectgalen.lib.ui.progressdialog.ProgressDialog;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import javax.swing.*;
+import javax.swing.table.TableColumnModel;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import static com.projectgalen.lib.ui.M.props;
+import static com.projectgalen.lib.utils.errors.Errors.makeRuntimeException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Streams the contents of a table to a {@link WritableByteChannel} or {@link OutputStream} as CSV, TSV, or JSON. The rows are formatted in chunks on a
+ * {@link ForkJoinPool} and written in order, with only a few chunks in memory at any time, so the heap needed does not depend on the number of rows.
+ * <p>
+ * When created from a {@link PGJTable} the rows are written in the table's current sort order and the columns in their current view order. The order is taken
+ * when the export starts, so the table can be re-sorted while the export runs, but the underlying data should not be changed until it finishes. Rows that are
+ * not available yet (see {@link PGDataSupplier#isAvailable(int)}) are loaded on the exporting threads with the supplier's
+ * {@link PGDataSupplier#reader()}, which leaves the rows cached for the screen alone and fires no events.
+ *
+ * @param <T> The type of the rows.
+ */
+@SuppressWarnings("unused")
+public class PGJTableExporter<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = props.getInt("table.export.chunk.size");
+
+    private final    PGJTableModel<T> model;
+    private final    PGJTable<T>      table;
+    private          Format           format        = Format.CSV;
+    private          Charset          charset       = UTF_8;
+    private          boolean          includeHeader = true;
+    private          int              chunkSize     = DEFAULT_CHUNK_SIZE;
+    private          ForkJoinPool     pool          = ForkJoinPool.commonPool();
+    private volatile boolean          canceled      = false;
+
+    public PGJTableExporter(@NotNull PGJTable<T> table) {
+        this.model = null;
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public PGJTableExporter(@NotNull PGJTableModel<T> model) {
+        this.model = Objects.requireNonNull(model);
+        this.table = null;
+    }
+
+    /**
+     * Cancels the export that is running. The thread running {@link #export(WritableByteChannel, ProgressDialog)} will throw a
+     * {@link CancellationException} after the current chunk.
+     */
+    public void cancel() {
+        canceled = true;
+    }
+
+    /**
+     * Writes the rows to the given output stream. The stream is not closed.
+     *
+     * @param out      The output stream.
+     * @param progress An optional progress dialog to report progress to. Closing the dialog cancels the export.
+     *
+     * @return The number of rows written.
+     *
+     * @throws IOException           If an I/O error occurs.
+     * @throws CancellationException If the export was canceled.
+     */
+    public long export(@NotNull OutputStream out, @Nullable ProgressDialog progress) throws IOException {
+        return export(Channels.newChannel(out), progress);
+    }
+
+    /**
+     * Writes the rows to the given channel. The channel is not closed. This should not be called on the event dispatch thread.
+     *
+     * @param channel  The channel.
+     * @param progress An optional progress dialog to report progress to. Closing the dialog cancels the export.
+     *
+     * @return The number of rows written.
+     *
+     * @throws IOException           If an I/O error occurs.
+     * @throws CancellationException If the export was canceled.
+     */
+    public long export(@NotNull WritableByteChannel channel, @Nullable ProgressDialog progress) throws IOException {
+        canceled = false;
+
+        Snapshot<T> snapshot = Objects.requireNonNull(UI.invokeAndGet(true, this::takeSnapshot));
+        Format      fmt      = format;
+        Charset     cs       = charset;
+        int         size     = chunkSize;
+        int         rowCount = snapshot.rowCount();
+        int         chunks   = ((rowCount + size - 1) / size);
+
+        ArrayDeque<ForkJoinTask<ByteBuffer>> window   = new ArrayDeque<>();
+        int                                  maxAhead = Math.max(2, (pool.getParallelism() * 2));
+        int                                  next     = 0;
+        int                                  percent  = -1;
+
+        if(progress != null) {
+            progress.setProgressMin(0);
+            progress.setProgressMax(100);
+        }
+
+        try {
+            write(channel, encode(cs, fmt.header(snapshot, includeHeader)));
+
+            while((next < chunks) && (window.size() < maxAhead)) window.add(submitChunk(snapshot, fmt, cs, next++, size));
+
+            for(int i = 0; i < chunks; i++) {
+                checkCanceled(progress);
+                write(channel, join(Objects.requireNonNull(window.poll())));
+                if(next < chunks) window.add(submitChunk(snapshot, fmt, cs, next++, size));
+
+                int p = (int)(((i + 1L) * 100L) / chunks);
+                if((progress != null) && (p != percent)) progress.setProgress(percent = p);
+            }
+
+            write(channel, encode(cs, fmt.footer(rowCount)));
+            return rowCount;
+        }
+        finally {
+            window.forEach(task -> task.cancel(true));
+        }
+    }
+
+    public @NotNull Charset getCharset() {
+        return charset;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public @NotNull Format getFormat() {
+        return format;
+    }
+
+    public @NotNull ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    public boolean isIncludeHeader() {
+        return includeHeader;
+    }
+
+    public void setCharset(@NotNull Charset charset) {
+        this.charset = Objects.requireNonNull(charset);
+    }
+
+    public void setChunkSize(@Range(from = 1, to = Integer.MAX_VALUE) int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public void setFormat(@NotNull Format format) {
+        this.format = Objects.requireNonNull(format);
+    }
+
+    /**
+     * Sets whether a header line with the column names is written first. JSON output always uses the column names as the property names and ignores this.
+     *
+     * @param includeHeader <code>true</code> to write the header line.
+     */
+    public void setIncludeHeader(boolean includeHeader) {
+        this.includeHeader = includeHeader;
+    }
+
+    public void setPool(@NotNull ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    private void checkCanceled(@Nullable ProgressDialog progress) {
+        if((progress != null) && progress.isCanceled()) canceled = true;
+        if(canceled) throw new CancellationException();
+    }
+
+    private @NotNull ByteBuffer formatChunk(@NotNull Snapshot<T> snapshot, @NotNull Format fmt, @NotNull Charset cs, int firstRow, int endRow) {
+        StringBuilder sb = new StringBuilder((endRow - firstRow) * snapshot.columns().length * 12);
+        Object[]      values = new Object[snapshot.columns().length];
+
+        for(int row = firstRow; row < endRow; row++) {
+            if(canceled) throw new CancellationException();
+            int modelRow = snapshot.viewToModel().applyAsInt(row);
+            T   item     = snapshot.reader().apply(modelRow);
+
+            for(int c = 0; c < values.length; c++) values[c] = ((item == null) ? null : snapshot.rowModel().getColumnValue(item, snapshot.columns()[c]));
+            fmt.appendRow(sb, snapshot, values, row);
+        }
+
+        return encode(cs, sb);
+    }
+
+    private @NotNull ForkJoinTask<ByteBuffer> submitChunk(@NotNull Snapshot<T> snapshot, @NotNull Format fmt, @NotNull Charset cs, int chunk, int size) {
+        int firstRow = (chunk * size);
+        int endRow   = (int)Math.min(snapshot.rowCount(), ((long)firstRow + size));
+        return pool.submit(() -> formatChunk(snapshot, fmt, cs, firstRow, endRow));
+    }
+
+    private @NotNull Snapshot<T> takeSnapshot() {
+        PGJTableModel<T>    m        = ((table == null) ? model : Objects.requireNonNull(table.getModel()));
+        PGJTableRowModel<T> rowModel = m.getRowModel();
+        IntFunction<T>      reader   = m.getDataSupplier().reader();
+
+        if(table == null) {
+            int[] columns = IntStream.range(0, rowModel.getColumnCount()).toArray();
+            return new Snapshot<>(reader, rowModel, IntUnaryOperator.identity(), m.getRowCount(), columns, columnNames(m, columns));
+        }
+
+        TableColumnModel columnModel = table.getColumnModel();
+        int[]            columns     = IntStream.range(0, columnModel.getColumnCount()).map(i -> columnModel.getColumn(i).getModelIndex()).toArray();
+        String[]         names       = columnNames(m, columns);
+        RowSorter<?>     sorter      = table.getRowSorter();
+
+        if(sorter == null) return new Snapshot<>(reader, rowModel, IntUnaryOperator.identity(), m.getRowCount(), columns, names);
+        if(sorter instanceof PGJTableRowSorter<?> s) return new Snapshot<>(reader, rowModel, s.getViewToModelSnapshot(), s.getViewRowCount(), columns, names);
+
+        int[] v2m = IntStream.range(0, sorter.getViewRowCount()).map(sorter::convertRowIndexToModel).toArray();
+        return new Snapshot<>(reader, rowModel, i -> v2m[i], v2m.length, columns, names);
+    }
+
+    private static @NotNull String @NotNull [] columnNames(@NotNull PGJTableModel<?> model, int @NotNull [] columns) {
+        return IntStream.of(columns).mapToObj(model::getColumnName).map(n -> Objects.toString(n, "")).toArray(String[]::new);
+    }
+
+    private static @NotNull ByteBuffer encode(@NotNull Charset cs, @NotNull CharSequence text) {
+        return cs.encode(CharBuffer.wrap(text));
+    }
+
+    private static @NotNull ByteBuffer join(@NotNull ForkJoinTask<ByteBuffer> task) throws IOException {
+        try {
+            return task.get();
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        }
+        catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof CancellationException ce) throw ce;
+            if(cause instanceof IOException ioe) throw ioe;
+            throw makeRuntimeException(cause);
+        }
+    }
+
+    private static @NotNull String text(@Nullable Object value) {
+        if(value == null) return "";
+        if(value instanceof BigDecimal bd) return bd.toPlainString();
+        return value.toString();
+    }
+
+    private static void write(@NotNull WritableByteChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+        while(buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    /**
+     * The output formats. CSV follows RFC 4180, TSV replaces tabs and line breaks inside values with spaces, and JSON writes an array with one object per row.
+     */
+    public enum Format {
+        CSV {
+            protected @Override void appendValue(@NotNull StringBuilder sb, @Nullable Object value) {
+                String s = text(value);
+                if(s.chars().noneMatch(ch -> ((ch == ',') || (ch == '"') || (ch == '\r') || (ch == '\n')))) sb.append(s);
+                else sb.append('"').append(s.replace("\"", "\"\"")).append('"');
+            }
+        },
+        TSV {
+            protected @Override void appendValue(@NotNull StringBuilder sb, @Nullable Object value) {
+                String s = text(value);
+                for(int i = 0, j = s.length(); i < j; i++) {
+                    char ch = s.charAt(i);
+                    sb.append(((ch == '\t') || (ch == '\r') || (ch == '\n')) ? ' ' : ch);
+                }
+            }
+
+            protected @Override char delimiter() {
+                return '\t';
+            }
+        },
+        JSON {
+            protected @Override void appendRow(@NotNull StringBuilder sb, @NotNull Snapshot<?> snapshot, @Nullable Object @NotNull [] values, int row) {
+                sb.append((row == 0) ? "\n  {" : ",\n  {");
+                for(int c = 0; c < values.length; c++) {
+                    if(c > 0) sb.append(',');
+                    appendString(sb, snapshot.names()[c]);
+                    sb.append(':');
+                    appendValue(sb, values[c]);
+                }
+                sb.append('}');
+            }
+
+            protected @Override void appendValue(@NotNull StringBuilder sb, @Nullable Object value) {
+                if(value == null) sb.append("null");
+                else if(value instanceof Boolean b) sb.append(b.booleanValue());
+                else if(value instanceof BigDecimal bd) sb.append(bd.toPlainString());
+                else if((value instanceof Double d) && !Double.isFinite(d)) sb.append("null");
+                else if((value instanceof Float f) && !Float.isFinite(f)) sb.append("null");
+                else if(value instanceof Number n) sb.append(n);
+                else appendString(sb, value.toString());
+            }
+
+            protected @Override @NotNull String footer(int rowCount) {
+                return ((rowCount == 0) ? "]\n" : "\n]\n");
+            }
+
+            protected @Override @NotNull String header(@NotNull Snapshot<?> snapshot, boolean includeHeader) {
+                return "[";
+            }
+
+            private void appendString(@NotNull StringBuilder sb, @NotNull String s) {
+                sb.append('"');
+                for(int i = 0, j = s.length(); i < j; i++) {
+                    char ch = s.charAt(i);
+                    switch(ch) {
+                        case '"' -> sb.append("\\\"");
+                        case '\\' -> sb.append("\\\\");
+                        case '\n' -> sb.append("\\n");
+                        case '\r' -> sb.append("\\r");
+                        case '\t' -> sb.append("\\t");
+                        default -> {
+                            if(ch < 0x20) sb.append(String.format("\\u%04x", (int)ch));
+                            else sb.append(ch);
+                        }
+                    }
+                }
+                sb.append('"');
+            }
+        };
+
+        protected void appendRow(@NotNull StringBuilder sb, @NotNull Snapshot<?> snapshot, @Nullable Object @NotNull [] values, int row) {
+            for(int c = 0; c < values.length; c++) {
+                if(c > 0) sb.append(delimiter());
+                appendValue(sb, values[c]);
+            }
+            sb.append("\r\n");
+        }
+
+        protected abstract void appendValue(@NotNull StringBuilder sb, @Nullable Object value);
+
+        protected char delimiter() {
+            return ',';
+        }
+
+        protected @NotNull String footer(int rowCount) {
+            return "";
+        }
+
+        protected @NotNull String header(@NotNull Snapshot<?> snapshot, boolean includeHeader) {
+            if(!includeHeader) return "";
+            StringBuilder sb = new StringBuilder();
+            appendRow(sb, snapshot, snapshot.names(), -1);
+            return sb.toString();
+        }
+    }
+
+    private record Snapshot<T>(@NotNull IntFunction<T> reader,
+                               @NotNull PGJTableRowModel<T> rowModel,
+                               @NotNull IntUnaryOperator viewToModel,
+                               int rowCount,
+                               int @NotNull [] columns,
+                               @NotNull String @NotNull [] names) { }
+}
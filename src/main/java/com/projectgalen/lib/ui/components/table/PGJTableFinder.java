@@ -0,0 +1,293 @@
+package com.projectgalen.lib.ui.components.table;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGJTableFinder.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.components.table.misc.PGJTableModel;
+import com.projectgalen.lib.ui.components.table.misc.PGJTableRowModel;
+import com.projectgalen.lib.ui.events.TableCellModelEvent;
+import com.projectgalen.lib.ui.interfaces.PGDataSupplier;
+import com.projectgalen.lib.ui.listeners.TableCellModelListener;
+import com.projectgalen.lib.ui.utils.CurrencyFormats;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableColumnModel;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Finds cells of a {@link PGJTable} whose display text contains a string, ignoring case. The display text of every cell is put into a trigram index in the
+ * background, so a query only looks at the rows that can contain the string instead of calling <code>getValueAt</code> and <code>toString</code> on every
+ * cell. The index is kept current from {@link TableCellModelEvent}s and table model events on the event dispatch thread; inserted and deleted rows are
+ * shifted in and out of it without reading the other rows again. Only data and structure changes rebuild it in the background, and until a build finishes,
+ * queries scan the table.
+ * <p>
+ * The finder is bound to the table's model at the time it is created. All methods must be called from the event dispatch thread.
+ *
+ * @param <T> The type of the rows.
+ */
+@SuppressWarnings("unused")
+public class PGJTableFinder<T> {
+
+    private final    PGJTable<T>              table;
+    private final    PGJTableModel<T>         model;
+    private final    Function<Object, String> cellText;
+    private final    TableModelListener       modelListener = this::onTableChanged;
+    private final    TableCellModelListener   cellListener  = this::onTableCellChanged;
+    private final    BitSet                   dirtyRows     = new BitSet();
+    private          CellTextIndex            index         = null;
+    private volatile int                      generation    = 0;
+
+    public PGJTableFinder(@NotNull PGJTable<T> table) {
+        this(table, PGJTableFinder::defaultCellText);
+    }
+
+    /**
+     * @param table    The table.
+     * @param cellText Returns the display text of a cell value. It is called from a background thread while the index is being built.
+     */
+    public PGJTableFinder(@NotNull PGJTable<T> table, @NotNull Function<Object, String> cellText) {
+        this.table    = table;
+        this.model    = Objects.requireNonNull(table.getModel());
+        this.cellText = cellText;
+        model.addTableModelListener(modelListener);
+        model.getRowModel().addTableCellModelListener(cellListener);
+        rebuild();
+    }
+
+    /**
+     * Stops listening to the table's model and discards the index.
+     */
+    public void dispose() {
+        generation++;
+        model.removeTableModelListener(modelListener);
+        model.getRowModel().removeTableCellModelListener(cellListener);
+        index = null;
+        dirtyRows.clear();
+    }
+
+    /**
+     * Finds all the cells whose display text contains the given text, ignoring case.
+     *
+     * @param query The text to find.
+     *
+     * @return The matching cells, in model coordinates, in row-major model order.
+     */
+    public @NotNull List<Match> findAll(@NotNull String query) {
+        List<Match>   matches = new ArrayList<>();
+        CellTextIndex idx     = index;
+
+        if(idx != null) {
+            idx.find(query, (row, col) -> matches.add(new Match(row, col)));
+        }
+        else if(!query.isEmpty()) {
+            String q = query.toLowerCase(Locale.ROOT);
+            for(int row = 0, rows = model.getRowCount(), cols = model.getColumnCount(); row < rows; row++) {
+                for(int col = 0; col < cols; col++) if(text(model.getValueAt(row, col)).toLowerCase(Locale.ROOT).contains(q)) matches.add(new Match(row, col));
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Selects the next cell, in view order, after the lead cell whose display text contains the given text and scrolls it into view. Wraps around at the end
+     * of the table.
+     *
+     * @param query The text to find.
+     *
+     * @return <code>true</code> if a matching cell was found.
+     */
+    public boolean findNext(@NotNull String query) {
+        return navigate(query, true);
+    }
+
+    /**
+     * Selects the previous cell, in view order, before the lead cell whose display text contains the given text and scrolls it into view. Wraps around at the
+     * start of the table.
+     *
+     * @param query The text to find.
+     *
+     * @return <code>true</code> if a matching cell was found.
+     */
+    public boolean findPrevious(@NotNull String query) {
+        return navigate(query, false);
+    }
+
+    /**
+     * Returns <code>true</code> if the index is ready. Queries made before then scan the table.
+     *
+     * @return <code>true</code> if the index is ready.
+     */
+    public boolean isIndexed() {
+        return (index != null);
+    }
+
+    /**
+     * Discards the index and builds a new one in the background.
+     */
+    public void rebuild() {
+        int                 gen      = ++generation;
+        PGDataSupplier<T>   supplier = model.getDataSupplier();
+        PGJTableRowModel<T> rowModel = model.getRowModel();
+        int                 rows     = model.getRowCount();
+        int                 cols     = model.getColumnCount();
+
+        index = null;
+        dirtyRows.clear();
+
+        CompletableFuture.supplyAsync(() -> CellTextIndex.build(rows, cols, (row, col) -> {
+            T item = (supplier.isAvailable(row) ? supplier.get(row) : null);
+            return ((item == null) ? null : text(rowModel.getColumnValue(item, col)));
+        }, () -> (gen != generation)), ForkJoinPool.commonPool()).whenComplete((idx, ex) -> {
+            Throwable cause = (((ex instanceof CompletionException) && (ex.getCause() != null)) ? ex.getCause() : ex);
+            if((cause != null) && !(cause instanceof CancellationException)) cause.printStackTrace(System.err);
+            if(idx != null) SwingUtilities.invokeLater(() -> installIndex(gen, idx));
+        });
+    }
+
+    private long currentPosition() {
+        int row = table.getSelectionModel().getLeadSelectionIndex();
+        int col = table.getColumnModel().getSelectionModel().getLeadSelectionIndex();
+        return ((row < 0) ? -1L : position(row, Math.max(0, col)));
+    }
+
+    private void installIndex(int gen, @NotNull CellTextIndex idx) {
+        if(gen == generation) {
+            index = idx;
+            dirtyRows.stream().forEach(this::reindexRow);
+            dirtyRows.clear();
+        }
+    }
+
+    private boolean navigate(@NotNull String query, boolean forward) {
+        TableColumnModel columnModel = table.getColumnModel();
+        int[]            viewColumns = new int[model.getColumnCount()];
+
+        Arrays.fill(viewColumns, -1);
+        for(int i = 0, j = columnModel.getColumnCount(); i < j; i++) {
+            int modelIndex = columnModel.getColumn(i).getModelIndex();
+            if((modelIndex >= 0) && (modelIndex < viewColumns.length)) viewColumns[modelIndex] = i;
+        }
+
+        long[] positions = findAll(query).stream()
+                                         .filter(m -> (viewColumns[m.column()] >= 0))
+                                         .mapToLong(m -> position(table.convertRowIndexToView(m.row()), viewColumns[m.column()]))
+                                         .filter(p -> (p >= 0))
+                                         .sorted()
+                                         .toArray();
+        if(positions.length == 0) return false;
+
+        long current = currentPosition();
+        int  i       = Arrays.binarySearch(positions, current);
+        int  next    = (forward ? ((i >= 0) ? (i + 1) : (-i - 1)) : ((i >= 0) ? (i - 1) : (-i - 2)));
+
+        if(next >= positions.length) next = 0;
+        else if(next < 0) next = (positions.length - 1);
+
+        int viewRow = (int)(positions[next] >>> 32);
+        int viewCol = (int)positions[next];
+        table.changeSelection(viewRow, viewCol, false, false);
+        return true;
+    }
+
+    private void onTableCellChanged(@NotNull TableCellModelEvent e) {
+        switch(e.getEventType()) {
+            case CellDataUpdated -> {
+                int row = e.getRowIndex();
+                int col = e.getColumnIndex();
+                if((index != null) && (row >= 0) && (row < index.getRowCount()) && (col >= 0) && (col < index.getColumnCount())) index.set(row, col, text(e.getNewValue()));
+                else if((index == null) && (row >= 0)) dirtyRows.set(row);
+            }
+            case TableDataUpdated -> rebuild();
+        }
+    }
+
+    private void onTableChanged(@NotNull TableModelEvent e) {
+        int first = e.getFirstRow();
+        int last  = e.getLastRow();
+
+        if((first == TableModelEvent.HEADER_ROW) || (last == Integer.MAX_VALUE)) {
+            rebuild();
+        }
+        else if(e.getType() == TableModelEvent.INSERT) {
+            // A build that is running has already read rows that have now moved, so it has to start over.
+            if((index == null) || (first > index.getRowCount())) rebuild();
+            else {
+                index.insertRows(first, (last - first + 1));
+                for(int row = first; row <= last; row++) reindexRow(row);
+            }
+        }
+        else if(e.getType() == TableModelEvent.DELETE) {
+            if((index == null) || (last >= index.getRowCount())) rebuild();
+            else index.deleteRows(first, (last - first + 1));
+        }
+        else if(index == null) {
+            dirtyRows.set(first, (last + 1));
+        }
+        else if(e.getColumn() == TableModelEvent.ALL_COLUMNS) {
+            for(int row = first; row <= last; row++) reindexRow(row);
+        }
+        else {
+            for(int row = first; row <= last; row++) reindexCell(row, e.getColumn());
+        }
+    }
+
+    private long position(int viewRow, int viewCol) {
+        return ((viewRow < 0) ? -1L : ((((long)viewRow) << 32) | viewCol));
+    }
+
+    private void reindexCell(int row, int col) {
+        if((row < index.getRowCount()) && (col >= 0) && (col < index.getColumnCount())) index.set(row, col, text(model.getValueAt(row, col)));
+    }
+
+    private void reindexRow(int row) {
+        for(int col = 0, cols = index.getColumnCount(); col < cols; col++) reindexCell(row, col);
+    }
+
+    private @NotNull String text(@Nullable Object value) {
+        return Objects.requireNonNullElse(cellText.apply(value), "");
+    }
+
+    private static @NotNull String defaultCellText(@Nullable Object value) {
+        if(value == null) return "";
+        if(value instanceof BigDecimal bd) return CurrencyFormats.format(bd);
+        return value.toString();
+    }
+
+    /**
+     * A matching cell.
+     *
+     * @param row    The model row index.
+     * @param column The model column index.
+     */
+    public record Match(int row, int column) { }
+}
@@ -0,0 +1,391 @@
+package com.projectgalen.lib.ui.components.table;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: RowHeightCache.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The row heights of a {@link PGJTable} in auto-fit mode. Only the rows near the viewport are measured; every other row gets an estimate, the average height
+ * of the first rows measured, so the height of the table, and with it the scrollbar, hardly changes as rows get measured. Heights are cached per model row
+ * and kept in a Fenwick tree over the view rows, so finding a row's position or the row at a position is O(log n) instead of JTable's size sequence, which
+ * has to be updated for every inserted or deleted row. A measured row is measured again when it is updated while it keeps its old height, so updates do not
+ * make the rows below it jump.
+ * <p>
+ * The tree is not rebuilt when the rows of an unsorted table change at the ends. Appended rows are added to the end of the tree, and rows deleted from the
+ * head only move the tree's first slot. Rows deleted anywhere else keep their slots with a height of zero, and a second tree counts the slots still in use
+ * to find the slot of a view row. The tree is rebuilt once the unused slots outnumber the rows, and for everything else: rows inserted before the end, and
+ * any change to a sorted table.
+ */
+final class RowHeightCache {
+
+    private final JTable            table;
+    private final IntUnaryOperator  measurer;
+    private final Runnable          onChange;
+    private final ComponentListener componentListener = new ScrollListener();
+    /**
+     * The height of each model row, starting at <code>base</code>: positive once measured, negative when it is an estimate or has to be measured again.
+     */
+    private       int[]             heights           = new int[0];
+    private       int               base              = 0;
+    private       int               rowCount          = 0;
+    private       int[]             tree              = new int[1];
+    private       int[]             used              = new int[1];
+    private       int               slots             = 0;
+    private       int               head              = 0;
+    private       int               unused            = 0;
+    private       int               total             = 0;
+    private       boolean           dirty             = true;
+    private       boolean           estimated         = false;
+    private       int               estimate;
+    private       boolean           measurePending    = false;
+
+    /**
+     * @param table    The table.
+     * @param measurer Returns the preferred height of the given view row.
+     * @param onChange Called after measuring changed the height of any row.
+     */
+    RowHeightCache(@NotNull JTable table, @NotNull IntUnaryOperator measurer, @NotNull Runnable onChange) {
+        this.table    = table;
+        this.measurer = measurer;
+        this.onChange = onChange;
+        reset();
+        table.addComponentListener(componentListener);
+        scheduleMeasure();
+    }
+
+    void dispose() {
+        table.removeComponentListener(componentListener);
+    }
+
+    int getRowHeight(int row) {
+        return heightOf(table.convertRowIndexToModel(row));
+    }
+
+    int getRowY(int row) {
+        sync();
+        return ((row >= treeRows()) ? total : (sum(tree, slotOf(row)) - sum(tree, head)));
+    }
+
+    int getTotalHeight() {
+        sync();
+        return total;
+    }
+
+    /**
+     * Marks every row to be measured again, keeping the current heights until then.
+     *
+     * @param reestimate <code>true</code> if the estimate for rows never measured should be computed again as well, as after the font changed.
+     */
+    void invalidateAll(boolean reestimate) {
+        for(int i = base, end = (base + rowCount); i < end; i++) heights[i] = -Math.abs(heights[i]);
+        if(reestimate) {
+            estimated = false;
+            estimate  = table.getRowHeight();
+        }
+        scheduleMeasure();
+    }
+
+    /**
+     * Called when the row sorter changed the order of the rows.
+     */
+    void invalidateOrder() {
+        dirty = true;
+        scheduleMeasure();
+    }
+
+    /**
+     * Returns the view row at the given y coordinate or -1 if there is none.
+     */
+    int rowAtY(int y) {
+        sync();
+        if((y < 0) || (y >= total)) return -1;
+        // Unused slots have no height, so the search passes over them and stops at a slot in use.
+        int slot = search(tree, (y + sum(tree, head) + 1));
+        return ((unused == 0) ? (slot - head) : (sum(used, slot) - sum(used, head)));
+    }
+
+    /**
+     * Called by the table before it handles a table model event.
+     */
+    void tableChanged(@NotNull TableModelEvent e) {
+        int first = e.getFirstRow();
+        int last  = e.getLastRow();
+
+        if((first == TableModelEvent.HEADER_ROW) || (last == Integer.MAX_VALUE)) reset();
+        else if(e.getType() == TableModelEvent.INSERT) insertRows(first, (last - first + 1));
+        else if(e.getType() == TableModelEvent.DELETE) deleteRows(first, (last - first + 1));
+        else for(int row = Math.max(0, first), end = Math.min(last, (rowCount - 1)); row <= end; row++) heights[base + row] = -Math.abs(heights[base + row]);
+
+        if(rowCount != table.getModel().getRowCount()) reset();
+        scheduleMeasure();
+    }
+
+    private void add(int row, int delta) {
+        total += delta;
+        update(tree, slotOf(row), delta);
+    }
+
+    private void deleteRows(int first, int count) {
+        if((first < 0) || ((first + count) > rowCount)) return;
+
+        if(dirty || (table.getRowSorter() != null) || (treeRows() != rowCount) || (count == rowCount)) {
+            dirty = true;
+        }
+        else if(first == 0) {
+            int newHead = slotOf(count);
+            total -= (sum(tree, newHead) - sum(tree, head));
+            unused -= (newHead - head - count);
+            head = newHead;
+        }
+        else {
+            for(int i = 0; i < count; i++) {
+                // The rows after the deleted one move up, so the next row to delete is always at first.
+                int slot   = slotOf(first);
+                int height = (sum(tree, (slot + 1)) - sum(tree, slot));
+                update(tree, slot, -height);
+                update(used, slot, -1);
+                total -= height;
+                unused++;
+            }
+        }
+        if((head + unused) > treeRows()) dirty = true;
+
+        // Move whichever side of the deleted rows is shorter.
+        int after = (rowCount - first - count);
+        if(first < after) {
+            System.arraycopy(heights, base, heights, (base + count), first);
+            base += count;
+        }
+        else {
+            System.arraycopy(heights, (base + first + count), heights, (base + first), after);
+        }
+        rowCount -= count;
+    }
+
+    private int heightOf(int modelRow) {
+        // While the table handles a model event its row sorter may still refer to rows that are gone.
+        return ((modelRow < rowCount) ? Math.abs(heights[base + modelRow]) : estimate);
+    }
+
+    private void insertRows(int first, int count) {
+        if((first < 0) || (first > rowCount)) return;
+        if((base + rowCount + count) > heights.length) {
+            int[] grown = new int[Math.max((rowCount + count), (heights.length + (heights.length >> 1)))];
+            System.arraycopy(heights, base, grown, 0, rowCount);
+            heights = grown;
+            base    = 0;
+        }
+        System.arraycopy(heights, (base + first), heights, (base + first + count), (rowCount - first));
+        Arrays.fill(heights, (base + first), (base + first + count), -estimate);
+
+        if((first == rowCount) && !dirty && (table.getRowSorter() == null) && (treeRows() == rowCount)) {
+            // Rows appended to an unsorted table go to the end of the tree without rebuilding it.
+            if((slots + count) >= tree.length) {
+                int length = Math.max((slots + count + 1), (tree.length * 2));
+                tree = Arrays.copyOf(tree, length);
+                used = Arrays.copyOf(used, length);
+            }
+            for(int i = 0; i < count; i++) {
+                append(tree, slots, estimate);
+                append(used, slots, 1);
+                slots++;
+                total += estimate;
+            }
+        }
+        else {
+            dirty = true;
+        }
+        rowCount += count;
+    }
+
+    private void measureVisible() {
+        Rectangle visible = table.getVisibleRect();
+        if((visible.height <= 0) || (rowCount == 0)) return;
+
+        int     anchor = rowAtY(visible.y);
+        int     offset = ((anchor < 0) ? 0 : (visible.y - getRowY(anchor)));
+        int     first  = rowAtYClamped(visible.y - visible.height);
+        int     last   = rowAtYClamped(visible.y + (visible.height * 2));
+        boolean moved  = false;
+        long    sum    = 0;
+        int     count  = 0;
+
+        for(int row = first; row <= last; row++) {
+            int modelRow = table.convertRowIndexToModel(row);
+            if((modelRow < rowCount) && (heights[base + modelRow] <= 0)) {
+                int height = Math.max(table.getRowHeight(), measurer.applyAsInt(row));
+                int delta  = (height - Math.abs(heights[base + modelRow]));
+                heights[base + modelRow] = height;
+                sum += height;
+                count++;
+                if(delta != 0) {
+                    add(row, delta);
+                    moved = true;
+                }
+            }
+        }
+
+        if(!estimated && (count > 0)) {
+            int newEstimate = (int)(sum / count);
+            estimated = true;
+            if(newEstimate != estimate) {
+                estimate = newEstimate;
+                for(int i = base, end = (base + rowCount); i < end; i++) if(heights[i] < 0) heights[i] = -estimate;
+                dirty = true;
+                moved = true;
+            }
+        }
+
+        if(moved) {
+            table.revalidate();
+            table.repaint();
+            // Keep the row at the top of the viewport where it was, even if the heights of the rows above it changed.
+            if((anchor >= 0) && (table.getParent() instanceof JViewport viewport)) {
+                table.setSize(table.getWidth(), Math.max(getTotalHeight(), viewport.getExtentSize().height));
+                viewport.setViewPosition(new Point(visible.x, Math.max(0, Math.min((getRowY(anchor) + offset), (table.getHeight() - visible.height)))));
+            }
+            onChange.run();
+        }
+    }
+
+    private void reset() {
+        rowCount  = table.getModel().getRowCount();
+        heights   = new int[rowCount];
+        base      = 0;
+        estimated = false;
+        estimate  = table.getRowHeight();
+        dirty     = true;
+        Arrays.fill(heights, -estimate);
+    }
+
+    private int rowAtYClamped(int y) {
+        return ((y <= 0) ? 0 : ((y >= getTotalHeight()) ? (treeRows() - 1) : rowAtY(y)));
+    }
+
+    private void scheduleMeasure() {
+        if(!measurePending) {
+            measurePending = true;
+            SwingUtilities.invokeLater(() -> {
+                measurePending = false;
+                measureVisible();
+            });
+        }
+    }
+
+    /**
+     * Returns the slot of the given view row.
+     */
+    private int slotOf(int row) {
+        return ((unused == 0) ? (head + row) : search(used, (sum(used, head) + row + 1)));
+    }
+
+    private void sync() {
+        if(dirty) {
+            int rows = Math.min(table.getRowCount(), rowCount);
+            dirty  = false;
+            slots  = rows;
+            head   = 0;
+            unused = 0;
+            tree   = new int[rows + 1];
+            used   = new int[rows + 1];
+            total  = 0;
+            for(int row = 0; row < rows; row++) {
+                int i = (row + 1);
+                int h = heightOf(table.convertRowIndexToModel(row));
+                tree[i] += h;
+                used[i] += 1;
+                total += h;
+                int parent = (i + (i & -i));
+                if(parent <= rows) {
+                    tree[parent] += tree[i];
+                    used[parent] += used[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of view rows in the tree.
+     */
+    private int treeRows() {
+        return (slots - head - unused);
+    }
+
+    /**
+     * Sets the value of a new slot at the end of a Fenwick tree.
+     */
+    private static void append(int @NotNull [] fenwick, int slot, int value) {
+        int index = (slot + 1);
+        fenwick[index] = (value + sum(fenwick, slot) - sum(fenwick, (index - (index & -index))));
+    }
+
+    /**
+     * Returns the first slot of a Fenwick tree of non-negative values at which the sum of the values up to and including it reaches the target.
+     */
+    private int search(int @NotNull [] fenwick, int target) {
+        int pos = 0;
+        for(int step = Integer.highestOneBit(Math.max(1, slots)); step > 0; step >>= 1) {
+            int next = (pos + step);
+            if((next <= slots) && (fenwick[next] < target)) {
+                pos = next;
+                target -= fenwick[next];
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the sum of the values in the given number of leading slots of a Fenwick tree.
+     */
+    private static int sum(int @NotNull [] fenwick, int slots) {
+        int sum = 0;
+        for(int i = slots; i > 0; i -= (i & -i)) sum += fenwick[i];
+        return sum;
+    }
+
+    private void update(int @NotNull [] fenwick, int slot, int delta) {
+        for(int i = (slot + 1); i <= slots; i += (i & -i)) fenwick[i] += delta;
+    }
+
+    /**
+     * The viewport moves the table when it is scrolled, and resizes it when rows are inserted or deleted.
+     */
+    private final class ScrollListener extends ComponentAdapter {
+        public @Override void componentMoved(ComponentEvent e) {
+            scheduleMeasure();
+        }
+
+        public @Override void componentResized(ComponentEvent e) {
+            scheduleMeasure();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: AbstractPGDataSupplier.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.events.PGDataSupplierEvent;
+import com.projectgalen.lib.ui.events.PGDataSupplierEvent.EventType;
+import com.projectgalen.lib.ui.interfaces.PGDataSupplier;
+import com.projectgalen.lib.ui.listeners.PGDataSupplierListener;
+import com.projectgalen.lib.utils.EventListeners;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unused")
+public abstract class AbstractPGDataSupplier<T> implements PGDataSupplier<T> {/*@f0*/
+
+    private final EventListeners eventListeners = new EventListeners();
+
+    public AbstractPGDataSupplier()                                                            { }
+
+    public @Override void addDataSupplierListener(@NotNull PGDataSupplierListener listener)    { eventListeners.add(PGDataSupplierListener.class, listener); }
+
+    public void fireDataChanged()                                                              { fireDataSupplierEvent(new PGDataSupplierEvent(this, EventType.DataChanged, -1, -1)); }
+
+    public void fireDataSupplierEvent(@NotNull PGDataSupplierEvent event)                      { eventListeners.fireEvent(PGDataSupplierListener.class, event, PGDataSupplierListener::dataSupplierChanged); }
+
+    public void fireRowsDeleted(int firstRow, int lastRow)                                     { fireDataSupplierEvent(new PGDataSupplierEvent(this, EventType.RowsDeleted, firstRow, lastRow)); }
+
+    public void fireRowsInserted(int firstRow, int lastRow)                                    { fireDataSupplierEvent(new PGDataSupplierEvent(this, EventType.RowsInserted, firstRow, lastRow)); }
+
+    public void fireRowsUpdated(int firstRow, int lastRow)                                     { fireDataSupplierEvent(new PGDataSupplierEvent(this, EventType.RowsUpdated, firstRow, lastRow)); }
+
+    public @Override void removeDataSupplierListener(@NotNull PGDataSupplierListener listener) { eventListeners.remove(PGDataSupplierListener.class, listener); }
+}
@@ -23,6 +23,7 @@ package com.projectgalen.lib.ui.components.table.misc;
 // ===========================================================================
 
 import com.projectgalen.lib.ui.components.PGCurrencyTextField;
+import com.projectgalen.lib.ui.utils.CurrencyFormats;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
@@ -31,7 +32,6 @@ import java.awt.event.ActionEvent;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
 import java.awt.event.KeyEvent;
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @SuppressWarnings("unused")
@@ -42,7 +42,7 @@ public class CurrencyCellEditor extends DefaultCellEditor {
     public CurrencyCellEditor() { this(-1); }
 
     public CurrencyCellEditor(int fontSize) {
-        super(new PGCurrencyTextField(0.0));
+        super(new PGCurrencyTextField());
 
         PGCurrencyTextField formattedField   = getComponent();
         String              keyPressActionId = UUID.randomUUID().toString();
@@ -82,7 +82,7 @@ public class CurrencyCellEditor extends DefaultCellEditor {
 
     public @Override @NotNull Component getTableCellEditorComponent(JTable table, Object value, boolean isSelected, int row, int column) {
         PGCurrencyTextField formattedField = (PGCurrencyTextField)super.getTableCellEditorComponent(table, value, isSelected, row, column);
-        formattedField.setValue((value == null) ? 0.0 : ((BigDecimal)value).doubleValue());
+        formattedField.setNumber(CurrencyFormats.toBigDecimal((value instanceof Number n) ? n : null));
         return formattedField;
     }
 
@@ -22,9 +22,9 @@ package com.projectgalen.lib.ui.components.table.misc;
 // IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
 // ===========================================================================
 
-import javax.swing.table.DefaultTableCellRenderer;
+import com.projectgalen.lib.ui.utils.CurrencyFormats;
 
-import static com.projectgalen.lib.ui.components.PGCurrencyTextField.getCurrencyFormatter;
+import javax.swing.table.DefaultTableCellRenderer;
 
 @SuppressWarnings("unused")
 public class CurrencyCellRenderer extends DefaultTableCellRenderer {
@@ -32,6 +32,6 @@ public class CurrencyCellRenderer extends DefaultTableCellRenderer {
     public CurrencyCellRenderer() { super(); }
 
     protected @Override void setValue(Object value) {
-        setText(getCurrencyFormatter().format(((value instanceof Number n) ? n.doubleValue() : 0.0)));
+        setText(CurrencyFormats.format((value instanceof Number n) ? n : null));
     }
 }
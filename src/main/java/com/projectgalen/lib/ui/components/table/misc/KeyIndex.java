@@ -0,0 +1,192 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: KeyIndex.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.interfaces.PGDataSupplier;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.event.TableModelEvent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static javax.swing.event.TableModelEvent.*;
+
+/**
+ * Maps the keys of the rows of a {@link PGJTableModel} to their model row indexes. The index follows the model's events: updated rows are re-keyed, and
+ * inserted and deleted rows are added or dropped without re-keying the rows around them. Rows deleted from the head only move a base offset. Rows inserted or
+ * deleted anywhere else shift the entries after them in the array, but the row numbers the entries remember are only corrected by the next lookup that finds
+ * one of them, so a burst of events costs one renumbering pass. Data and structure changes mark the index as stale so that it is rebuilt by the next lookup.
+ * Rows that the data supplier reports as not available have no key. Keys are expected to be unique; if they are not, a lookup finds one of the rows.
+ */
+final class KeyIndex<T> {
+
+    private final Function<? super T, ?> keyExtractor;
+    private final Map<Object, Entry>     rows    = new HashMap<>();
+    private       Entry[]                entries = new Entry[16];
+    private       int                    head    = 0;
+    private       int                    size    = 0;
+    private       long                   base    = 0;
+    private       int                    stale   = Integer.MAX_VALUE;
+    private       boolean                valid   = false;
+
+    KeyIndex(@NotNull Function<? super T, ?> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    public @NotNull Function<? super T, ?> getKeyExtractor() {
+        return keyExtractor;
+    }
+
+    public int indexOf(Object key, @NotNull PGDataSupplier<T> supplier) {
+        if(!valid) rebuild(supplier);
+        Entry entry = rows.get(key);
+        if(entry == null) return -1;
+        long row = (entry.pos - base);
+        if((row < 0) || (row >= stale)) renumber();
+        return (int)(entry.pos - base);
+    }
+
+    public void invalidate() {
+        valid = false;
+    }
+
+    public void onTableChanged(@NotNull TableModelEvent e, @NotNull PGDataSupplier<T> supplier) {
+        if(!valid) return;
+
+        int first = e.getFirstRow();
+        int last  = e.getLastRow();
+
+        if((first < 0) || (last == Integer.MAX_VALUE) || (last < first)) {
+            valid = false;
+        }
+        else if(e.getType() == INSERT) {
+            if(first <= size) insert(first, (last - first + 1), supplier);
+            else valid = false;
+        }
+        else if(e.getType() == DELETE) {
+            if(last < size) delete(first, (last - first + 1));
+            else valid = false;
+        }
+        else if(last < size) {
+            for(int row = first; row <= last; row++) rekey(row, supplier);
+        }
+        else {
+            valid = false;
+        }
+    }
+
+    private void delete(int first, int count) {
+        for(int row = first, end = (first + count); row < end; row++) {
+            Entry entry = entries[head + row];
+            if(entry.key != null) rows.remove(entry.key, entry);
+        }
+
+        if(first == 0) {
+            Arrays.fill(entries, head, (head + count), null);
+            head += count;
+            base += count;
+            if(stale != Integer.MAX_VALUE) stale = Math.max(0, (stale - count));
+        }
+        else {
+            int tail = (size - first - count);
+            if(tail > 0) {
+                System.arraycopy(entries, (head + first + count), entries, (head + first), tail);
+                stale = Math.min(stale, first);
+            }
+            Arrays.fill(entries, (head + size - count), (head + size), null);
+        }
+        size -= count;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if((head + capacity) > entries.length) {
+            Entry[] a = ((capacity <= (entries.length / 2)) ? entries : new Entry[Math.max(16, (capacity * 2))]);
+            System.arraycopy(entries, head, a, 0, size);
+            if(a == entries) Arrays.fill(entries, size, (head + size), null);
+            entries = a;
+            head    = 0;
+        }
+    }
+
+    private void insert(int first, int count, @NotNull PGDataSupplier<T> supplier) {
+        ensureCapacity(size + count);
+        if(first < size) {
+            System.arraycopy(entries, (head + first), entries, (head + first + count), (size - first));
+            stale = Math.min(stale, first);
+        }
+        size += count;
+        for(int row = first, end = (first + count); row < end; row++) put(row, supplier);
+    }
+
+    private Object keyOf(int row, @NotNull PGDataSupplier<T> supplier) {
+        return (supplier.isAvailable(row) ? keyExtractor.apply(supplier.get(row)) : null);
+    }
+
+    private void put(int row, @NotNull PGDataSupplier<T> supplier) {
+        Entry entry = new Entry(keyOf(row, supplier), (base + row));
+        entries[head + row] = entry;
+        if(entry.key != null) rows.putIfAbsent(entry.key, entry);
+    }
+
+    private void rebuild(@NotNull PGDataSupplier<T> supplier) {
+        int count = supplier.size();
+        rows.clear();
+        entries = new Entry[Math.max(16, count)];
+        head    = 0;
+        size    = count;
+        base    = 0;
+        stale   = Integer.MAX_VALUE;
+        for(int row = 0; row < count; row++) put(row, supplier);
+        valid = true;
+    }
+
+    private void rekey(int row, @NotNull PGDataSupplier<T> supplier) {
+        Entry  entry  = entries[head + row];
+        Object newKey = keyOf(row, supplier);
+
+        if((entry.key != null) && !entry.key.equals(newKey)) rows.remove(entry.key, entry);
+        if(newKey != null) rows.putIfAbsent(newKey, entry);
+        entry.key = newKey;
+    }
+
+    /**
+     * Gives every entry from the first stale row on the row number it is at now. An entry that remembers a row before the first stale row has not moved since
+     * it was last numbered, unless that row is negative because rows in front of it were deleted from the head after it moved.
+     */
+    private void renumber() {
+        for(int row = stale; row < size; row++) entries[head + row].pos = (base + row);
+        stale = Integer.MAX_VALUE;
+    }
+
+    private static final class Entry {
+        private Object key;
+        private long   pos;
+
+        Entry(Object key, long pos) {
+            this.key = key;
+            this.pos = pos;
+        }
+    }
+}
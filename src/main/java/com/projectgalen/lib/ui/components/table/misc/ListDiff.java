@@ -0,0 +1,198 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: ListDiff.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * A keyed diff between two lists, expressed as the row deletes, inserts, and updates that turn the old list into the new one. Items whose keys appear in both
+ * lists and are in the same relative order (the longest increasing run of their old positions) stay where they are. Every other item that appears in both
+ * lists has moved, and a move is a delete followed by an insert because {@link javax.swing.event.TableModelEvent} has no move. Items that stayed and are no
+ * longer {@link Objects#equals(Object, Object) equal} are reported as updated.
+ */
+final class ListDiff {
+
+    /**
+     * A diff with more ranges than this is not worth replaying event by event, and {@link #compute(List, List, Function, BooleanSupplier)} returns
+     * <code>null</code> so the caller replaces the whole list instead.
+     */
+    static final int MAX_RANGES = 256;
+
+    private final int[] deletes;
+    private final int[] inserts;
+    private final int[] updates;
+
+    private ListDiff(int @NotNull [] deletes, int @NotNull [] inserts, int @NotNull [] updates) {
+        this.deletes = deletes;
+        this.inserts = inserts;
+        this.updates = updates;
+    }
+
+    /**
+     * Replay the diff on a copy of the old list, firing the events for each step on the given model so that the list always matches the events the listeners
+     * have seen. Must be called from the event dispatch thread.
+     *
+     * @param working The copy of the old list. When this method returns it holds the items of the new list.
+     * @param newList The new list.
+     * @param model   The model whose data supplier reads from the working list.
+     */
+    <T> void apply(@NotNull List<T> working, @NotNull List<T> newList, @NotNull AbstractTableModel model) {
+        for(int i = 0; i < deletes.length; i += 2) {
+            working.subList(deletes[i], deletes[i + 1] + 1).clear();
+            model.fireTableRowsDeleted(deletes[i], deletes[i + 1]);
+        }
+        for(int i = 0; i < inserts.length; i += 2) {
+            working.addAll(inserts[i], newList.subList(inserts[i], inserts[i + 1] + 1));
+            model.fireTableRowsInserted(inserts[i], inserts[i + 1]);
+        }
+        // The items that stayed are still the old instances. Equal ones are swapped in silently.
+        for(int i = 0, j = newList.size(); i < j; i++) working.set(i, newList.get(i));
+        for(int i = 0; i < updates.length; i += 2) model.fireTableRowsUpdated(updates[i], updates[i + 1]);
+    }
+
+    int getRangeCount() {
+        return ((deletes.length + inserts.length + updates.length) / 2);
+    }
+
+    boolean isEmpty() {
+        return (getRangeCount() == 0);
+    }
+
+    /**
+     * Compute the diff. May be called from any thread as long as neither list is modified.
+     *
+     * @param oldList      The old list.
+     * @param newList      The new list.
+     * @param keyExtractor Returns the key that identifies an item across both lists.
+     * @param cancelled    Checked now and then. When it returns <code>true</code> the computation is abandoned with a {@link CancellationException}.
+     *
+     * @return The diff or <code>null</code> if a key appears more than once in either list or the diff has more than {@link #MAX_RANGES} ranges.
+     */
+    static <T> @Nullable ListDiff compute(@NotNull List<T> oldList, @NotNull List<T> newList, @NotNull Function<? super T, ?> keyExtractor, @NotNull BooleanSupplier cancelled) {
+        int                  oldSize   = oldList.size();
+        int                  newSize   = newList.size();
+        Map<Object, Integer> positions = new HashMap<>(Math.max(16, (int)(oldSize / 0.75f) + 1));
+        int[]                source    = new int[newSize];
+
+        for(int i = 0; i < oldSize; i++) {
+            checkCancelled(i, cancelled);
+            if(positions.put(keyExtractor.apply(oldList.get(i)), i) != null) return null;
+        }
+
+        Set<Object> seen = new HashSet<>(Math.max(16, (int)(newSize / 0.75f) + 1));
+        for(int i = 0; i < newSize; i++) {
+            checkCancelled(i, cancelled);
+            Object key = keyExtractor.apply(newList.get(i));
+            if(!seen.add(key)) return null;
+            source[i] = positions.getOrDefault(key, -1);
+        }
+
+        boolean[] stayNew = longestIncreasingRun(source, cancelled);
+        boolean[] stayOld = new boolean[oldSize];
+        for(int i = 0; i < newSize; i++) if(stayNew[i]) stayOld[source[i]] = true;
+
+        Ranges deletes = new Ranges();
+        Ranges inserts = new Ranges();
+        Ranges updates = new Ranges();
+
+        // Deletes go from the bottom up so that each range is still valid when it is removed.
+        for(int i = (oldSize - 1); i >= 0; i--) if(!stayOld[i] && !deletes.addDescending(i)) return null;
+        for(int i = 0; i < newSize; i++) {
+            checkCancelled(i, cancelled);
+            if(!stayNew[i]) { if(!inserts.addAscending(i)) return null; }
+            else if(!Objects.equals(oldList.get(source[i]), newList.get(i)) && !updates.addAscending(i)) return null;
+        }
+
+        ListDiff diff = new ListDiff(deletes.toArray(), inserts.toArray(), updates.toArray());
+        return ((diff.getRangeCount() > MAX_RANGES) ? null : diff);
+    }
+
+    private static void checkCancelled(int i, @NotNull BooleanSupplier cancelled) {
+        if(((i & 0xfff) == 0) && cancelled.getAsBoolean()) throw new CancellationException();
+    }
+
+    /**
+     * Marks the entries of the longest strictly increasing subsequence of the non-negative values in the given array (patience sorting).
+     */
+    private static boolean @NotNull [] longestIncreasingRun(int @NotNull [] source, @NotNull BooleanSupplier cancelled) {
+        int[]     tails  = new int[source.length];
+        int[]     prev   = new int[source.length];
+        boolean[] result = new boolean[source.length];
+        int       length = 0;
+
+        for(int i = 0; i < source.length; i++) {
+            checkCancelled(i, cancelled);
+            int v = source[i];
+            if(v < 0) continue;
+
+            int lo = 0, hi = length;
+            while(lo < hi) {
+                int mid = ((lo + hi) >>> 1);
+                if(source[tails[mid]] < v) lo = mid + 1;
+                else hi = mid;
+            }
+            prev[i]   = ((lo > 0) ? tails[lo - 1] : -1);
+            tails[lo] = i;
+            if(lo == length) length++;
+        }
+
+        for(int i = ((length > 0) ? tails[length - 1] : -1); i >= 0; i = prev[i]) result[i] = true;
+        return result;
+    }
+
+    private static final class Ranges {
+        private int[] ranges = new int[16];
+        private int   count  = 0;
+
+        public boolean addAscending(int index) {
+            if((count > 0) && (ranges[count - 1] == (index - 1))) ranges[count - 1] = index;
+            else return add(index, index);
+            return true;
+        }
+
+        public boolean addDescending(int index) {
+            if((count > 0) && (ranges[count - 2] == (index + 1))) ranges[count - 2] = index;
+            else return add(index, index);
+            return true;
+        }
+
+        public int @NotNull [] toArray() {
+            return Arrays.copyOf(ranges, count);
+        }
+
+        private boolean add(int first, int last) {
+            if((count / 2) >= MAX_RANGES) return false;
+            if(count == ranges.length) ranges = Arrays.copyOf(ranges, (count * 2));
+            ranges[count++] = first;
+            ranges[count++] = last;
+            return true;
+        }
+    }
+}
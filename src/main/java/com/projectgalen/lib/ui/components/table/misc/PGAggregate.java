@@ -0,0 +1,33 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGAggregate.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+/**
+ * The aggregates a row model can declare for a column with {@link PGJTableRowModel#getColumnAggregate(int)}. They are shown in the aggregate footer of a
+ * {@link com.projectgalen.lib.ui.components.table.PGJTable}. <code>Sum</code>, <code>Average</code>, <code>Minimum</code>, and <code>Maximum</code> ignore
+ * <code>null</code> and non-numeric values, <code>Count</code> counts the values that are not <code>null</code>, and <code>Distinct</code> counts the different
+ * values that are not <code>null</code>.
+ */
+public enum PGAggregate {
+    Sum, Average, Minimum, Maximum, Count, Distinct
+}
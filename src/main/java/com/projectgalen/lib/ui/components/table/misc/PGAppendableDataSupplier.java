@@ -0,0 +1,90 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGAppendableDataSupplier.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A data supplier that only grows at the end, for example while a file is being loaded in the background. Each call to {@link #appendAll(Collection)} fires a
+ * single {@link com.projectgalen.lib.ui.events.PGDataSupplierEvent.EventType#RowsInserted} event. All methods must be called from the event dispatch thread.
+ *
+ * @param <T> The type of the items.
+ */
+@SuppressWarnings("unused")
+public class PGAppendableDataSupplier<T> extends AbstractPGDataSupplier<T> {
+
+    private final List<T> list;
+
+    public PGAppendableDataSupplier() {
+        this(16);
+    }
+
+    public PGAppendableDataSupplier(@Range(from = 0, to = Integer.MAX_VALUE) int initialCapacity) {
+        super();
+        this.list = new ArrayList<>(Math.max(0, initialCapacity));
+    }
+
+    public void append(T item) {
+        list.add(item);
+        fireRowsInserted(list.size() - 1, list.size() - 1);
+    }
+
+    public void appendAll(@NotNull Collection<? extends T> items) {
+        if(!items.isEmpty()) {
+            int first = list.size();
+            list.addAll(items);
+            fireRowsInserted(first, list.size() - 1);
+        }
+    }
+
+    public void clear() {
+        if(!list.isEmpty()) {
+            int last = (list.size() - 1);
+            list.clear();
+            fireRowsDeleted(0, last);
+        }
+    }
+
+    public @Override void forEach(@NotNull Consumer<? super T> consumer) {
+        list.forEach(consumer);
+    }
+
+    public @Override T get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        return list.get(index);
+    }
+
+    public @Override int size() {
+        return list.size();
+    }
+
+    public @Override @NotNull Stream<T> stream() {
+        return list.stream();
+    }
+}
@@ -0,0 +1,141 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGCellValueCache.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+
+/**
+ * A bounded, direct-mapped cache of table cell values keyed by (row, column). Each key hashes to exactly one slot so a lookup never allocates and a newer
+ * entry simply replaces whatever occupied its slot. Lookups and invalidations are thread safe.
+ */
+@SuppressWarnings("unused")
+public final class PGCellValueCache {
+
+    /**
+     * Returned by {@link #get(int, int)} when the cell is not in the cache.
+     */
+    public static final Object MISS = new Object();
+
+    private static final long   EMPTY      = -1L;
+    private static final Object NULL_VALUE = new Object();
+
+    private final long[]   keys;
+    private final Object[] values;
+    private final int      mask;
+    private       long     hits   = 0;
+    private       long     misses = 0;
+
+    public PGCellValueCache(@Range(from = 1, to = (1 << 30)) int capacity) {
+        int cap = Integer.highestOneBit(Math.max(1, Math.min(capacity, (1 << 30))));
+        if(cap < capacity) cap <<= 1;
+        this.keys   = new long[cap];
+        this.values = new Object[cap];
+        this.mask   = (cap - 1);
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+    }
+
+    /**
+     * Get the cached value of a cell.
+     *
+     * @param rowIndex    The row index.
+     * @param columnIndex The column index.
+     *
+     * @return The cached value (which may be <code>null</code>) or {@link #MISS} if the cell is not in the cache.
+     */
+    public synchronized @Nullable Object get(int rowIndex, int columnIndex) {
+        long key  = key(rowIndex, columnIndex);
+        int  slot = slot(key);
+        if(keys[slot] == key) {
+            hits++;
+            Object v = values[slot];
+            return ((v == NULL_VALUE) ? null : v);
+        }
+        misses++;
+        return MISS;
+    }
+
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    public synchronized double getHitRatio() {
+        long total = (hits + misses);
+        return ((total == 0) ? 0.0 : (((double)hits) / total));
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized void invalidate(int rowIndex, int columnIndex) {
+        long key  = key(rowIndex, columnIndex);
+        int  slot = slot(key);
+        if(keys[slot] == key) {
+            keys[slot]   = EMPTY;
+            values[slot] = null;
+        }
+    }
+
+    public synchronized void invalidateRows(int firstRow, int lastRow, int columnCount) {
+        long cells = ((((long)lastRow) - firstRow + 1) * columnCount);
+        if((firstRow < 0) || (cells <= 0) || (cells >= keys.length)) {
+            clear();
+        }
+        else {
+            for(int r = firstRow; r <= lastRow; r++) for(int c = 0; c < columnCount; c++) invalidate(r, c);
+        }
+    }
+
+    public synchronized void put(int rowIndex, int columnIndex, @Nullable Object value) {
+        long key  = key(rowIndex, columnIndex);
+        int  slot = slot(key);
+        keys[slot]   = key;
+        values[slot] = ((value == null) ? NULL_VALUE : value);
+    }
+
+    public synchronized void resetStatistics() {
+        hits   = 0;
+        misses = 0;
+    }
+
+    private int slot(long key) {
+        long h = (key * 0x9E3779B97F4A7C15L);
+        return (((int)(h ^ (h >>> 32))) & mask);
+    }
+
+    private static long key(int rowIndex, int columnIndex) {
+        return ((((long)rowIndex) << 32) | (columnIndex & 0xFFFFFFFFL));
+    }
+}
@@ -0,0 +1,480 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGDelimitedImporter.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.interfaces.PGRecordParser;
+import com.projectgalen.lib.ui.progressdialog.ProgressDialog;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import javax.swing.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static com.projectgalen.lib.ui.M.msgs;
+import static com.projectgalen.lib.ui.M.props;
+import static com.projectgalen.lib.utils.errors.Errors.makeRuntimeException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Loads a delimited file (CSV, TSV, ...) into a {@link PGAppendableDataSupplier} without reading the whole file first. The file is read in large buffers which
+ * are split at the last record boundary, and each chunk of records is parsed on a {@link ForkJoinPool} while the next one is being read. Parsed chunks are
+ * appended to the supplier on the event dispatch thread in file order as they complete, so the rows show up in the table while the import is running.
+ * <p>
+ * Fields may be quoted as described in RFC 4180, including line breaks inside quoted fields. The charset must encode the delimiter, the double quote, and the
+ * line feed as single bytes, which is true for UTF-8 and the ISO-8859 charsets.
+ *
+ * @param <T> The type of the rows.
+ */
+@SuppressWarnings("unused")
+public class PGDelimitedImporter<T> {
+
+    public static final int DEFAULT_BUFFER_SIZE = props.getInt("import.buffer.size");
+
+    private static final char QUOTE = '"';
+
+    private final    PGRecordParser<T> parser;
+    private          char              delimiter  = ',';
+    private          Charset           charset    = UTF_8;
+    private          boolean           hasHeader  = true;
+    private          int               bufferSize = DEFAULT_BUFFER_SIZE;
+    private          ForkJoinPool      pool       = ForkJoinPool.commonPool();
+    private volatile boolean           canceled   = false;
+
+    public PGDelimitedImporter(@NotNull PGRecordParser<T> parser) {
+        this.parser = Objects.requireNonNull(parser);
+    }
+
+    /**
+     * Cancels the import that is running. The thread running {@link #importFrom(ReadableByteChannel, long, PGAppendableDataSupplier, ProgressDialog)} will
+     * throw a {@link CancellationException} after the current chunk. Rows that were already appended stay in the supplier.
+     */
+    public void cancel() {
+        canceled = true;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public @NotNull Charset getCharset() {
+        return charset;
+    }
+
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    public @NotNull ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public boolean hasHeader() {
+        return hasHeader;
+    }
+
+    /**
+     * Imports the given file.
+     *
+     * @param path     The file.
+     * @param target   The supplier to append the rows to.
+     * @param progress An optional progress dialog to report progress to. Closing the dialog cancels the import.
+     *
+     * @return The number of records read, not counting the header line.
+     *
+     * @throws IOException           If an I/O error occurs or a record cannot be parsed.
+     * @throws CancellationException If the import was canceled.
+     */
+    public long importFile(@NotNull Path path, @NotNull PGAppendableDataSupplier<T> target, @Nullable ProgressDialog progress) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return importFrom(channel, channel.size(), target, progress);
+        }
+    }
+
+    /**
+     * Imports from the given input stream. The stream is not closed.
+     *
+     * @param in         The input stream.
+     * @param totalBytes The number of bytes expected, used for reporting progress, or a negative number if not known.
+     * @param target     The supplier to append the rows to.
+     * @param progress   An optional progress dialog to report progress to. Closing the dialog cancels the import.
+     *
+     * @return The number of records read, not counting the header line.
+     *
+     * @throws IOException           If an I/O error occurs or a record cannot be parsed.
+     * @throws CancellationException If the import was canceled.
+     */
+    public long importFrom(@NotNull InputStream in, long totalBytes, @NotNull PGAppendableDataSupplier<T> target, @Nullable ProgressDialog progress) throws IOException {
+        return importFrom(Channels.newChannel(in), totalBytes, target, progress);
+    }
+
+    /**
+     * Imports from the given channel. The channel is not closed. This should not be called on the event dispatch thread.
+     *
+     * @param channel    The channel.
+     * @param totalBytes The number of bytes expected, used for reporting progress, or a negative number if not known.
+     * @param target     The supplier to append the rows to.
+     * @param progress   An optional progress dialog to report progress to. Closing the dialog cancels the import.
+     *
+     * @return The number of records read, not counting the header line.
+     *
+     * @throws IOException           If an I/O error occurs or a record cannot be parsed.
+     * @throws CancellationException If the import was canceled.
+     */
+    public long importFrom(@NotNull ReadableByteChannel channel,
+                           long totalBytes,
+                           @NotNull PGAppendableDataSupplier<T> target,
+                           @Nullable ProgressDialog progress) throws IOException {
+        canceled = false;
+
+        ArrayDeque<ForkJoinTask<List<T>>> window        = new ArrayDeque<>();
+        int                               maxAhead      = Math.max(2, (pool.getParallelism() * 2));
+        ByteBuffer                        buffer        = ByteBuffer.allocate(Math.max(1024, bufferSize));
+        boolean                           headerPending = hasHeader;
+        RecordScanner                     scanner       = new RecordScanner(delimiterByte());
+        boolean                           eof           = false;
+        int                               scanned       = 0;
+        long                              bytesRead     = 0;
+        long                              recordIndex   = 0;
+        int                               percent       = -1;
+
+        if(progress != null) {
+            progress.setProgressMin(0);
+            progress.setProgressMax(100);
+        }
+
+        try {
+            while(!eof) {
+                checkCanceled(progress);
+
+                while(buffer.hasRemaining()) {
+                    int n = channel.read(buffer);
+                    if(n < 0) { eof = true; break; }
+                    bytesRead += n;
+                }
+
+                int  limit   = buffer.position();
+                int  end     = 0;
+                long records = 0;
+
+                for(int i = scanned; i < limit; i++) {
+                    if(scanner.endsRecord(buffer.get(i))) { end = (i + 1); records++; }
+                }
+                scanned = limit;
+                if(eof && (limit > end)) { end = limit; records++; }
+
+                if(end > 0) {
+                    byte[] chunk = new byte[end];
+                    buffer.get(0, chunk);
+                    buffer.limit(limit).position(end);
+                    buffer.compact();
+                    scanned -= end;
+
+                    int offset = 0;
+                    if(headerPending) {
+                        List<String> fields = new ArrayList<>();
+                        offset = headerLength(chunk);
+                        parseRecord(new String(chunk, 0, offset, charset), 0, fields, new StringBuilder());
+                        parser.header(fields.toArray(String[]::new));
+                        headerPending = false;
+                        records--;
+                    }
+
+                    window.add(submitChunk(chunk, offset, recordIndex));
+                    recordIndex += records;
+                    while(window.size() >= maxAhead) publish(target, join(Objects.requireNonNull(window.poll())));
+                }
+                else if(!buffer.hasRemaining()) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                }
+
+                int p = ((totalBytes > 0) ? (int)Math.min(100L, ((bytesRead * 100L) / totalBytes)) : 0);
+                if((progress != null) && (p != percent)) progress.setProgress(percent = p);
+            }
+
+            while(!window.isEmpty()) {
+                checkCanceled(progress);
+                publish(target, join(Objects.requireNonNull(window.poll())));
+            }
+
+            if(progress != null) progress.setProgress(100);
+            return recordIndex;
+        }
+        finally {
+            window.forEach(task -> task.cancel(true));
+        }
+    }
+
+    public void setBufferSize(@Range(from = 1024, to = Integer.MAX_VALUE) int bufferSize) {
+        this.bufferSize = Math.max(1024, bufferSize);
+    }
+
+    public void setCharset(@NotNull Charset charset) {
+        this.charset = Objects.requireNonNull(charset);
+    }
+
+    public void setDelimiter(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    public void setHasHeader(boolean hasHeader) {
+        this.hasHeader = hasHeader;
+    }
+
+    public void setPool(@NotNull ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    private void checkCanceled(@Nullable ProgressDialog progress) {
+        if((progress != null) && progress.isCanceled()) canceled = true;
+        if(canceled) throw new CancellationException();
+    }
+
+    private byte delimiterByte() {
+        return String.valueOf(delimiter).getBytes(charset)[0];
+    }
+
+    private int headerLength(byte @NotNull [] chunk) {
+        RecordScanner scanner = new RecordScanner(delimiterByte());
+        for(int i = 0; i < chunk.length; i++) if(scanner.endsRecord(chunk[i])) return (i + 1);
+        return chunk.length;
+    }
+
+    private @NotNull List<T> parseChunk(byte @NotNull [] chunk, int offset, long firstIndex) throws IOException {
+        String        text   = new String(chunk, offset, (chunk.length - offset), charset);
+        List<T>       rows   = new ArrayList<>();
+        List<String>  fields = new ArrayList<>();
+        StringBuilder field  = new StringBuilder();
+        long          index  = firstIndex;
+
+        for(int pos = 0, len = text.length(); pos < len; index++) {
+            if(canceled) throw new CancellationException();
+            pos = parseRecord(text, pos, fields, field);
+            if((fields.size() == 1) && fields.get(0).isEmpty()) continue;
+
+            try {
+                T item = parser.parse(fields.toArray(String[]::new), index);
+                if(item != null) rows.add(item);
+            }
+            catch(Exception e) {
+                throw new IOException(msgs.format("msg.err.import.bad_record", (index + 1), e.getMessage()), e);
+            }
+        }
+
+        return rows;
+    }
+
+    private int parseRecord(@NotNull String text, int pos, @NotNull List<String> fields, @NotNull StringBuilder field) {
+        int     len       = text.length();
+        boolean quoted    = false;
+        boolean wasQuoted = false;
+
+        fields.clear();
+        field.setLength(0);
+
+        while(pos < len) {
+            char ch = text.charAt(pos++);
+
+            if(quoted) {
+                if(ch != QUOTE) field.append(ch);
+                else if((pos < len) && (text.charAt(pos) == QUOTE)) { field.append(QUOTE); pos++; }
+                else quoted = false;
+            }
+            else if((ch == QUOTE) && !wasQuoted && (field.length() == 0)) {
+                quoted    = true;
+                wasQuoted = true;
+            }
+            else if(ch == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            }
+            else if(ch == '\n') {
+                break;
+            }
+            else if((ch != '\r') || ((pos < len) && (text.charAt(pos) != '\n'))) {
+                field.append(ch);
+            }
+        }
+
+        fields.add(field.toString());
+        return pos;
+    }
+
+    private void publish(@NotNull PGAppendableDataSupplier<T> target, @NotNull List<T> rows) {
+        if(!rows.isEmpty()) SwingUtilities.invokeLater(() -> target.appendAll(rows));
+    }
+
+    private @NotNull ForkJoinTask<List<T>> submitChunk(byte @NotNull [] chunk, int offset, long firstIndex) {
+        return pool.submit(() -> parseChunk(chunk, offset, firstIndex));
+    }
+
+    /**
+     * Returns a parser that creates items with the given factory and sets their fields with
+     * {@link PGJTableRowModel#setColumnValue(Object, int, int, Object)}. If the file has a header line its names are matched to the row model's column names,
+     * ignoring case, otherwise the fields are assigned to the columns in order. Field values are converted to the column's class; empty fields become
+     * <code>null</code> and are skipped for primitive columns.
+     *
+     * @param rowModel The row model.
+     * @param factory  Creates a new, empty item.
+     * @param <T>      The type of the items.
+     *
+     * @return The parser.
+     */
+    public static <T> @NotNull PGRecordParser<T> forRowModel(@NotNull PGJTableRowModel<T> rowModel, @NotNull Supplier<T> factory) {
+        return new RowModelParser<>(rowModel, factory);
+    }
+
+    private static <T> @NotNull List<T> join(@NotNull ForkJoinTask<List<T>> task) throws IOException {
+        try {
+            return task.get();
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        }
+        catch(ExecutionException e) {
+            // The pool wraps checked exceptions thrown by the parsing task in a RuntimeException.
+            for(Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if(cause instanceof CancellationException ce) throw ce;
+                if(cause instanceof IOException ioe) throw ioe;
+            }
+            throw makeRuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Finds the ends of records in the raw bytes by the same rules {@link #parseRecord(String, int, List, StringBuilder)} uses: a double quote only opens a
+     * quoted field when it is the first character of the field, and two double quotes inside a quoted field stand for one. The state carries over from one
+     * buffer to the next.
+     */
+    private static final class RecordScanner {
+        private final byte    delimiter;
+        private       boolean quoted     = false;
+        private       boolean closing    = false;
+        private       boolean fieldStart = true;
+
+        RecordScanner(byte delimiter) {
+            this.delimiter = delimiter;
+        }
+
+        boolean endsRecord(byte b) {
+            if(closing) {
+                closing = false;
+                if(b == QUOTE) {
+                    quoted = true;
+                    return false;
+                }
+            }
+            if(quoted) {
+                if(b == QUOTE) {
+                    quoted  = false;
+                    closing = true;
+                }
+                return false;
+            }
+            if((b == '\n') || (b == delimiter)) {
+                fieldStart = true;
+                return (b == '\n');
+            }
+            if((b == QUOTE) && fieldStart) quoted = true;
+            fieldStart = false;
+            return false;
+        }
+    }
+
+    private static final class RowModelParser<T> implements PGRecordParser<T> {
+        private final    PGJTableRowModel<T> rowModel;
+        private final    Supplier<T>         factory;
+        private final    Class<?>[]          classes;
+        private volatile int[]               columns;
+
+        public RowModelParser(@NotNull PGJTableRowModel<T> rowModel, @NotNull Supplier<T> factory) {
+            this.rowModel = rowModel;
+            this.factory  = factory;
+            this.classes  = IntStream.range(0, rowModel.getColumnCount()).mapToObj(rowModel::getColumnClass).toArray(Class<?>[]::new);
+            this.columns  = IntStream.range(0, classes.length).toArray();
+        }
+
+        public @Override void header(@NotNull String @NotNull [] names) {
+            columns = IntStream.range(0, names.length)
+                               .map(i -> IntStream.range(0, classes.length).filter(c -> names[i].trim().equalsIgnoreCase(rowModel.getColumnName(c))).findFirst().orElse(-1))
+                               .toArray();
+        }
+
+        public @Override T parse(@NotNull String @NotNull [] fields, long index) throws Exception {
+            T     item = factory.get();
+            int[] cols = columns;
+
+            for(int i = 0, j = Math.min(fields.length, cols.length); i < j; i++) {
+                int c = cols[i];
+                if(c >= 0) {
+                    Object value = convert(fields[i], classes[c]);
+                    if((value != null) || !classes[c].isPrimitive()) rowModel.setColumnValue(item, -1, c, value);
+                }
+            }
+
+            return item;
+        }
+
+        private static @Nullable Object convert(@NotNull String s, @NotNull Class<?> cls) {
+            if((cls == String.class) || (cls == Object.class)) return s;
+
+            String t = s.trim();
+            if(t.isEmpty()) return null;
+            if((cls == Integer.class) || (cls == int.class)) return Integer.valueOf(t);
+            if((cls == Long.class) || (cls == long.class)) return Long.valueOf(t);
+            if((cls == Double.class) || (cls == double.class)) return Double.valueOf(t);
+            if((cls == Float.class) || (cls == float.class)) return Float.valueOf(t);
+            if((cls == Short.class) || (cls == short.class)) return Short.valueOf(t);
+            if((cls == Byte.class) || (cls == byte.class)) return Byte.valueOf(t);
+            if((cls == Boolean.class) || (cls == boolean.class)) return Boolean.valueOf(t);
+            if((cls == Character.class) || (cls == char.class)) return t.charAt(0);
+            if(cls == BigDecimal.class) return new BigDecimal(t);
+            if(cls.isEnum()) {
+                for(Object e : cls.getEnumConstants()) if(((Enum<?>)e).name().equals(t) || e.toString().equals(t)) return e;
+                throw new IllegalArgumentException(t);
+            }
+            return s;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGFilteredDataSupplier.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.events.PGDataSupplierEvent;
+import com.projectgalen.lib.ui.interfaces.PGDataSupplier;
+import com.projectgalen.lib.ui.listeners.PGDataSupplierListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.projectgalen.lib.ui.UI.invokeLater2;
+import static javax.swing.SwingUtilities.invokeLater;
+
+/**
+ * A data supplier that shows the items of another data supplier that pass a filter. The filter is evaluated in parallel on a {@link ForkJoinPool} and the
+ * result, an <code>int[]</code> of the indexes of the matching items in the source supplier, is published on the event dispatch thread followed by a
+ * {@link PGDataSupplierEvent.EventType#DataChanged} event. Until then the previous result stays visible.
+ * <p>
+ * Setting a new filter cancels one that is still running. If the caller knows that the new filter only narrows the previous one, for example when the user
+ * types another character into a quick-filter field, {@link #setFilter(Predicate, boolean)} only tests the items that passed the previous filter instead of
+ * rescanning the whole source.
+ * <p>
+ * Small changes to the source are applied right away on the event dispatch thread. Larger ones cause the filter to be run again in the background. The items
+ * are read on the pool's threads so the source must allow reads from threads other than the event dispatch thread. Items that the source reports as not
+ * available are not tested and always pass so that the filter never causes them to be loaded.
+ *
+ * @param <T> The type of the items.
+ */
+@SuppressWarnings("unused")
+public class PGFilteredDataSupplier<T> extends AbstractPGDataSupplier<T> {
+
+    private static final int SYNC_THRESHOLD = 4096;
+
+    private final    PGDataSupplier<T>      source;
+    private final    ForkJoinPool           pool;
+    private final    PGDataSupplierListener sourceListener   = this::onSourceEvent;
+    private          Predicate<? super T>   filter           = null;
+    private          Predicate<? super T>   publishedFilter  = null;
+    private volatile int[]                  index            = null;
+    private          boolean                narrowsPublished = false;
+    private          boolean                filtering        = false;
+    private volatile int                    generation       = 0;
+
+    public PGFilteredDataSupplier(@NotNull PGDataSupplier<T> source) {
+        this(source, null);
+    }
+
+    public PGFilteredDataSupplier(@NotNull PGDataSupplier<T> source, @Nullable ForkJoinPool pool) {
+        super();
+        this.source = source;
+        this.pool   = Objects.requireNonNullElseGet(pool, ForkJoinPool::commonPool);
+        this.source.addDataSupplierListener(sourceListener);
+    }
+
+    /**
+     * Returns the index, in the source supplier, of the item at the given index.
+     *
+     * @param index The index of the item in this supplier.
+     *
+     * @return The index of the item in the source supplier.
+     */
+    public int convertIndexToSource(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        int[] idx = this.index;
+        return ((idx == null) ? index : idx[index]);
+    }
+
+    /**
+     * Stop listening to the source supplier and cancel any running filter.
+     */
+    public void dispose() {
+        generation++;
+        source.removeDataSupplierListener(sourceListener);
+    }
+
+    public @Override void forEach(@NotNull Consumer<? super T> consumer) {
+        stream().forEach(consumer);
+    }
+
+    public @Override T get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        return source.get(convertIndexToSource(index));
+    }
+
+    public @Nullable Predicate<? super T> getFilter() {
+        return filter;
+    }
+
+    public @NotNull PGDataSupplier<T> getSource() {
+        return source;
+    }
+
+    public @Override boolean isAvailable(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        return source.isAvailable(convertIndexToSource(index));
+    }
+
+    /**
+     * Returns <code>true</code> if a filter is running in the background.
+     *
+     * @return <code>true</code> if a filter is running.
+     */
+    public boolean isFiltering() {
+        return filtering;
+    }
+
+    public @Override T load(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        return source.load(convertIndexToSource(index));
+    }
+
+    public @Override void prefetch(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        source.prefetch(convertIndexToSource(index));
+    }
+
+    public @Override @NotNull IntFunction<T> reader() {
+        IntFunction<T> reader = source.reader();
+        return index -> reader.apply(convertIndexToSource(index));
+    }
+
+    /**
+     * Set the filter. Must be called from the event dispatch thread.
+     *
+     * @param filter The filter or <code>null</code> to show all the items of the source supplier.
+     */
+    public void setFilter(@Nullable Predicate<? super T> filter) {
+        setFilter(filter, false);
+    }
+
+    /**
+     * Set the filter. Must be called from the event dispatch thread.
+     *
+     * @param filter  The filter or <code>null</code> to show all the items of the source supplier.
+     * @param narrows <code>true</code> if every item that passes the new filter also passes the previous one. In that case only the items that passed the
+     *                previous filter are tested.
+     */
+    public void setFilter(@Nullable Predicate<? super T> filter, boolean narrows) {
+        narrowsPublished = (narrows && (!filtering || narrowsPublished));
+        this.filter      = filter;
+        generation++;
+
+        if(filter == null) {
+            filtering       = false;
+            publishedFilter = null;
+            if(index != null) {
+                index = null;
+                fireDataChanged();
+            }
+        }
+        else {
+            startFilter();
+        }
+    }
+
+    public @Override int size() {
+        int[] idx = index;
+        return ((idx == null) ? source.size() : idx.length);
+    }
+
+    public @Override @NotNull Stream<T> stream() {
+        int[] idx = index;
+        return ((idx == null) ? source.stream() : IntStream.of(idx).mapToObj(source::get));
+    }
+
+    private void onFilterFinished(int gen, int @Nullable [] result, @Nullable RuntimeException error) {
+        if(gen == generation) {
+            filtering = false;
+            if(error != null) {
+                error.printStackTrace(System.err);
+            }
+            else if(result != null) {
+                index           = result;
+                publishedFilter = filter;
+                fireDataChanged();
+            }
+        }
+    }
+
+    private void onSourceDataChanged() {
+        // The old index says nothing about the new items so nothing is shown until the filter has run over them.
+        index            = new int[0];
+        narrowsPublished = false;
+        restartFilter();
+        fireDataChanged();
+    }
+
+    private void onSourceEvent(@NotNull PGDataSupplierEvent e) {
+        invokeLater2(() -> {
+            if(index == null) {
+                // Nothing has been filtered out yet so the rows are the same as the source's.
+                fireDataSupplierEvent(new PGDataSupplierEvent(this, e.getEventType(), e.getFirstRow(), e.getLastRow()));
+                if(filtering) restartFilter();
+            }
+            else {
+                switch(e.getEventType()) {/*@f0*/
+                    case RowsUpdated  -> onSourceRowsUpdated(e.getFirstRow(), e.getLastRow());
+                    case RowsInserted -> onSourceRowsInserted(e.getFirstRow(), e.getLastRow());
+                    case RowsDeleted  -> onSourceRowsDeleted(e.getFirstRow(), e.getLastRow());
+                    case DataChanged  -> onSourceDataChanged();
+                }/*@f1*/
+            }
+        });
+    }
+
+    private void onSourceRowsDeleted(int first, int last) {
+        int[] idx   = index;
+        int   count = (last - first + 1);
+        int   from  = lowerBound(idx, first);
+        int   to    = lowerBound(idx, last + 1);
+        int[] ndx   = new int[idx.length - (to - from)];
+
+        System.arraycopy(idx, 0, ndx, 0, from);
+        for(int i = to; i < idx.length; i++) ndx[from + i - to] = (idx[i] - count);
+        index = ndx;
+        if(to > from) fireRowsDeleted(from, to - 1);
+        if(filtering) restartFilter();
+    }
+
+    private void onSourceRowsInserted(int first, int last) {
+        int[] idx    = index;
+        int   count  = (last - first + 1);
+        int   at     = lowerBound(idx, first);
+        int[] passed = ((count <= SYNC_THRESHOLD) ? IntStream.rangeClosed(first, last).filter(i -> test(publishedFilter, i)).toArray() : new int[0]);
+        int[] ndx    = new int[idx.length + passed.length];
+
+        System.arraycopy(idx, 0, ndx, 0, at);
+        System.arraycopy(passed, 0, ndx, at, passed.length);
+        for(int i = at; i < idx.length; i++) ndx[i + passed.length] = (idx[i] + count);
+        index = ndx;
+        if(passed.length > 0) fireRowsInserted(at, (at + passed.length - 1));
+        if(count > SYNC_THRESHOLD) {
+            // The new rows were not tested so they are not in the published index and it cannot be refined from.
+            narrowsPublished = false;
+            restartFilter();
+        }
+        else if(filtering) restartFilter();
+    }
+
+    private void onSourceRowsUpdated(int first, int last) {
+        int[] idx   = index;
+        int   count = (last - first + 1);
+
+        if(count > SYNC_THRESHOLD) {
+            narrowsPublished = false;
+            restartFilter();
+        }
+        else {
+            int   from   = lowerBound(idx, first);
+            int   to     = lowerBound(idx, last + 1);
+            int[] passed = IntStream.rangeClosed(first, last).filter(i -> test(publishedFilter, i)).toArray();
+
+            if(Arrays.equals(idx, from, to, passed, 0, passed.length)) {
+                if(to > from) fireRowsUpdated(from, to - 1);
+            }
+            else {
+                int[] ndx = new int[idx.length - (to - from) + passed.length];
+                System.arraycopy(idx, 0, ndx, 0, from);
+                System.arraycopy(passed, 0, ndx, from, passed.length);
+                System.arraycopy(idx, to, ndx, from + passed.length, idx.length - to);
+                index = ndx;
+                fireDataChanged();
+            }
+
+            if(filtering) restartFilter();
+        }
+    }
+
+    private void restartFilter() {
+        // The source changed under the running filter so its result would be stale. Unless the caller cleared narrowsPublished, the published index has
+        // already been adjusted for the change and a filter that narrows the published one can still be refined from it.
+        generation++;
+        if(filter != null) startFilter();
+    }
+
+    private void runFilter(int gen, @NotNull Predicate<? super T> filter, int @Nullable [] base) {
+        int[]            result = null;
+        RuntimeException error  = null;
+
+        try {
+            IntStream rows = ((base == null) ? IntStream.range(0, source.size()) : IntStream.of(base));
+            result = rows.parallel().filter(i -> {
+                if(((i & 0xfff) == 0) && (gen != generation)) throw new CancellationException();
+                return test(filter, i);
+            }).toArray();
+        }
+        catch(CancellationException ignored) {
+            // A newer filter replaced this one.
+        }
+        catch(RuntimeException e) {
+            error = e;
+        }
+
+        int[]            r   = result;
+        RuntimeException err = error;
+        invokeLater(() -> onFilterFinished(gen, r, err));
+    }
+
+    private void startFilter() {
+        int                  gen  = generation;
+        int[]                base = ((narrowsPublished && (publishedFilter != null)) ? index : null);
+        Predicate<? super T> f    = filter;
+
+        filtering = true;
+        pool.execute(() -> runFilter(gen, f, base));
+    }
+
+    private boolean test(@Nullable Predicate<? super T> filter, int sourceIndex) {
+        return ((filter == null) || !source.isAvailable(sourceIndex) || filter.test(source.get(sourceIndex)));
+    }
+
+    private static int lowerBound(int @NotNull [] idx, int value) {
+        int i = Arrays.binarySearch(idx, value);
+        return ((i < 0) ? -(i + 1) : i);
+    }
+}
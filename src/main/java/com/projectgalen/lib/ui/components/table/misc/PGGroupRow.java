@@ -0,0 +1,112 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGGroupRow.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A row of a {@link PGGroupedDataSupplier}: either the header row of a group or one of its members.
+ *
+ * @param <T> The type of the source items.
+ */
+@SuppressWarnings("unused")
+public final class PGGroupRow<T> {
+
+    private final int      group;
+    private final int      sourceRow;
+    private final T        item;
+    private final Object   key;
+    private final int      groupSize;
+    private final Object[] aggregates;
+
+    PGGroupRow(int group, @Nullable Object key, int groupSize, @Nullable Object @NotNull [] aggregates) {
+        this.group      = group;
+        this.sourceRow  = -1;
+        this.item       = null;
+        this.key        = key;
+        this.groupSize  = groupSize;
+        this.aggregates = aggregates;
+    }
+
+    PGGroupRow(int group, int sourceRow, @Nullable T item) {
+        this.group      = group;
+        this.sourceRow  = sourceRow;
+        this.item       = item;
+        this.key        = null;
+        this.groupSize  = 0;
+        this.aggregates = null;
+    }
+
+    /**
+     * Returns the value of the aggregate the source row model declares for the column, computed over the members of the group. Always <code>null</code> for
+     * member rows.
+     *
+     * @param columnIndex The column index.
+     *
+     * @return The aggregate's value.
+     */
+    public @Nullable Object getAggregate(int columnIndex) {
+        return (((aggregates != null) && (columnIndex >= 0) && (columnIndex < aggregates.length)) ? aggregates[columnIndex] : null);
+    }
+
+    public int getGroup() {
+        return group;
+    }
+
+    public int getGroupSize() {
+        return groupSize;
+    }
+
+    /**
+     * Returns the source item of a member row or <code>null</code> for a header row.
+     *
+     * @return The source item.
+     */
+    public @Nullable T getItem() {
+        return item;
+    }
+
+    /**
+     * Returns the group's key for a header row: the value of the grouping column, or a {@link java.util.List} of the values when grouping by more than one
+     * column.
+     *
+     * @return The key.
+     */
+    public @Nullable Object getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the row index of a member row in the source data supplier or -1 for a header row.
+     *
+     * @return The source row index.
+     */
+    public int getSourceRow() {
+        return sourceRow;
+    }
+
+    public boolean isHeader() {
+        return (sourceRow < 0);
+    }
+}
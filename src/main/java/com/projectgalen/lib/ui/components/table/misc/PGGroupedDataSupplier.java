@@ -0,0 +1,754 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGGroupedDataSupplier.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.UI;
+import com.projectgalen.lib.ui.events.PGDataSupplierEvent;
+import com.projectgalen.lib.ui.events.TableCellModelEvent;
+import com.projectgalen.lib.ui.interfaces.PGDataSupplier;
+import com.projectgalen.lib.ui.listeners.PGDataSupplierListener;
+import com.projectgalen.lib.ui.listeners.TableCellModelListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import javax.swing.*;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Shows the items of another data supplier grouped by the values of one or more columns, each group as a header row followed by its members while it is
+ * expanded. Use it with a {@link PGGroupedRowModel}, which renders the header rows with the group's key, size, and the aggregates the source row model
+ * declares.
+ * <p>
+ * The groups are computed in the background whenever rows are inserted into or deleted from the source, or an update changes a row's key: the rows are
+ * bucketed by key, the keys are sorted, and a permutation of the source rows ordered by group is built, so group <code>g</code> is the range
+ * <code>starts[g]</code> to <code>starts[g + 1]</code> of the permutation. The rows of the groups are never copied. A Fenwick tree over the number of visible
+ * rows of each group maps a row index to its group and offset, so expanding or collapsing a group only updates the tree and fires a single event, no matter
+ * how large the group is. Expanded groups stay expanded when the source changes, as long as their key still exists. Until the new groups are installed the
+ * permutation is shifted for each insert and delete right away: deleted rows leave their groups with a {@link PGDataSupplierEvent.EventType#RowsDeleted}
+ * event, and inserted rows join a group once the groups have been computed. Updates that leave the keys alone are applied right away: the rows are found
+ * through the permutation, a {@link PGDataSupplierEvent.EventType#RowsUpdated} event is fired for them, and only the aggregates of their groups are computed
+ * again.
+ * <p>
+ * Everything except reading the source in the background must happen on the event dispatch thread. Do not use a row sorter on a table showing this supplier.
+ *
+ * @param <T> The type of the source items.
+ */
+@SuppressWarnings("unused")
+public class PGGroupedDataSupplier<T> extends AbstractPGDataSupplier<PGGroupRow<T>> {
+
+    private final    PGDataSupplier<T>      source;
+    private final    PGJTableRowModel<T>    rowModel;
+    private final    PGDataSupplierListener sourceListener    = this::onSourceChanged;
+    private final    TableCellModelListener cellListener      = this::onSourceCellChanged;
+    private          int[]                  groupColumns;
+    private          boolean                expandedByDefault = false;
+    private          Grouping               grouping          = Grouping.EMPTY;
+    private          boolean[]              expanded          = new boolean[0];
+    private          Fenwick                visible           = new Fenwick(new int[0]);
+    private          PGGroupRow<T>[]        headers           = newHeaderArray(0);
+    private          boolean                regroupPending    = false;
+    private          boolean                computing         = false;
+    private volatile int                    generation        = 0;
+
+    public PGGroupedDataSupplier(@NotNull PGDataSupplier<T> source, @NotNull PGJTableRowModel<T> rowModel, int @NotNull ... groupColumns) {
+        super();
+        this.source       = source;
+        this.rowModel     = rowModel;
+        this.groupColumns = groupColumns.clone();
+        source.addDataSupplierListener(sourceListener);
+        rowModel.addTableCellModelListener(cellListener);
+        scheduleRegroup();
+    }
+
+    public void collapse(int group) {
+        if(expanded[group]) {
+            int size = grouping.size(group);
+            expanded[group] = false;
+            visible.add(group, -size);
+            int header = visible.prefix(group);
+            if(size > 0) fireRowsDeleted((header + 1), (header + size));
+            // The header shows whether the group is expanded.
+            fireRowsUpdated(header, header);
+        }
+    }
+
+    public void collapseAll() {
+        setAllExpanded(false);
+    }
+
+    /**
+     * Stops listening to the source and cancels any grouping that is running.
+     */
+    public void dispose() {
+        generation++;
+        source.removeDataSupplierListener(sourceListener);
+        rowModel.removeTableCellModelListener(cellListener);
+    }
+
+    public void expand(int group) {
+        if(!expanded[group]) {
+            int size = grouping.size(group);
+            expanded[group] = true;
+            visible.add(group, size);
+            int header = visible.prefix(group);
+            if(size > 0) fireRowsInserted((header + 1), (header + size));
+            fireRowsUpdated(header, header);
+        }
+    }
+
+    public void expandAll() {
+        setAllExpanded(true);
+    }
+
+    public @Override void forEach(@NotNull Consumer<? super PGGroupRow<T>> consumer) {
+        for(int i = 0, j = size(); i < j; i++) consumer.accept(get(i));
+    }
+
+    public @Override PGGroupRow<T> get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        int group  = visible.find(index);
+        int offset = (index - visible.prefix(group));
+        if(offset == 0) return header(group);
+        int sourceRow = grouping.perm[grouping.starts[group] + offset - 1];
+        return new PGGroupRow<>(group, sourceRow, sourceItem(sourceRow));
+    }
+
+    public int @NotNull [] getGroupColumns() {
+        return groupColumns.clone();
+    }
+
+    public int getGroupCount() {
+        return grouping.keys.length;
+    }
+
+    /**
+     * Returns the index of the group the given row belongs to.
+     *
+     * @param index The row index.
+     *
+     * @return The group index.
+     */
+    public int getGroupOf(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        return visible.find(index);
+    }
+
+    /**
+     * Returns the row index of the group's header row.
+     *
+     * @param group The group index.
+     *
+     * @return The row index.
+     */
+    public int getHeaderRow(int group) {
+        return visible.prefix(group);
+    }
+
+    public @NotNull PGJTableRowModel<T> getRowModel() {
+        return rowModel;
+    }
+
+    public @NotNull PGDataSupplier<T> getSource() {
+        return source;
+    }
+
+    public @Override boolean isAvailable(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        int group  = visible.find(index);
+        int offset = (index - visible.prefix(group));
+        if(offset == 0) return true;
+        int sourceRow = grouping.perm[grouping.starts[group] + offset - 1];
+        return ((sourceRow < source.size()) && source.isAvailable(sourceRow));
+    }
+
+    public boolean isExpanded(int group) {
+        return expanded[group];
+    }
+
+    public boolean isExpandedByDefault() {
+        return expandedByDefault;
+    }
+
+    /**
+     * Returns <code>true</code> while the groups are being computed in the background.
+     *
+     * @return <code>true</code> if the groups are being computed.
+     */
+    public boolean isGrouping() {
+        return computing;
+    }
+
+    public boolean isHeader(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        return (index == visible.prefix(visible.find(index)));
+    }
+
+    public @Override PGGroupRow<T> load(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        return read(index, source::load);
+    }
+
+    public @Override void prefetch(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        int group  = visible.find(index);
+        int offset = (index - visible.prefix(group));
+        if(offset == 0) return;
+        int sourceRow = grouping.perm[grouping.starts[group] + offset - 1];
+        if(sourceRow < source.size()) source.prefetch(sourceRow);
+    }
+
+    public @Override @NotNull IntFunction<PGGroupRow<T>> reader() {
+        IntFunction<T> reader = source.reader();
+        return index -> read(index, reader);
+    }
+
+    /**
+     * Sets whether groups that did not exist before are expanded when the groups are computed.
+     *
+     * @param expandedByDefault <code>true</code> to expand new groups.
+     */
+    public void setExpandedByDefault(boolean expandedByDefault) {
+        this.expandedByDefault = expandedByDefault;
+    }
+
+    /**
+     * Groups the rows by the given columns instead. The groups are computed in the background.
+     *
+     * @param groupColumns The source row model's column indexes. With no columns all the rows are in one group.
+     */
+    public void setGroupColumns(int @NotNull ... groupColumns) {
+        this.groupColumns = groupColumns.clone();
+        scheduleRegroup();
+    }
+
+    public @Override int size() {
+        return visible.total();
+    }
+
+    public @Override @NotNull Stream<PGGroupRow<T>> stream() {
+        return IntStream.range(0, size()).mapToObj(this::get);
+    }
+
+    /**
+     * Expands the group of the given row if it is collapsed, otherwise collapses it.
+     *
+     * @param index The row index.
+     */
+    public void toggle(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        int group = visible.find(index);
+        if(expanded[group]) collapse(group);
+        else expand(group);
+    }
+
+    /**
+     * Removes deleted source rows from their groups and shifts the rows after them, so the groups show the right rows until they have been computed again.
+     * The events are fired from the last group to the first, so the row indexes of the groups before each one stay valid.
+     *
+     * @param first The first deleted source row.
+     * @param last  The last deleted source row.
+     */
+    private void deleteRows(int first, int last) {
+        generation++;
+        scheduleRegroup();
+        if((first < 0) || (last < first) || (last >= grouping.pos.length)) return;
+
+        Grouping old = grouping;
+        grouping = old.withRowsDeleted(first, (last - first + 1));
+
+        for(int g = (old.keys.length - 1); g >= 0; g--) {
+            if(old.size(g) == grouping.size(g)) continue;
+            int header = visible.prefix(g);
+            headers[g] = null;
+            if(expanded[g]) {
+                for(int p = (old.starts[g + 1] - 1); p >= old.starts[g]; p--) {
+                    int end = p;
+                    while((p >= old.starts[g]) && (old.perm[p] >= first) && (old.perm[p] <= last)) p--;
+                    if(p < end) {
+                        visible.add(g, (p - end));
+                        fireRowsDeleted((header + 1 + (p + 1 - old.starts[g])), (header + 1 + (end - old.starts[g])));
+                    }
+                }
+            }
+            fireRowsUpdated(header, header);
+        }
+    }
+
+    private @NotNull PGGroupRow<T> header(int group) {
+        PGGroupRow<T> header = headers[group];
+        if(header == null) headers[group] = header = new PGGroupRow<>(group, grouping.keys[group], grouping.size(group), grouping.aggregates[group]);
+        return header;
+    }
+
+    /**
+     * Shifts the source rows after inserted ones, so the groups show the right rows until they have been computed again. The inserted rows are not in any
+     * group until then.
+     *
+     * @param first The first inserted source row.
+     * @param last  The last inserted source row.
+     */
+    private void insertRows(int first, int last) {
+        generation++;
+        scheduleRegroup();
+        if((first >= 0) && (last >= first) && (first <= grouping.pos.length)) grouping = grouping.withRowsInserted(first, (last - first + 1));
+    }
+
+    private void install(int gen, @NotNull Grouping newGrouping) {
+        if(gen != generation) return;
+
+        Map<Object, Boolean> previous = new HashMap<>();
+        for(int g = 0; g < grouping.keys.length; g++) previous.put(grouping.keys[g], expanded[g]);
+
+        grouping  = newGrouping;
+        computing = false;
+        expanded  = new boolean[grouping.keys.length];
+        headers   = newHeaderArray(grouping.keys.length);
+        for(int g = 0; g < expanded.length; g++) expanded[g] = previous.getOrDefault(grouping.keys[g], expandedByDefault);
+        visible = new Fenwick(visibleSizes());
+        fireDataChanged();
+    }
+
+    private void onSourceCellChanged(@NotNull TableCellModelEvent e) {
+        int     row      = e.getRowIndex();
+        int     column   = e.getColumnIndex();
+        boolean keyCell  = Arrays.stream(groupColumns).anyMatch(c -> (c == column));
+        boolean cellOnly = ((e.getEventType() == TableCellModelEvent.EventType.CellDataUpdated) && (row >= 0) && !keyCell);
+        SwingUtilities.invokeLater(() -> {
+            if(cellOnly) updateRows(row, row);
+            else scheduleRegroup();
+        });
+    }
+
+    private void onSourceChanged(@NotNull PGDataSupplierEvent e) {
+        int first = e.getFirstRow();
+        int last  = e.getLastRow();
+        // Inserts and deletes are applied at once on the event dispatch thread, before anything reads the rows through the old permutation.
+        switch(e.getEventType()) {/*@f0*/
+            case RowsUpdated  -> SwingUtilities.invokeLater(() -> updateRows(first, last));
+            case RowsInserted -> UI.invokeLater2(() -> insertRows(first, last));
+            case RowsDeleted  -> UI.invokeLater2(() -> deleteRows(first, last));
+            default           -> scheduleRegroup();
+        }/*@f1*/
+    }
+
+    private @NotNull PGGroupRow<T> read(int index, @NotNull IntFunction<T> reader) {
+        int group  = visible.find(index);
+        int offset = (index - visible.prefix(group));
+        if(offset == 0) return header(group);
+        int sourceRow = grouping.perm[grouping.starts[group] + offset - 1];
+        return new PGGroupRow<>(group, sourceRow, ((sourceRow < source.size()) ? reader.apply(sourceRow) : null));
+    }
+
+    private void regroup() {
+        int                 gen       = ++generation;
+        int[]               columns   = groupColumns.clone();
+        PGDataSupplier<T>   src       = source;
+        PGJTableRowModel<T> model     = rowModel;
+        int                 rows      = source.size();
+        BooleanSupplier     cancelled = () -> (gen != generation);
+
+        computing = true;
+        CompletableFuture.supplyAsync(() -> Grouping.compute(src, model, columns, rows, cancelled), ForkJoinPool.commonPool()).whenComplete((g, ex) -> {
+            Throwable cause = (((ex instanceof CompletionException) && (ex.getCause() != null)) ? ex.getCause() : ex);
+            if((cause != null) && !(cause instanceof CancellationException)) cause.printStackTrace(System.err);
+            if(g != null) SwingUtilities.invokeLater(() -> install(gen, g));
+        });
+    }
+
+    private void scheduleRegroup() {
+        SwingUtilities.invokeLater(() -> {
+            if(!regroupPending) {
+                regroupPending = true;
+                SwingUtilities.invokeLater(() -> {
+                    regroupPending = false;
+                    regroup();
+                });
+            }
+        });
+    }
+
+    private void setAllExpanded(boolean expand) {
+        Arrays.fill(expanded, expand);
+        visible = new Fenwick(visibleSizes());
+        fireDataChanged();
+    }
+
+    /**
+     * Applies an update of source rows without regrouping if none of the rows changed its key. The groups are otherwise computed again, as they are if a
+     * regroup is already pending or running, since that one may have read the rows before they changed.
+     *
+     * @param first The first source row.
+     * @param last  The last source row.
+     */
+    private void updateRows(int first, int last) {
+        if(regroupPending || computing || (first < 0) || (last < first) || (last >= grouping.pos.length)) {
+            scheduleRegroup();
+            return;
+        }
+
+        int[] lastOffset = new int[grouping.keys.length];
+        Arrays.fill(lastOffset, -1);
+
+        for(int row = first; row <= last; row++) {
+            int p = grouping.pos[row];
+            if(p < 0) {
+                // An inserted row that is not in a group yet.
+                scheduleRegroup();
+                return;
+            }
+            int g = grouping.groupAt(p);
+            if(!Objects.equals(Grouping.key(rowModel, sourceItem(row), groupColumns), grouping.keys[g])) {
+                scheduleRegroup();
+                return;
+            }
+            lastOffset[g] = Math.max(lastOffset[g], (p - grouping.starts[g]));
+        }
+
+        PGAggregate[] declared = Grouping.declared(rowModel);
+        for(int g = 0; g < lastOffset.length; g++) {
+            if(lastOffset[g] >= 0) {
+                grouping.aggregates[g] = Grouping.groupAggregates(source, rowModel, declared, grouping.perm, grouping.starts[g], grouping.starts[g + 1]);
+                headers[g]             = null;
+                int header = visible.prefix(g);
+                fireRowsUpdated(header, (header + (expanded[g] ? (lastOffset[g] + 1) : 0)));
+            }
+        }
+    }
+
+    private @Nullable T sourceItem(int sourceRow) {
+        return (((sourceRow < source.size()) && source.isAvailable(sourceRow)) ? source.get(sourceRow) : null);
+    }
+
+    private int @NotNull [] visibleSizes() {
+        return IntStream.range(0, expanded.length).map(g -> (1 + (expanded[g] ? grouping.size(g) : 0))).toArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> PGGroupRow<T>[] newHeaderArray(int size) {
+        return (PGGroupRow<T>[])new PGGroupRow[size];
+    }
+
+    /**
+     * The result of grouping the source: the source rows ordered by group, where each group starts, and each group's key and aggregates.
+     */
+    private static final class Grouping {
+        public static final Grouping EMPTY = new Grouping(new int[0], new int[1], new Object[0], new Object[0][], 0);
+
+        public final int[]      perm;
+        public final int[]      pos;
+        public final int[]      starts;
+        public final Object[]   keys;
+        public final Object[][] aggregates;
+
+        /**
+         * @param rowCount The number of source rows. Rows that are not in the permutation have a position of -1.
+         */
+        public Grouping(int @NotNull [] perm,
+                        int @NotNull [] starts,
+                        @Nullable Object @NotNull [] keys,
+                        @Nullable Object @NotNull [] @NotNull [] aggregates,
+                        int rowCount) {
+            this.perm       = perm;
+            this.pos        = new int[rowCount];
+            this.starts     = starts;
+            this.keys       = keys;
+            this.aggregates = aggregates;
+            Arrays.fill(pos, -1);
+            for(int i = 0; i < perm.length; i++) pos[perm[i]] = i;
+        }
+
+        /**
+         * Returns the group containing the given position of the permutation.
+         */
+        public int groupAt(int position) {
+            int i = Arrays.binarySearch(starts, position);
+            return ((i >= 0) ? i : (-i - 2));
+        }
+
+        public int size(int group) {
+            return (starts[group + 1] - starts[group]);
+        }
+
+        /**
+         * Returns a copy without the given source rows and with the rows after them moved up.
+         */
+        public @NotNull Grouping withRowsDeleted(int first, int count) {
+            int   last      = (first + count - 1);
+            int[] newStarts = new int[starts.length];
+            int[] newPerm   = new int[perm.length];
+            int   n         = 0;
+
+            for(int g = 0; g < keys.length; g++) {
+                newStarts[g] = n;
+                for(int p = starts[g]; p < starts[g + 1]; p++) {
+                    int row = perm[p];
+                    if(row < first) newPerm[n++] = row;
+                    else if(row > last) newPerm[n++] = (row - count);
+                }
+            }
+            newStarts[keys.length] = n;
+
+            return new Grouping(Arrays.copyOf(newPerm, n), newStarts, keys, aggregates, (pos.length - count));
+        }
+
+        /**
+         * Returns a copy with the source rows from the given one on moved down to make room for inserted rows, which are in no group.
+         */
+        public @NotNull Grouping withRowsInserted(int first, int count) {
+            int[] newPerm = perm.clone();
+            for(int p = 0; p < newPerm.length; p++) if(newPerm[p] >= first) newPerm[p] += count;
+            return new Grouping(newPerm, starts, keys, aggregates, (pos.length + count));
+        }
+
+        public static <T> @NotNull Grouping compute(@NotNull PGDataSupplier<T> source,
+                                                    @NotNull PGJTableRowModel<T> rowModel,
+                                                    int @NotNull [] columns,
+                                                    int rowCount,
+                                                    @NotNull BooleanSupplier cancelled) {
+            Map<Object, Integer> ids     = new HashMap<>();
+            List<Object>         keys    = new ArrayList<>();
+            int[]                groupOf = new int[rowCount];
+            int[]                counts  = new int[16];
+
+            for(int row = 0; row < rowCount; row++) {
+                if(((row & 0xfff) == 0) && cancelled.getAsBoolean()) throw new CancellationException();
+                Object  key = key(rowModel, item(source, row), columns);
+                Integer id  = ids.get(key);
+                if(id == null) {
+                    ids.put(key, id = keys.size());
+                    keys.add(key);
+                    if(id == counts.length) counts = Arrays.copyOf(counts, (counts.length * 2));
+                }
+                groupOf[row] = id;
+                counts[id]++;
+            }
+
+            int      groupCount = keys.size();
+            int[]    rank       = new int[groupCount];
+            int[]    starts     = new int[groupCount + 1];
+            Object[] sortedKeys = new Object[groupCount];
+            int[]    order      = IntStream.range(0, groupCount).boxed().sorted((a, b) -> compareKeys(keys.get(a), keys.get(b))).mapToInt(i -> i).toArray();
+
+            for(int i = 0; i < groupCount; i++) {
+                rank[order[i]] = i;
+                sortedKeys[i]  = keys.get(order[i]);
+                starts[i + 1]  = (starts[i] + counts[order[i]]);
+            }
+
+            int[] fill = Arrays.copyOf(starts, groupCount);
+            int[] perm = new int[rowCount];
+            for(int row = 0; row < rowCount; row++) perm[fill[rank[groupOf[row]]]++] = row;
+
+            return new Grouping(perm, starts, sortedKeys, aggregates(source, rowModel, perm, starts, cancelled), rowCount);
+        }
+
+        private static <T> @Nullable Object aggregate(@NotNull PGDataSupplier<T> source,
+                                                      @NotNull PGJTableRowModel<T> rowModel,
+                                                      @NotNull PGAggregate aggregate,
+                                                      int column,
+                                                      int @NotNull [] perm,
+                                                      int first,
+                                                      int end) {
+            Set<Object> distinct     = ((aggregate == PGAggregate.Distinct) ? new HashSet<>() : null);
+            double      sum          = 0.0;
+            double      compensation = 0.0;
+            double      min          = Double.POSITIVE_INFINITY;
+            double      max          = Double.NEGATIVE_INFINITY;
+            BigDecimal  exactSum     = BigDecimal.ZERO;
+            BigDecimal  exactMin     = null;
+            BigDecimal  exactMax     = null;
+            boolean     exact        = true;
+            long        numbers      = 0;
+            long        count        = 0;
+
+            for(int i = first; i < end; i++) {
+                T      item  = item(source, perm[i]);
+                Object value = ((item == null) ? null : rowModel.getColumnValue(item, column));
+                if(value != null) {
+                    count++;
+                    if(distinct != null) distinct.add(value);
+                    if(value instanceof Number n) {
+                        double d = n.doubleValue();
+                        double y = (d - compensation);
+                        double t = (sum + y);
+                        compensation = ((t - sum) - y);
+                        sum          = t;
+                        numbers++;
+                        min = Math.min(min, d);
+                        max = Math.max(max, d);
+                        // Currency amounts are also summed exactly, so the total of a group is never off by a cent.
+                        if(exact && (value instanceof BigDecimal bd)) {
+                            exactSum = exactSum.add(bd);
+                            if((exactMin == null) || (bd.compareTo(exactMin) < 0)) exactMin = bd;
+                            if((exactMax == null) || (bd.compareTo(exactMax) > 0)) exactMax = bd;
+                        }
+                        else {
+                            exact = false;
+                        }
+                    }
+                }
+            }
+
+            if(exact && (numbers > 0)) {
+                return switch(aggregate) {/*@f0*/
+                    case Sum      -> exactSum;
+                    case Average  -> exactSum.divide(BigDecimal.valueOf(numbers), MathContext.DECIMAL128);
+                    case Minimum  -> exactMin;
+                    case Maximum  -> exactMax;
+                    case Count    -> count;
+                    case Distinct -> distinct.size();
+                };/*@f1*/
+            }
+
+            return switch(aggregate) {/*@f0*/
+                case Sum      -> sum;
+                case Average  -> ((numbers == 0) ? null : (sum / numbers));
+                case Minimum  -> ((numbers == 0) ? null : min);
+                case Maximum  -> ((numbers == 0) ? null : max);
+                case Count    -> count;
+                case Distinct -> distinct.size();
+            };/*@f1*/
+        }
+
+        private static <T> @Nullable Object @NotNull [] @NotNull [] aggregates(@NotNull PGDataSupplier<T> source,
+                                                                               @NotNull PGJTableRowModel<T> rowModel,
+                                                                               int @NotNull [] perm,
+                                                                               int @NotNull [] starts,
+                                                                               @NotNull BooleanSupplier cancelled) {
+            int           groupCount = (starts.length - 1);
+            Object[][]    result     = new Object[groupCount][];
+            PGAggregate[] declared   = declared(rowModel);
+
+            for(int g = 0; g < groupCount; g++) {
+                if(cancelled.getAsBoolean()) throw new CancellationException();
+                result[g] = groupAggregates(source, rowModel, declared, perm, starts[g], starts[g + 1]);
+            }
+
+            return result;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static int compareKeys(@Nullable Object a, @Nullable Object b) {
+            if(a == b) return 0;
+            if(a == null) return -1;
+            if(b == null) return 1;
+            if((a instanceof List<?> la) && (b instanceof List<?> lb)) {
+                for(int i = 0, j = Math.min(la.size(), lb.size()); i < j; i++) {
+                    int cc = compareKeys(la.get(i), lb.get(i));
+                    if(cc != 0) return cc;
+                }
+                return Integer.compare(la.size(), lb.size());
+            }
+            if((a instanceof Comparable ca) && (a.getClass() == b.getClass())) return ca.compareTo(b);
+            return String.valueOf(a).compareTo(String.valueOf(b));
+        }
+
+        private static @Nullable PGAggregate @NotNull [] declared(@NotNull PGJTableRowModel<?> rowModel) {
+            return IntStream.range(0, rowModel.getColumnCount()).mapToObj(rowModel::getColumnAggregate).toArray(PGAggregate[]::new);
+        }
+
+        private static <T> @Nullable Object @NotNull [] groupAggregates(@NotNull PGDataSupplier<T> source,
+                                                                        @NotNull PGJTableRowModel<T> rowModel,
+                                                                        @Nullable PGAggregate @NotNull [] declared,
+                                                                        int @NotNull [] perm,
+                                                                        int first,
+                                                                        int end) {
+            boolean  any    = Arrays.stream(declared).anyMatch(Objects::nonNull);
+            Object[] result = new Object[any ? declared.length : 0];
+            if(any) for(int c = 0; c < declared.length; c++) if(declared[c] != null) result[c] = aggregate(source, rowModel, declared[c], c, perm, first, end);
+            return result;
+        }
+
+        private static <T> @Nullable T item(@NotNull PGDataSupplier<T> source, int row) {
+            return (source.isAvailable(row) ? source.get(row) : null);
+        }
+
+        private static <T> @Nullable Object key(@NotNull PGJTableRowModel<T> rowModel, @Nullable T item, int @NotNull [] columns) {
+            if(columns.length == 1) return ((item == null) ? null : rowModel.getColumnValue(item, columns[0]));
+            Object[] values = new Object[columns.length];
+            if(item != null) for(int i = 0; i < columns.length; i++) values[i] = rowModel.getColumnValue(item, columns[i]);
+            return Arrays.asList(values);
+        }
+    }
+
+    /**
+     * A Fenwick (binary indexed) tree over the number of visible rows of each group: one for the header plus the members if the group is expanded.
+     */
+    private static final class Fenwick {
+        private final int[] tree;
+        private final int   size;
+        private final int   topBit;
+        private       int   total;
+
+        public Fenwick(int @NotNull [] counts) {
+            size   = counts.length;
+            tree   = new int[size + 1];
+            topBit = ((size == 0) ? 0 : Integer.highestOneBit(size));
+            for(int i = 0; i < size; i++) {
+                tree[i + 1] += counts[i];
+                int parent = ((i + 1) + ((i + 1) & -(i + 1)));
+                if(parent <= size) tree[parent] += tree[i + 1];
+                total += counts[i];
+            }
+        }
+
+        public void add(int index, int delta) {
+            total += delta;
+            for(int i = (index + 1); i <= size; i += (i & -i)) tree[i] += delta;
+        }
+
+        /**
+         * Returns the index of the group containing the given row.
+         */
+        public int find(int row) {
+            if((row < 0) || (row >= total)) throw new IndexOutOfBoundsException(row);
+            int pos = 0;
+            for(int step = topBit; step > 0; step >>= 1) {
+                int next = (pos + step);
+                if((next <= size) && (tree[next] <= row)) {
+                    pos = next;
+                    row -= tree[next];
+                }
+            }
+            return pos;
+        }
+
+        /**
+         * Returns the number of visible rows before the given group, which is also the row index of its header.
+         */
+        public int prefix(int index) {
+            int sum = 0;
+            for(int i = index; i > 0; i -= (i & -i)) sum += tree[i];
+            return sum;
+        }
+
+        public int total() {
+            return total;
+        }
+    }
+}
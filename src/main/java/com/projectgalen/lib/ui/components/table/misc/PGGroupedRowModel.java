@@ -0,0 +1,131 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGGroupedRowModel.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.projectgalen.lib.ui.M.msgs;
+
+/**
+ * The row model for a table showing a {@link PGGroupedDataSupplier}. It has the same columns as the source row model. Member rows show the source values
+ * and header rows show the group's aggregates, with the first column showing the group's key and size instead. Because that column holds both the header
+ * text and the members' values its class is always <code>Object.class</code>, and primitive column classes are reported boxed so header rows can leave them
+ * empty.
+ *
+ * @param <T> The type of the source items.
+ */
+@SuppressWarnings("unused")
+public class PGGroupedRowModel<T> extends AbstractPGJTableRowModel<PGGroupRow<T>> {
+
+    private static final Map<Class<?>, Class<?>> BOXED = Map.of(boolean.class, Boolean.class,
+                                                                byte.class, Byte.class,
+                                                                char.class, Character.class,
+                                                                short.class, Short.class,
+                                                                int.class, Integer.class,
+                                                                long.class, Long.class,
+                                                                float.class, Float.class,
+                                                                double.class, Double.class);
+
+    private final PGGroupedDataSupplier<T> supplier;
+    private final PGJTableRowModel<T>      rowModel;
+
+    public PGGroupedRowModel(@NotNull PGGroupedDataSupplier<T> supplier) {
+        super();
+        this.supplier = supplier;
+        this.rowModel = supplier.getRowModel();
+    }
+
+    public @Override int getColumnAlignment(int columnIndex) {
+        return rowModel.getColumnAlignment(columnIndex);
+    }
+
+    public @Override Class<?> getColumnClass(int columnIndex) {
+        if(columnIndex == 0) return Object.class;
+        Class<?> cls = rowModel.getColumnClass(columnIndex);
+        return BOXED.getOrDefault(cls, cls);
+    }
+
+    public @Override int getColumnCount() {
+        return rowModel.getColumnCount();
+    }
+
+    public @Override String getColumnName(int columnIndex) {
+        return rowModel.getColumnName(columnIndex);
+    }
+
+    public @Override double[] getColumnSizePercentages() {
+        return rowModel.getColumnSizePercentages();
+    }
+
+    public @Override @Nullable Object getColumnValue(@NotNull PGGroupRow<T> obj, int columnIndex) {
+        if(obj.isHeader()) return ((columnIndex == 0) ? getHeaderText(obj) : obj.getAggregate(columnIndex));
+        T item = obj.getItem();
+        return ((item == null) ? null : rowModel.getColumnValue(item, columnIndex));
+    }
+
+    /**
+     * Returns the text shown in the first column of a header row: an arrow showing whether the group is expanded, the group's key, and the number of rows
+     * in the group.
+     *
+     * @param header The header row.
+     *
+     * @return The text.
+     */
+    public @NotNull String getHeaderText(@NotNull PGGroupRow<T> header) {
+        String arrow = (supplier.isExpanded(header.getGroup()) ? "▾" : "▸");
+        return msgs.format("txt.table.group_header", arrow, getKeyText(header.getKey()), header.getGroupSize());
+    }
+
+    public @NotNull PGGroupedDataSupplier<T> getSupplier() {
+        return supplier;
+    }
+
+    public @Override boolean isColumnEditable(@NotNull PGGroupRow<T> obj, int columnIndex) {
+        T item = obj.getItem();
+        return ((item != null) && rowModel.isColumnEditable(item, columnIndex));
+    }
+
+    public @Override void setColumnAttributes(@NotNull Component renderer, @NotNull JTable table, @NotNull PGGroupRow<T> object, int columnIndex, boolean isSelected) {
+        renderer.setFont(object.isHeader() ? table.getFont().deriveFont(Font.BOLD) : table.getFont());
+        T item = object.getItem();
+        if(item != null) rowModel.setColumnAttributes(renderer, table, item, columnIndex, isSelected);
+    }
+
+    public @Override void setColumnValue(@NotNull PGGroupRow<T> obj, int rowIndex, int columnIndex, @Nullable Object newValue) {
+        T item = obj.getItem();
+        if(item != null) rowModel.setColumnValue(item, obj.getSourceRow(), columnIndex, newValue);
+    }
+
+    private static @NotNull String getKeyText(@Nullable Object key) {
+        if(key == null) return msgs.getString("txt.table.group_empty");
+        if(key instanceof List<?> list) return list.stream().map(PGGroupedRowModel::getKeyText).collect(Collectors.joining(" / "));
+        return key.toString();
+    }
+}
@@ -22,20 +22,42 @@ package com.projectgalen.lib.ui.components.table.misc;
 // IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
 // ===========================================================================
 
+import com.projectgalen.lib.ui.events.PGDataSupplierEvent;
 import com.projectgalen.lib.ui.events.TableCellModelEvent;
 import com.projectgalen.lib.ui.interfaces.PGDataSupplier;
+import com.projectgalen.lib.ui.listeners.PGDataSupplierListener;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
 
 import javax.swing.*;
+import javax.swing.event.TableModelEvent;
 import javax.swing.table.AbstractTableModel;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.projectgalen.lib.ui.M.msgs;
+import static com.projectgalen.lib.ui.UI.invokeLater2;
+import static java.util.Optional.ofNullable;
+import static javax.swing.SwingUtilities.invokeLater;
 
 @SuppressWarnings("unused")
 public class PGJTableModel<T> extends AbstractTableModel {
-    protected PGJTableRowModel<T> rowModel;
-    protected PGDataSupplier<T>   dataSupplier;
+    protected        PGJTableRowModel<T>      rowModel;
+    protected        PGDataSupplier<T>        dataSupplier;
+    private final    PGDataSupplierListener   dataSupplierListener = this::onDataSupplierEvent;
+    private final    TableModelEventCoalescer coalescer            = new TableModelEventCoalescer();
+    private          PGCellValueCache         cellCache            = null;
+    private          int                      updateDepth          = 0;
+    private volatile int                      dataGeneration       = 0;
+    private          KeyIndex<T>              keyIndex             = null;
 
     public PGJTableModel(PGJTableRowModel<T> rowModel, PGDataSupplier<T> dataSupplier) {
         super();
@@ -43,12 +65,62 @@ public class PGJTableModel<T> extends AbstractTableModel {
         this.rowModel     = rowModel;
         this.rowModel.setModelProvider(() -> this);
         this.rowModel.addTableCellModelListener(this::onTableCellModelEvent);
+        this.dataSupplier.addDataSupplierListener(dataSupplierListener);
     }
 
     public PGJTableModel(PGJTableRowModel<T> rowModel) {
         this(rowModel, new PGListDataSupplier<>());
     }
 
+    /**
+     * Run the given code inside {@link #beginUpdate()} and {@link #endUpdate()}.
+     *
+     * @param runnable The code that updates the model.
+     */
+    public void batch(@NotNull Runnable runnable) {
+        beginUpdate();
+        try { runnable.run(); } finally { endUpdate(); }
+    }
+
+    /**
+     * Start a batch update. Until the matching call to {@link #endUpdate()} the cell, row insert, and row delete events fired by this model are collected instead
+     * of being sent to the listeners. Batches may be nested. Must be called from the event dispatch thread.
+     */
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * End a batch update. When the outermost batch ends, the collected events are reduced to the smallest equivalent set of {@link TableModelEvent}s and
+     * fired.
+     */
+    public void endUpdate() {
+        if(updateDepth <= 0) throw new IllegalStateException(msgs.getString("msg.err.table.end_update_without_begin"));
+        if(--updateDepth == 0) for(TableModelEvent e : coalescer.drain(this)) super.fireTableChanged(e);
+    }
+
+    /**
+     * All the table model events pass through here so the cell value cache is invalidated precisely for whatever cells the event covers, including events fired
+     * in response to a {@link TableCellModelEvent}: <code>CellDataUpdated</code> clears a single cell and <code>TableDataUpdated</code> clears everything. The
+     * key index, if there is one, follows the same events.
+     *
+     * @param e The event.
+     */
+    public @Override void fireTableChanged(@NotNull TableModelEvent e) {
+        invalidateCellCache(e);
+        if(keyIndex != null) keyIndex.onTableChanged(e, dataSupplier);
+        if(updateDepth > 0) coalescer.add(e);
+        else super.fireTableChanged(e);
+    }
+
+    public boolean getBooleanValueAt(int rowIndex, int columnIndex) {
+        return (isRowAvailable(rowIndex) && rowModel.getColumnBooleanValue(dataSupplier.get(rowIndex), columnIndex));
+    }
+
+    public @Nullable PGCellValueCache getCellCache() {
+        return cellCache;
+    }
+
     public @Override @Nullable Class<?> getColumnClass(int columnIndex) {
         return rowModel.getColumnClass(columnIndex);
     }
@@ -65,6 +137,22 @@ public class PGJTableModel<T> extends AbstractTableModel {
         return dataSupplier;
     }
 
+    public double getDoubleValueAt(int rowIndex, int columnIndex) {
+        return (isRowAvailable(rowIndex) ? rowModel.getColumnDoubleValue(dataSupplier.get(rowIndex), columnIndex) : 0.0);
+    }
+
+    public int getIntValueAt(int rowIndex, int columnIndex) {
+        return (isRowAvailable(rowIndex) ? rowModel.getColumnIntValue(dataSupplier.get(rowIndex), columnIndex) : 0);
+    }
+
+    public @Nullable Function<? super T, ?> getKeyExtractor() {
+        return ((keyIndex == null) ? null : keyIndex.getKeyExtractor());
+    }
+
+    public long getLongValueAt(int rowIndex, int columnIndex) {
+        return (isRowAvailable(rowIndex) ? rowModel.getColumnLongValue(dataSupplier.get(rowIndex), columnIndex) : 0L);
+    }
+
     public @Override int getRowCount() {
         return dataSupplier.size();
     }
@@ -74,11 +162,51 @@ public class PGJTableModel<T> extends AbstractTableModel {
     }
 
     public @Contract(pure = true) @Override @Nullable Object getValueAt(int rowIndex, int columnIndex) {
-        return (isRowIndexValid(rowIndex) ? rowModel.getColumnValue(dataSupplier.get(rowIndex), columnIndex) : null);
+        PGCellValueCache cache = cellCache;
+        if(cache == null) return getUncachedValueAt(rowIndex, columnIndex);
+        Object value = cache.get(rowIndex, columnIndex);
+        if(value != PGCellValueCache.MISS) return value;
+        value = getUncachedValueAt(rowIndex, columnIndex);
+        if(isRowAvailable(rowIndex)) cache.put(rowIndex, columnIndex, value);
+        return value;
+    }
+
+    /**
+     * Returns the model row index of the row with the given key. Requires a key extractor, see {@link #setKeyExtractor(Function)}. The lookup is a hash lookup.
+     * Rows inserted or deleted anywhere but at the end only shift the index, so the first lookup that finds a row after them renumbers the rows from the
+     * first one that moved. The index is only rebuilt after the data or the structure changed. Must be called from the event dispatch thread.
+     *
+     * @param key The key.
+     *
+     * @return The model row index or -1 if no row has the key.
+     */
+    public int indexOf(Object key) {
+        return requireKeyIndex().indexOf(key, dataSupplier);
+    }
+
+    public void invalidateCellCache() {
+        ofNullable(cellCache).ifPresent(PGCellValueCache::clear);
     }
 
     public @Override boolean isCellEditable(int rowIndex, int columnIndex) {
-        return (isRowIndexValid(rowIndex) && rowModel.isColumnEditable(dataSupplier.get(rowIndex), columnIndex));
+        return (isRowAvailable(rowIndex) && rowModel.isColumnEditable(dataSupplier.get(rowIndex), columnIndex));
+    }
+
+    /**
+     * Returns <code>true</code> if the column's class is one of the primitive types that have a specialized accessor in {@link PGJTableRowModel}:
+     * <code>int</code>, <code>long</code>, <code>double</code>, or <code>boolean</code>.
+     *
+     * @param columnIndex The column index.
+     *
+     * @return <code>true</code> if the column's values can be read without boxing.
+     */
+    public boolean isPrimitiveColumn(int columnIndex) {
+        Class<?> cls = getColumnClass(columnIndex);
+        return ((cls == int.class) || (cls == long.class) || (cls == double.class) || (cls == boolean.class));
+    }
+
+    public boolean isRowAvailable(int rowIndex) {
+        return (isRowIndexValid(rowIndex) && dataSupplier.isAvailable(rowIndex));
     }
 
     public boolean isRowDeletable(int rowIndex) {
@@ -97,13 +225,107 @@ public class PGJTableModel<T> extends AbstractTableModel {
         return true;
     }
 
+    public boolean isUpdating() {
+        return (updateDepth > 0);
+    }
+
+    /**
+     * Asks the data supplier to start fetching the given row if it is not available. See {@link PGDataSupplier#prefetch(int)}.
+     *
+     * @param rowIndex The model row index.
+     */
+    public void prefetchRow(int rowIndex) {
+        if(isRowIndexValid(rowIndex)) dataSupplier.prefetch(rowIndex);
+    }
+
+    /**
+     * Removes the row with the given key and fires a rows-deleted event for it. The data supplier must be a {@link PGListDataSupplier} backed by a modifiable
+     * list. Must be called from the event dispatch thread.
+     *
+     * @param key The key.
+     *
+     * @return <code>true</code> if a row was removed.
+     */
+    public boolean removeByKey(Object key) {
+        int row = indexOf(key);
+        if(row < 0) return false;
+        if(!(dataSupplier instanceof PGListDataSupplier<T> listSupplier)) throw new UnsupportedOperationException(msgs.getString("msg.err.table.rows_not_removable"));
+        listSupplier.getList().remove(row);
+        fireTableRowsDeleted(row, row);
+        return true;
+    }
+
+    /**
+     * Enable or disable the cell value cache. When enabled, the values returned by {@link #getValueAt(int, int)} are memoized until a
+     * {@link TableCellModelEvent} or a data supplier event invalidates them. Enable this when the row model computes derived values.
+     *
+     * @param capacity The maximum number of cells to cache (rounded up to a power of two) or zero to disable the cache.
+     */
+    public void setCellCacheCapacity(@Range(from = 0, to = (1 << 30)) int capacity) {
+        cellCache = ((capacity > 0) ? new PGCellValueCache(capacity) : null);
+    }
+
+    /**
+     * Replace the data with the items of the given list, firing only the row events needed to get from the current items to the new ones instead of
+     * {@link #fireTableDataChanged()}. Rows are matched by the keys the key extractor returns. The diff is computed in the background and applied on the event
+     * dispatch thread, and a newer call cancels one that is still running. The current data supplier must be a {@link PGListDataSupplier} whose list is not
+     * modified in the meantime; otherwise, or if the keys are not unique or the lists differ too much, the data is simply replaced. Must be called from the
+     * event dispatch thread.
+     *
+     * @param list         The new items. The list is copied.
+     * @param keyExtractor Returns the key that identifies an item.
+     *
+     * @return A future that completes on the event dispatch thread once the new data is in place or is cancelled if a newer call replaced this one.
+     */
+    public @NotNull CompletableFuture<Void> setData(@NotNull List<T> list, @NotNull Function<? super T, ?> keyExtractor) {
+        PGDataSupplier<T>       current = dataSupplier;
+        List<T>                 newList = new ArrayList<>(list);
+        CompletableFuture<Void> future  = new CompletableFuture<>();
+
+        if(current instanceof PGListDataSupplier<T> listSupplier) {
+            List<T> oldList = listSupplier.getList();
+            int     gen     = ++dataGeneration;
+
+            ForkJoinPool.commonPool().execute(() -> {
+                try {
+                    ListDiff diff = ListDiff.compute(oldList, newList, keyExtractor, () -> (gen != dataGeneration));
+                    invokeLater(() -> applyData(gen, current, oldList, newList, diff, future));
+                }
+                catch(CancellationException e) {
+                    future.cancel(false);
+                }
+                catch(RuntimeException e) {
+                    e.printStackTrace(System.err);
+                    invokeLater(() -> applyData(gen, current, oldList, newList, null, future));
+                }
+            });
+        }
+        else {
+            setDataSupplier(new PGListDataSupplier<>(newList));
+            future.complete(null);
+        }
+
+        return future;
+    }
+
     public void setDataSupplier(@NotNull PGDataSupplier<T> dataSupplier) {
-        this.dataSupplier = dataSupplier;
+        dataGeneration++;
+        swapDataSupplier(dataSupplier);
         fireTableDataChanged();
     }
 
+    /**
+     * Set the function that returns the key of a row's item and maintain an index of the keys alongside the data supplier for {@link #indexOf(Object)},
+     * {@link #updateByKey(Object, Consumer)}, and {@link #removeByKey(Object)}. Keys should be unique.
+     *
+     * @param keyExtractor The key extractor or <code>null</code> to drop the index.
+     */
+    public void setKeyExtractor(@Nullable Function<? super T, ?> keyExtractor) {
+        keyIndex = ((keyExtractor == null) ? null : new KeyIndex<>(keyExtractor));
+    }
+
     public @NotNull Component setRowAttributes(@NotNull Component renderer, @NotNull JTable table, int rowIndex, int columnIndex, boolean isSelected) {
-        rowModel.setColumnAttributes(renderer, table, dataSupplier.get(rowIndex), columnIndex, isSelected);
+        if(isRowAvailable(rowIndex)) rowModel.setColumnAttributes(renderer, table, dataSupplier.get(rowIndex), columnIndex, isSelected);
         return renderer;
     }
 
@@ -113,16 +335,105 @@ public class PGJTableModel<T> extends AbstractTableModel {
     }
 
     public @Override void setValueAt(Object aValue, int rowIndex, int columnIndex) {
-        if(isRowIndexValid(rowIndex)) {
+        if(isRowAvailable(rowIndex)) {
             rowModel.setColumnValue(dataSupplier.get(rowIndex), rowIndex, columnIndex, aValue);
-            fireTableDataChanged();
+            fireTableCellUpdated(rowIndex, columnIndex);
+        }
+    }
+
+    /**
+     * Runs the mutator on the item of the row with the given key and fires a rows-updated event for that row only. Must be called from the event dispatch
+     * thread.
+     *
+     * @param key     The key.
+     * @param mutator Updates the item in place.
+     *
+     * @return <code>true</code> if the row was found.
+     */
+    public boolean updateByKey(Object key, @NotNull Consumer<? super T> mutator) {
+        int row = indexOf(key);
+        if((row < 0) || !isRowAvailable(row)) return false;
+        mutator.accept(dataSupplier.get(row));
+        fireTableRowsUpdated(row, row);
+        return true;
+    }
+
+    /**
+     * Runs the mutator on the item of the row with the given key and fires a cell-updated event for the given column of that row only. Must be called from the
+     * event dispatch thread.
+     *
+     * @param key         The key.
+     * @param columnIndex The column that the mutator changes.
+     * @param mutator     Updates the item in place.
+     *
+     * @return <code>true</code> if the row was found.
+     */
+    public boolean updateByKey(Object key, int columnIndex, @NotNull Consumer<? super T> mutator) {
+        int row = indexOf(key);
+        if((row < 0) || !isRowAvailable(row)) return false;
+        mutator.accept(dataSupplier.get(row));
+        fireTableCellUpdated(row, columnIndex);
+        return true;
+    }
+
+    private void applyData(int gen, @NotNull PGDataSupplier<T> expected, @NotNull List<T> oldList, @NotNull List<T> newList, @Nullable ListDiff diff, @NotNull CompletableFuture<Void> future) {
+        if(gen != dataGeneration) {
+            future.cancel(false);
+        }
+        else if((diff == null) || (dataSupplier != expected)) {
+            setDataSupplier(new PGListDataSupplier<>(newList));
+            future.complete(null);
+        }
+        else {
+            List<T> working = new ArrayList<>(oldList);
+            swapDataSupplier(new PGListDataSupplier<>(working));
+            diff.apply(working, newList, this);
+            future.complete(null);
+        }
+    }
+
+    private @Nullable Object getUncachedValueAt(int rowIndex, int columnIndex) {
+        return (isRowAvailable(rowIndex) ? rowModel.getColumnValue(dataSupplier.get(rowIndex), columnIndex) : null);
+    }
+
+    private void invalidateCellCache(@NotNull TableModelEvent e) {
+        PGCellValueCache cache = cellCache;
+        if(cache != null) {
+            int first = e.getFirstRow();
+            int last  = e.getLastRow();
+
+            if((e.getType() != TableModelEvent.UPDATE) || (first < 0) || (last == Integer.MAX_VALUE)) cache.clear();
+            else if((first == last) && (e.getColumn() != TableModelEvent.ALL_COLUMNS)) cache.invalidate(first, e.getColumn());
+            else cache.invalidateRows(first, last, getColumnCount());
         }
     }
 
+    private void onDataSupplierEvent(@NotNull PGDataSupplierEvent e) {
+        if(e.getSource() == dataSupplier) invokeLater2(() -> {
+            switch(e.getEventType()) {/*@f0*/
+                case RowsUpdated  -> fireTableRowsUpdated(e.getFirstRow(), e.getLastRow());
+                case RowsInserted -> fireTableRowsInserted(e.getFirstRow(), e.getLastRow());
+                case RowsDeleted  -> fireTableRowsDeleted(e.getFirstRow(), e.getLastRow());
+                case DataChanged  -> fireTableDataChanged();
+            }/*@f1*/
+        });
+    }
+
     private void onTableCellModelEvent(@NotNull TableCellModelEvent e) {
         switch(e.getEventType()) {
             case CellDataUpdated -> fireTableCellUpdated(e.getRowIndex(), e.getColumnIndex());
             case TableDataUpdated -> fireTableDataChanged();
         }
     }
+
+    private @NotNull KeyIndex<T> requireKeyIndex() {
+        if(keyIndex == null) throw new IllegalStateException(msgs.getString("msg.err.table.no_key_extractor"));
+        return keyIndex;
+    }
+
+    private void swapDataSupplier(@NotNull PGDataSupplier<T> dataSupplier) {
+        this.dataSupplier.removeDataSupplierListener(dataSupplierListener);
+        this.dataSupplier = dataSupplier;
+        this.dataSupplier.addDataSupplierListener(dataSupplierListener);
+    }
 }
@@ -35,6 +35,15 @@ public interface PGJTableRowModel<T> {
 
     void addTableCellModelListener(@NotNull TableCellModelListener listener);
 
+    /**
+     * Returns the aggregate shown for the column in the table's aggregate footer, or <code>null</code> if the column has none.
+     *
+     * @param columnIndex The column index.
+     *
+     * @return The aggregate or <code>null</code>.
+     */
+    default @Nullable PGAggregate getColumnAggregate(int columnIndex) { return null; }
+
     int getColumnAlignment(int columnIndex);
 
     Class<?> getColumnClass(int columnIndex);
@@ -45,6 +54,31 @@ public interface PGJTableRowModel<T> {
 
     default double[] getColumnSizePercentages() { return UI.EMPTY_DOUBLE_ARRAY; }
 
+    /**
+     * Get the value of a column whose class is <code>boolean.class</code> without boxing. The default implementation unboxes the result of
+     * {@link #getColumnValue(Object, int)} so row models only need to override this for the columns they want to make allocation free.
+     *
+     * @param obj         The row object.
+     * @param columnIndex The column index.
+     *
+     * @return The value.
+     */
+    default boolean getColumnBooleanValue(@NotNull T obj, int columnIndex) {
+        return ((getColumnValue(obj, columnIndex) instanceof Boolean b) && b);
+    }
+
+    default double getColumnDoubleValue(@NotNull T obj, int columnIndex) {
+        return ((getColumnValue(obj, columnIndex) instanceof Number n) ? n.doubleValue() : 0.0);
+    }
+
+    default int getColumnIntValue(@NotNull T obj, int columnIndex) {
+        return ((getColumnValue(obj, columnIndex) instanceof Number n) ? n.intValue() : 0);
+    }
+
+    default long getColumnLongValue(@NotNull T obj, int columnIndex) {
+        return ((getColumnValue(obj, columnIndex) instanceof Number n) ? n.longValue() : 0L);
+    }
+
     @Nullable Object getColumnValue(@NotNull T obj, int columnIndex);
 
     @NotNull PGJTableModel<T> getTableModel();
@@ -0,0 +1,597 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGJTableRowSorter.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.UI;
+import com.projectgalen.lib.ui.interfaces.PGDataSupplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import javax.swing.*;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import static com.projectgalen.lib.ui.M.msgs;
+import static java.util.Objects.requireNonNullElse;
+import static java.util.Optional.ofNullable;
+import static javax.swing.SwingUtilities.invokeLater;
+
+/**
+ * A {@link RowSorter} for {@link PGJTableModel} that does the sorting off of the event dispatch thread. When a sort is needed the values of each sorted column
+ * are read once into a primitive or {@link Comparable} array and a permutation of the model's row indexes is merge sorted on a {@link ForkJoinPool}. The
+ * finished permutation replaces the current one on the event dispatch thread in a single step so the table keeps showing the previous order until the new one
+ * is ready.
+ * <p>
+ * The column values are read on the pool's threads so the model's data supplier must allow reads from threads other than the event dispatch thread. Rows that
+ * the data supplier reports as not available are sorted as if their values were <code>null</code> and do not cause them to be loaded.
+ *
+ * @param <T> The type of the row objects.
+ */
+@SuppressWarnings("unused")
+public class PGJTableRowSorter<T> extends RowSorter<PGJTableModel<T>> {
+
+    public static final int DEFAULT_MAX_SORT_KEYS = 3;
+
+    private static final int SEQUENTIAL_THRESHOLD = 8192;
+    private static final int INSERTION_THRESHOLD  = 32;
+    private static final int MAX_PENDING_CHANGES  = 64;
+    private static final int CHANGE_INSERT        = 0;
+    private static final int CHANGE_DELETE        = 1;
+
+    private final    PGJTableModel<T>            model;
+    private final    ForkJoinPool                pool;
+    private final    Map<Integer, Comparator<?>> comparators    = new HashMap<>();
+    private final    List<int[]>                 pendingChanges = new ArrayList<>();
+    private          List<SortKey>               sortKeys       = Collections.emptyList();
+    private          int                         maxSortKeys    = DEFAULT_MAX_SORT_KEYS;
+    private          Collator                    collator       = Collator.getInstance();
+    private          int[]                       viewToModel    = null;
+    private          int[]                       modelToView    = null;
+    private          boolean                     sorting        = false;
+    private          boolean                     sortPending    = false;
+    private          boolean                     resortNeeded   = false;
+    private volatile int                         generation     = 0;
+
+    public PGJTableRowSorter(@NotNull PGJTableModel<T> model) {
+        this(model, null);
+    }
+
+    public PGJTableRowSorter(@NotNull PGJTableModel<T> model, @Nullable ForkJoinPool pool) {
+        super();
+        this.model = model;
+        this.pool  = Objects.requireNonNullElseGet(pool, ForkJoinPool::commonPool);
+    }
+
+    public @Override void allRowsChanged() {
+        if((viewToModel != null) && (viewToModel.length != model.getRowCount())) {
+            cancelSort();
+            setViewToModel(null);
+        }
+        else if(sorting) {
+            resortNeeded = true;
+        }
+        scheduleSort();
+    }
+
+    public @Override int convertRowIndexToModel(int index) {
+        int[] v2m = viewToModel;
+        return ((v2m == null) ? index : v2m[index]);
+    }
+
+    public @Override int convertRowIndexToView(int index) {
+        int[] m2v = modelToView;
+        return ((m2v == null) ? index : m2v[index]);
+    }
+
+    public @NotNull Collator getCollator() {
+        return collator;
+    }
+
+    public @Nullable Comparator<?> getComparator(int column) {
+        return comparators.get(column);
+    }
+
+    public int getMaxSortKeys() {
+        return maxSortKeys;
+    }
+
+    public @Override PGJTableModel<T> getModel() {
+        return model;
+    }
+
+    public @Override int getModelRowCount() {
+        return model.getRowCount();
+    }
+
+    public @Override List<? extends SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    public @Override int getViewRowCount() {
+        int[] v2m = viewToModel;
+        return ((v2m == null) ? model.getRowCount() : v2m.length);
+    }
+
+    /**
+     * Returns the current view-to-model row mapping. The returned function is not affected by later sorts or model changes so it can be used from a background
+     * thread, for example to export the rows in view order. Must be called on the event dispatch thread.
+     *
+     * @return The view-to-model row mapping.
+     */
+    public @NotNull IntUnaryOperator getViewToModelSnapshot() {
+        int[] v2m = viewToModel;
+        return ((v2m == null) ? IntUnaryOperator.identity() : (i -> v2m[i]));
+    }
+
+    /**
+     * Returns <code>true</code> if a sort is running in the background. Until it finishes the table shows the rows in the previous order.
+     *
+     * @return <code>true</code> if a sort is running.
+     */
+    public boolean isSorting() {
+        return sorting;
+    }
+
+    public @Override void modelStructureChanged() {
+        cancelSort();
+        setViewToModel(null);
+        if(!sortKeys.isEmpty()) {
+            sortKeys = Collections.emptyList();
+            fireSortOrderChanged();
+        }
+    }
+
+    public @Override void rowsDeleted(int firstRow, int endRow) {
+        int first = Math.min(firstRow, endRow);
+        int end   = Math.max(firstRow, endRow);
+        if(viewToModel != null) setViewToModel(deleteRows(viewToModel, first, end));
+        recordChange(CHANGE_DELETE, first, end);
+    }
+
+    public @Override void rowsInserted(int firstRow, int endRow) {
+        int first = Math.min(firstRow, endRow);
+        int end   = Math.max(firstRow, endRow);
+        if(viewToModel != null) setViewToModel(insertRows(viewToModel, first, end));
+        recordChange(CHANGE_INSERT, first, end);
+        scheduleSort();
+    }
+
+    public @Override void rowsUpdated(int firstRow, int endRow) {
+        scheduleSort();
+    }
+
+    public @Override void rowsUpdated(int firstRow, int endRow, int column) {
+        if(sortKeys.stream().anyMatch(k -> (k.getColumn() == column))) scheduleSort();
+    }
+
+    public void setCollator(@NotNull Collator collator) {
+        this.collator = collator;
+        scheduleSort();
+    }
+
+    /**
+     * Set the comparator used for the given column. Columns without a comparator are sorted by their natural order if the column's class is
+     * {@link Comparable}, by their numeric value if the column's class is a primitive type, and otherwise by the {@link Collator} order of their
+     * {@link Object#toString()} values. The comparator is called from several threads at once so it must be thread safe.
+     *
+     * @param column     The model column index.
+     * @param comparator The comparator or <code>null</code> to use the default ordering.
+     */
+    public void setComparator(int column, @Nullable Comparator<?> comparator) {
+        checkColumn(column);
+        if(comparator == null) comparators.remove(column);
+        else comparators.put(column, comparator);
+        scheduleSort();
+    }
+
+    public void setMaxSortKeys(@Range(from = 1, to = Integer.MAX_VALUE) int maxSortKeys) {
+        this.maxSortKeys = Math.max(1, maxSortKeys);
+        if(sortKeys.size() > this.maxSortKeys) setSortKeys(sortKeys.subList(0, this.maxSortKeys));
+    }
+
+    public @Override void setSortKeys(@Nullable List<? extends SortKey> keys) {
+        List<SortKey> newKeys = ((keys == null) ? Collections.emptyList() : List.copyOf(keys));
+        newKeys.forEach(k -> checkColumn(k.getColumn()));
+
+        if(!newKeys.equals(sortKeys)) {
+            cancelSort();
+            sortKeys = newKeys;
+            fireSortOrderChanged();
+            if(isSorted()) scheduleSort();
+            else if(viewToModel != null) swapViewToModel(null);
+        }
+    }
+
+    /**
+     * Start a new sort in the background using the current sort keys.
+     */
+    public void sort() {
+        scheduleSort();
+    }
+
+    public @Override void toggleSortOrder(int column) {
+        checkColumn(column);
+        List<SortKey> keys = new ArrayList<>(sortKeys);
+        int           idx  = IntStream.range(0, keys.size()).filter(i -> (keys.get(i).getColumn() == column)).findFirst().orElse(-1);
+
+        if(idx == 0) {
+            keys.set(0, new SortKey(column, ((keys.get(0).getSortOrder() == SortOrder.ASCENDING) ? SortOrder.DESCENDING : SortOrder.ASCENDING)));
+        }
+        else {
+            if(idx > 0) keys.remove(idx);
+            keys.add(0, new SortKey(column, SortOrder.ASCENDING));
+            while(keys.size() > maxSortKeys) keys.remove(keys.size() - 1);
+        }
+
+        setSortKeys(keys);
+    }
+
+    private void cancelSort() {
+        generation++;
+        sorting      = false;
+        resortNeeded = false;
+        pendingChanges.clear();
+    }
+
+    private void checkColumn(int column) {
+        if((column < 0) || (column >= model.getColumnCount())) throw new IndexOutOfBoundsException(msgs.format("msg.err.invalid_column_index", column));
+    }
+
+    private boolean isSorted() {
+        return sortKeys.stream().anyMatch(k -> (k.getSortOrder() != SortOrder.UNSORTED));
+    }
+
+    private void onSortFinished(int gen, int @Nullable [] result, @Nullable RuntimeException error) {
+        if(gen == generation) {
+            sorting = false;
+
+            if(result != null) {
+                int[] v2m = result;
+                for(int[] c : pendingChanges) v2m = ((c[0] == CHANGE_INSERT) ? insertRows(v2m, c[1], c[2]) : deleteRows(v2m, c[1], c[2]));
+                swapViewToModel(v2m);
+            }
+            else if(error != null) {
+                // Rows that changed while the keys were being read can make the row model fail. Only report the error if nothing changed.
+                if(pendingChanges.isEmpty()) error.printStackTrace(System.err);
+                else resortNeeded = true;
+            }
+
+            pendingChanges.clear();
+
+            if(resortNeeded) {
+                resortNeeded = false;
+                scheduleSort();
+            }
+        }
+    }
+
+    private void recordChange(int type, int first, int end) {
+        if(sorting) {
+            if(pendingChanges.size() < MAX_PENDING_CHANGES) {
+                pendingChanges.add(new int[] { type, first, end });
+            }
+            else {
+                cancelSort();
+                scheduleSort();
+            }
+        }
+    }
+
+    private void runSort(int gen, @NotNull SortJob<T> job) {
+        int[]            result = null;
+        RuntimeException error  = null;
+
+        try {
+            result = job.sort(() -> (gen != generation));
+        }
+        catch(CancellationException ignored) {
+            // A newer sort replaced this one.
+        }
+        catch(RuntimeException e) {
+            error = e;
+        }
+
+        int[]            r   = result;
+        RuntimeException err = error;
+        invokeLater(() -> onSortFinished(gen, r, err));
+    }
+
+    private void scheduleSort() {
+        if(!sortPending) {
+            sortPending = true;
+            invokeLater(() -> {
+                sortPending = false;
+                startSort();
+            });
+        }
+    }
+
+    private void setViewToModel(int @Nullable [] v2m) {
+        if(v2m == null) {
+            viewToModel = null;
+            modelToView = null;
+        }
+        else {
+            int[] m2v = new int[model.getRowCount()];
+            Arrays.fill(m2v, -1);
+            for(int i = 0; i < v2m.length; i++) m2v[v2m[i]] = i;
+            viewToModel = v2m;
+            modelToView = m2v;
+        }
+    }
+
+    private void startSort() {
+        if(sorting) {
+            resortNeeded = true;
+        }
+        else if(isSorted()) {
+            int        gen = generation;
+            SortJob<T> job = new SortJob<>(model, sortKeys, comparators, collator);
+            sorting = true;
+            pool.execute(() -> runSort(gen, job));
+        }
+    }
+
+    private void swapViewToModel(int @Nullable [] v2m) {
+        int[] previous = requireNonNullElse(viewToModel, UI.EMPTY_INT_ARRAY);
+        setViewToModel(v2m);
+        fireRowSorterChanged(previous);
+    }
+
+    private static int @NotNull [] deleteRows(int @NotNull [] v2m, int first, int end) {
+        int   count  = (end - first + 1);
+        int[] result = new int[Math.max(0, v2m.length - count)];
+        int   j      = 0;
+
+        for(int m : v2m) {
+            if(m < first) result[j++] = m;
+            else if(m > end) result[j++] = (m - count);
+        }
+
+        return ((j == result.length) ? result : Arrays.copyOf(result, j));
+    }
+
+    private static int @NotNull [] insertRows(int @NotNull [] v2m, int first, int end) {
+        int   count  = (end - first + 1);
+        int[] result = new int[v2m.length + count];
+
+        for(int i = 0; i < v2m.length; i++) result[i] = ((v2m[i] >= first) ? (v2m[i] + count) : v2m[i]);
+        // New rows go to the bottom until the next sort puts them in their place.
+        for(int i = 0; i < count; i++) result[v2m.length + i] = (first + i);
+
+        return result;
+    }
+
+    private static void insertionSort(int @NotNull [] rows, int lo, int hi, @NotNull RowComparator comparator) {
+        for(int i = (lo + 1); i < hi; i++) {
+            int row = rows[i];
+            int j   = (i - 1);
+            while((j >= lo) && (comparator.compare(rows[j], row) > 0)) rows[j + 1] = rows[j--];
+            rows[j + 1] = row;
+        }
+    }
+
+    private static void merge(int @NotNull [] rows, int @NotNull [] tmp, int lo, int mid, int hi, @NotNull RowComparator comparator) {
+        if(comparator.compare(rows[mid - 1], rows[mid]) > 0) {
+            System.arraycopy(rows, lo, tmp, lo, (hi - lo));
+            int i = lo, j = mid, k = lo;
+            while((i < mid) && (j < hi)) rows[k++] = ((comparator.compare(tmp[j], tmp[i]) < 0) ? tmp[j++] : tmp[i++]);
+            while(i < mid) rows[k++] = tmp[i++];
+        }
+    }
+
+    private static void mergeSort(int @NotNull [] rows, int @NotNull [] tmp, int lo, int hi, @NotNull RowComparator comparator) {
+        if((hi - lo) <= INSERTION_THRESHOLD) {
+            insertionSort(rows, lo, hi, comparator);
+        }
+        else {
+            int mid = ((lo + hi) >>> 1);
+            mergeSort(rows, tmp, lo, mid, comparator);
+            mergeSort(rows, tmp, mid, hi, comparator);
+            merge(rows, tmp, lo, mid, hi, comparator);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowComparator {
+        int compare(int row1, int row2);
+    }
+
+    private static final class MergeSortTask extends RecursiveAction {
+        private final int[]           rows;
+        private final int[]           tmp;
+        private final int             lo;
+        private final int             hi;
+        private final RowComparator   comparator;
+        private final BooleanSupplier cancelled;
+
+        public MergeSortTask(int @NotNull [] rows, int @NotNull [] tmp, int lo, int hi, @NotNull RowComparator comparator, @NotNull BooleanSupplier cancelled) {
+            this.rows       = rows;
+            this.tmp        = tmp;
+            this.lo         = lo;
+            this.hi         = hi;
+            this.comparator = comparator;
+            this.cancelled  = cancelled;
+        }
+
+        protected @Override void compute() {
+            if(cancelled.getAsBoolean()) throw new CancellationException();
+
+            if((hi - lo) <= SEQUENTIAL_THRESHOLD) {
+                mergeSort(rows, tmp, lo, hi, comparator);
+            }
+            else {
+                int mid = ((lo + hi) >>> 1);
+                invokeAll(new MergeSortTask(rows, tmp, lo, mid, comparator, cancelled), new MergeSortTask(rows, tmp, mid, hi, comparator, cancelled));
+                merge(rows, tmp, lo, mid, hi, comparator);
+            }
+        }
+    }
+
+    /**
+     * A snapshot of everything needed to sort, taken on the event dispatch thread.
+     */
+    private static final class SortJob<T> {
+        private final PGJTableRowModel<T> rowModel;
+        private final PGDataSupplier<T>   dataSupplier;
+        private final int                 rowCount;
+        private final SortKey[]           keys;
+        private final Class<?>[]          classes;
+        private final Comparator<?>[]     comparators;
+        private final Collator            collator;
+
+        public SortJob(@NotNull PGJTableModel<T> model, @NotNull List<SortKey> sortKeys, @NotNull Map<Integer, Comparator<?>> comparators, @NotNull Collator collator) {
+            this.rowModel     = model.getRowModel();
+            this.dataSupplier = model.getDataSupplier();
+            this.rowCount     = model.getRowCount();
+            this.keys         = sortKeys.stream().filter(k -> (k.getSortOrder() != SortOrder.UNSORTED)).toArray(SortKey[]::new);
+            this.classes      = Arrays.stream(keys).map(k -> model.getColumnClass(k.getColumn())).toArray(Class<?>[]::new);
+            this.comparators  = Arrays.stream(keys).map(k -> comparators.get(k.getColumn())).toArray(Comparator<?>[]::new);
+            this.collator     = collator;
+        }
+
+        public int @NotNull [] sort(@NotNull BooleanSupplier cancelled) {
+            RowComparator[] columns = new RowComparator[keys.length];
+
+            for(int i = 0; i < keys.length; i++) {
+                RowComparator c = getColumnComparator(i, cancelled);
+                columns[i] = ((keys[i].getSortOrder() == SortOrder.DESCENDING) ? (r1, r2) -> c.compare(r2, r1) : c);
+            }
+
+            RowComparator comparator = ((columns.length == 1) ? columns[0] : (r1, r2) -> {
+                for(RowComparator c : columns) {
+                    int cc = c.compare(r1, r2);
+                    if(cc != 0) return cc;
+                }
+                return 0;
+            });
+
+            int[] rows = IntStream.range(0, rowCount).toArray();
+            new MergeSortTask(rows, new int[rowCount], 0, rowCount, comparator, cancelled).invoke();
+            return rows;
+        }
+
+        private void forEachRow(@NotNull BooleanSupplier cancelled, @NotNull IntConsumer consumer) {
+            IntStream.range(0, rowCount).parallel().forEach(r -> {
+                if(((r & 0xfff) == 0) && cancelled.getAsBoolean()) throw new CancellationException();
+                consumer.accept(r);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private @NotNull RowComparator getColumnComparator(int index, @NotNull BooleanSupplier cancelled) {
+            int      column = keys[index].getColumn();
+            Class<?> cls    = classes[index];
+
+            if(comparators[index] == null) {
+                if((cls == int.class) || (cls == long.class) || (cls == boolean.class)) {
+                    long[] k = new long[rowCount];
+                    forEachRow(cancelled, r -> k[r] = getLongKey(r, column, cls));
+                    return (r1, r2) -> Long.compare(k[r1], k[r2]);
+                }
+                if(cls == double.class) {
+                    double[] k = new double[rowCount];
+                    forEachRow(cancelled, r -> k[r] = getDoubleKey(r, column));
+                    return (r1, r2) -> Double.compare(k[r1], k[r2]);
+                }
+                if((cls != null) && (cls != String.class) && Comparable.class.isAssignableFrom(cls)) {
+                    return getObjectComparator(column, (Comparator<Object>)(Comparator<?>)Comparator.naturalOrder(), cancelled);
+                }
+
+                return getRankComparator(column, cancelled);
+            }
+
+            return getObjectComparator(column, (Comparator<Object>)comparators[index], cancelled);
+        }
+
+        private double getDoubleKey(int row, int column) {
+            T item = getItem(row);
+            return ((item == null) ? Double.NEGATIVE_INFINITY : rowModel.getColumnDoubleValue(item, column));
+        }
+
+        private @Nullable T getItem(int row) {
+            return (dataSupplier.isAvailable(row) ? dataSupplier.get(row) : null);
+        }
+
+        private long getLongKey(int row, int column, @NotNull Class<?> cls) {
+            T item = getItem(row);
+            if(item == null) return Long.MIN_VALUE;
+            if(cls == int.class) return rowModel.getColumnIntValue(item, column);
+            if(cls == boolean.class) return (rowModel.getColumnBooleanValue(item, column) ? 1 : 0);
+            return rowModel.getColumnLongValue(item, column);
+        }
+
+        private @NotNull RowComparator getObjectComparator(int column, @NotNull Comparator<Object> comparator, @NotNull BooleanSupplier cancelled) {
+            Object[] k = new Object[rowCount];
+            forEachRow(cancelled, r -> k[r] = getValue(r, column));
+            return getObjectComparator(k, comparator);
+        }
+
+        /**
+         * Strings are sorted by their rank among the column's distinct values. That way the collator only looks at each distinct value once and the sort itself
+         * only compares integers.
+         */
+        private @NotNull RowComparator getRankComparator(int column, @NotNull BooleanSupplier cancelled) {
+            String[] values = new String[rowCount];
+            forEachRow(cancelled, r -> values[r] = ofNullable(getValue(r, column)).map(Object::toString).orElse(null));
+
+            ThreadLocal<Collator> collators = ThreadLocal.withInitial(() -> (Collator)collator.clone());
+            CollationKey[]        distinct  = Arrays.stream(values).parallel().unordered().filter(Objects::nonNull).distinct().map(v -> collators.get().getCollationKey(v)).toArray(CollationKey[]::new);
+            Map<String, Integer>  ranks     = new HashMap<>(distinct.length * 2);
+
+            Arrays.sort(distinct);
+            for(int i = 0, rank = 0; i < distinct.length; i++) {
+                if((i > 0) && (distinct[i].compareTo(distinct[i - 1]) != 0)) rank++;
+                ranks.put(distinct[i].getSourceString(), rank);
+            }
+
+            int[] k = new int[rowCount];
+            forEachRow(cancelled, r -> k[r] = ((values[r] == null) ? -1 : ranks.get(values[r])));
+            return (r1, r2) -> Integer.compare(k[r1], k[r2]);
+        }
+
+        private @Nullable Object getValue(int row, int column) {
+            T item = getItem(row);
+            return ((item == null) ? null : rowModel.getColumnValue(item, column));
+        }
+
+        private static @NotNull RowComparator getObjectComparator(Object @NotNull [] k, @NotNull Comparator<Object> comparator) {
+            return (r1, r2) -> {
+                Object o1 = k[r1];
+                Object o2 = k[r2];
+                if(o1 == null) return ((o2 == null) ? 0 : -1);
+                if(o2 == null) return 1;
+                return comparator.compare(o1, o2);
+            };
+        }
+    }
+}
@@ -26,28 +26,74 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.EventObject;
 import java.util.List;
+import java.util.function.IntFunction;
 
+/**
+ * Describes the selection of a {@link com.projectgalen.lib.ui.components.table.PGJTable}. The selected rows and columns are kept as ranges and the selected
+ * items are looked up only when they are asked for, so selecting every row of a large table does not build any large arrays or lists. The items are read from
+ * the table's data supplier at the time they are asked for so they should be read while handling the event.
+ */
 public class PGJTableSelectionEvent extends EventObject {
-    private final int[] selectedRows;
-    private final int[] selectedColumns;
-    private final List<?> selectedItems;
+    private final PGSelectionRanges rowRanges;
+    private final PGSelectionRanges columnRanges;
+    private final List<?>           selectedItems;
+    private       int[]             selectedRows    = null;
+    private       int[]             selectedColumns = null;
 
     public PGJTableSelectionEvent(@NotNull Object source, int @NotNull [] selectedRows, int @NotNull [] selectedColumns, @NotNull List<?> selectedItems) {
         super(source);
+        this.rowRanges       = PGSelectionRanges.of(selectedRows);
+        this.columnRanges    = PGSelectionRanges.of(selectedColumns);
         this.selectedRows    = selectedRows;
         this.selectedColumns = selectedColumns;
         this.selectedItems   = selectedItems;
     }
 
+    /**
+     * @param source       The source of the event.
+     * @param rowRanges    The selected rows, as view indexes.
+     * @param columnRanges The selected columns, as view indexes.
+     * @param itemAccessor Returns the item shown in the given view row.
+     */
+    public PGJTableSelectionEvent(@NotNull Object source, @NotNull PGSelectionRanges rowRanges, @NotNull PGSelectionRanges columnRanges, @NotNull IntFunction<?> itemAccessor) {
+        super(source);
+        this.rowRanges     = rowRanges;
+        this.columnRanges  = columnRanges;
+        this.selectedItems = rowRanges.asList(itemAccessor);
+    }
+
+    public @NotNull PGSelectionRanges getColumnRanges() {
+        return columnRanges;
+    }
+
+    public @NotNull PGSelectionRanges getRowRanges() {
+        return rowRanges;
+    }
+
+    public int getSelectedColumnCount() {
+        return columnRanges.size();
+    }
+
     public int[] getSelectedColumns() {
+        if(selectedColumns == null) selectedColumns = columnRanges.toArray();
         return selectedColumns;
     }
 
+    /**
+     * Returns the selected items. The list is a read-only view that looks each item up when it is asked for.
+     *
+     * @return The selected items.
+     */
     public List<?> getSelectedItems() {
         return selectedItems;
     }
 
+    public int getSelectedRowCount() {
+        return rowRanges.size();
+    }
+
     public int[] getSelectedRows() {
+        if(selectedRows == null) selectedRows = rowRanges.toArray();
         return selectedRows;
     }
 }
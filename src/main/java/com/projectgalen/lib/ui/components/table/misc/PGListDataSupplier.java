@@ -62,4 +62,8 @@ public class PGListDataSupplier<T> implements PGDataSupplier<T> {
     public @Override @NotNull Stream<T> stream() {
         return list.stream();
     }
+
+    @NotNull List<T> getList() {
+        return list;
+    }
 }
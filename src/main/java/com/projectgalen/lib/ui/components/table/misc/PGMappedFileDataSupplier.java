@@ -0,0 +1,314 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGMappedFileDataSupplier.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.interfaces.PGRecordCodec;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.projectgalen.lib.ui.M.msgs;
+import static com.projectgalen.lib.ui.M.props;
+import static com.projectgalen.lib.utils.errors.Errors.makeRuntimeException;
+
+/**
+ * A data supplier that browses a file of binary records without reading it into memory. The file is memory-mapped in segments of up to 1 GB, each mapped the
+ * first time one of its records is asked for, and a record is only decoded by the {@link PGRecordCodec} when {@link #get(int)} asks for it. The most recently
+ * decoded items are kept in a small cache so repainting the visible rows does not decode them again. Opening a file only reads its size, and the memory
+ * actually resident is the pages of the file that have been looked at, which the operating system can drop again at any time.
+ * <p>
+ * Records are either fixed-width, optionally after a header, or variable-width with a separate index file holding the starting offset of each record in the
+ * data file as a big-endian <code>long</code>. A variable-width record ends where the next one starts, and the last one ends at the end of the data file. The
+ * index file is memory-mapped too.
+ * <p>
+ * The file is expected to be read-only or append-only. Call {@link #refresh()} after records were appended to show them.
+ *
+ * @param <T> The type of the items.
+ */
+@SuppressWarnings("unused")
+public class PGMappedFileDataSupplier<T> extends AbstractPGDataSupplier<T> implements Closeable {
+
+    public static final int DEFAULT_CACHE_SIZE = props.getInt("mapped.supplier.cache.size");
+
+    private static final int SEGMENT_SIZE = (1 << 30);
+
+    private final PGRecordCodec<T> codec;
+    private final FileChannel      dataChannel;
+    private final FileChannel      indexChannel;
+    private final long             headerSize;
+    private final int              recordSize;
+    private final int              cacheSize;
+    private final Map<Integer, T>  cache;
+    private final Object           lock = new Object();
+    private       Segments         data;
+    private       Segments         index;
+    private       int              size;
+
+    /**
+     * Browse a file of fixed-width records.
+     *
+     * @param file       The file.
+     * @param recordSize The size of each record in bytes.
+     * @param codec      Decodes a record.
+     *
+     * @throws IOException If the file cannot be opened.
+     */
+    public PGMappedFileDataSupplier(@NotNull Path file, @Range(from = 1, to = Integer.MAX_VALUE) int recordSize, @NotNull PGRecordCodec<T> codec) throws IOException {
+        this(file, 0, recordSize, codec, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Browse a file of fixed-width records that follow a header.
+     *
+     * @param file       The file.
+     * @param headerSize The number of bytes before the first record.
+     * @param recordSize The size of each record in bytes.
+     * @param codec      Decodes a record.
+     * @param cacheSize  The number of decoded items to keep.
+     *
+     * @throws IOException If the file cannot be opened.
+     */
+    public PGMappedFileDataSupplier(@NotNull Path file,
+                                    @Range(from = 0, to = Long.MAX_VALUE) long headerSize,
+                                    @Range(from = 1, to = Integer.MAX_VALUE) int recordSize,
+                                    @NotNull PGRecordCodec<T> codec,
+                                    @Range(from = 0, to = Integer.MAX_VALUE) int cacheSize) throws IOException {
+        this(file, null, headerSize, recordSize, codec, cacheSize);
+    }
+
+    /**
+     * Browse a file of variable-width records.
+     *
+     * @param dataFile  The file holding the records.
+     * @param indexFile The file holding the starting offset of each record in the data file as a big-endian <code>long</code>.
+     * @param codec     Decodes a record.
+     *
+     * @throws IOException If either file cannot be opened.
+     */
+    public PGMappedFileDataSupplier(@NotNull Path dataFile, @NotNull Path indexFile, @NotNull PGRecordCodec<T> codec) throws IOException {
+        this(dataFile, indexFile, codec, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Browse a file of variable-width records.
+     *
+     * @param dataFile  The file holding the records.
+     * @param indexFile The file holding the starting offset of each record in the data file as a big-endian <code>long</code>.
+     * @param codec     Decodes a record.
+     * @param cacheSize The number of decoded items to keep.
+     *
+     * @throws IOException If either file cannot be opened.
+     */
+    public PGMappedFileDataSupplier(@NotNull Path dataFile, @NotNull Path indexFile, @NotNull PGRecordCodec<T> codec, @Range(from = 0, to = Integer.MAX_VALUE) int cacheSize)
+            throws IOException {
+        this(dataFile, indexFile, 0, 0, codec, cacheSize);
+    }
+
+    private PGMappedFileDataSupplier(@NotNull Path dataFile, Path indexFile, long headerSize, int recordSize, @NotNull PGRecordCodec<T> codec, int cacheSize) throws IOException {
+        super();
+        this.codec        = codec;
+        this.headerSize   = Math.max(0, headerSize);
+        this.recordSize   = recordSize;
+        this.cacheSize    = Math.max(0, cacheSize);
+        this.cache        = new LinkedHashMap<>(16, 0.75f, true) {
+            protected @Override boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                return (size() > PGMappedFileDataSupplier.this.cacheSize);
+            }
+        };
+        this.dataChannel  = FileChannel.open(dataFile, StandardOpenOption.READ);
+        this.indexChannel = ((indexFile == null) ? null : FileChannel.open(indexFile, StandardOpenOption.READ));
+        this.size         = mapFiles();
+    }
+
+    public @Override void close() throws IOException {
+        synchronized(lock) {
+            cache.clear();
+            data  = null;
+            index = null;
+            size  = 0;
+        }
+        try { dataChannel.close(); } finally { if(indexChannel != null) indexChannel.close(); }
+    }
+
+    public @Override void forEach(@NotNull Consumer<? super T> consumer) {
+        stream().forEach(consumer);
+    }
+
+    public @Override T get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        synchronized(lock) {
+            T item = cache.get(index);
+            if(item != null) return item;
+        }
+        T item = decode(index);
+        if(cacheSize > 0) synchronized(lock) { cache.put(index, item); }
+        return item;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public boolean isFixedWidth() {
+        return (indexChannel == null);
+    }
+
+    /**
+     * Looks at the size of the file(s) again. If records were appended, a {@link com.projectgalen.lib.ui.events.PGDataSupplierEvent.EventType#RowsInserted}
+     * event is fired for them. If the file(s) shrank, all the data is considered changed.
+     */
+    public void refresh() {
+        int oldSize;
+        int newSize;
+
+        synchronized(lock) {
+            oldSize = size;
+            try { size = newSize = mapFiles(); } catch(IOException e) { throw makeRuntimeException(e); }
+            if(newSize < oldSize) cache.clear();
+            else if(!isFixedWidth() && (oldSize > 0)) cache.remove(oldSize - 1);  // The old last record used to end at the end of the file.
+        }
+
+        if(newSize > oldSize) fireRowsInserted(oldSize, newSize - 1);
+        else if(newSize < oldSize) fireDataChanged();
+    }
+
+    public @Override int size() {
+        synchronized(lock) { return size; }
+    }
+
+    /**
+     * Streams all the items by decoding them on the calling thread. Items decoded this way bypass the cache so that walking the whole file does not evict the
+     * items that are currently on screen.
+     *
+     * @return The stream.
+     */
+    public @Override @NotNull Stream<T> stream() {
+        return IntStream.range(0, size()).mapToObj(this::decode);
+    }
+
+    private T decode(int index) {
+        try {
+            return codec.decode(record(index), index);
+        }
+        catch(Exception e) {
+            throw makeRuntimeException(e);
+        }
+    }
+
+    private int mapFiles() throws IOException {
+        long dataLength = dataChannel.size();
+
+        if(indexChannel == null) {
+            long body    = Math.max(0, (dataLength - headerSize));
+            int  segRecs = Math.max(1, (SEGMENT_SIZE / recordSize));
+            data = new Segments(dataChannel, headerSize, (body - (body % recordSize)), ((long)segRecs * recordSize));
+            return (int)Math.min(Integer.MAX_VALUE, (body / recordSize));
+        }
+
+        long indexLength = indexChannel.size();
+        data  = new Segments(dataChannel, 0, dataLength, SEGMENT_SIZE);
+        index = new Segments(indexChannel, 0, (indexLength - (indexLength % Long.BYTES)), SEGMENT_SIZE);
+        return (int)Math.min(Integer.MAX_VALUE, (indexLength / Long.BYTES));
+    }
+
+    private @NotNull ByteBuffer record(int i) throws IOException {
+        Segments d;
+        Segments x;
+        int      sz;
+
+        synchronized(lock) {
+            d  = data;
+            x  = index;
+            sz = size;
+        }
+
+        if((d == null) || (i < 0) || (i >= sz)) throw new IndexOutOfBoundsException(i);
+        if(x == null) return d.slice(((long)i * recordSize), recordSize);
+
+        long start = x.getLong((long)i * Long.BYTES);
+        long end   = (((i + 1) < sz) ? x.getLong((long)(i + 1) * Long.BYTES) : d.length);
+        return d.slice(start, (int)Math.max(0, Math.min(Integer.MAX_VALUE, (end - start))));
+    }
+
+    /**
+     * A region of a file mapped lazily in segments.
+     */
+    private static final class Segments {
+        private final FileChannel  channel;
+        private final long         base;
+        private final long         length;
+        private final long         segmentSize;
+        private final ByteBuffer[] segments;
+
+        public Segments(@NotNull FileChannel channel, long base, long length, long segmentSize) {
+            this.channel     = channel;
+            this.base        = base;
+            this.length      = length;
+            this.segmentSize = segmentSize;
+            this.segments    = new ByteBuffer[(int)((length + segmentSize - 1) / segmentSize)];
+        }
+
+        public long getLong(long offset) throws IOException {
+            return slice(offset, Long.BYTES).getLong();
+        }
+
+        /**
+         * Returns a read-only view of the given bytes. A record that crosses a segment boundary, which only variable-width records can do, is read into a heap
+         * buffer instead.
+         */
+        public @NotNull ByteBuffer slice(long offset, int count) throws IOException {
+            if((offset < 0) || ((offset + count) > length)) throw new IOException(msgs.format("msg.err.mapped.record_out_of_bounds", offset, count));
+
+            int seg = (int)(offset / segmentSize);
+            int pos = (int)(offset % segmentSize);
+
+            if((pos + count) <= segmentSize) return segment(seg).slice(pos, count).asReadOnlyBuffer();
+
+            ByteBuffer buffer = ByteBuffer.allocate(count);
+            while(buffer.hasRemaining()) if(channel.read(buffer, (base + offset + buffer.position())) < 0) throw new EOFException(msgs.format("msg.err.mapped.record_out_of_bounds", offset, count));
+            return buffer.flip().asReadOnlyBuffer();
+        }
+
+        private @NotNull ByteBuffer segment(int seg) throws IOException {
+            synchronized(segments) {
+                ByteBuffer buffer = segments[seg];
+                if(buffer == null) {
+                    long position = (seg * segmentSize);
+                    segments[seg] = buffer = channel.map(FileChannel.MapMode.READ_ONLY, (base + position), Math.min(segmentSize, (length - position)));
+                }
+                return buffer;
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGPagedDataSupplier.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.interfaces.PGPageLoader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.projectgalen.lib.ui.M.props;
+import static com.projectgalen.lib.utils.errors.Errors.makeRuntimeException;
+
+@SuppressWarnings("unused")
+public class PGPagedDataSupplier<T> extends AbstractPGDataSupplier<T> {
+
+    public static final int DEFAULT_PAGE_SIZE = props.getInt("paged.supplier.page.size");
+    public static final int DEFAULT_MAX_PAGES = props.getInt("paged.supplier.max.pages");
+
+    private final PGPageLoader<T>       loader;
+    private final ExecutorService       executor;
+    private final int                   pageSize;
+    private final int                   maxPages;
+    private final Map<Integer, List<T>> pages;
+    private final Set<Integer>          pending    = new HashSet<>();
+    private final Object                lock       = new Object();
+    private       int                   size;
+    private       int                   generation = 0;
+
+    public PGPagedDataSupplier(@NotNull PGPageLoader<T> loader) {
+        this(loader, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES, null);
+    }
+
+    public PGPagedDataSupplier(@NotNull PGPageLoader<T> loader, @Range(from = 1, to = Integer.MAX_VALUE) int pageSize, @Range(from = 1, to = Integer.MAX_VALUE) int maxPages) {
+        this(loader, pageSize, maxPages, null);
+    }
+
+    public PGPagedDataSupplier(@NotNull PGPageLoader<T> loader,
+                               @Range(from = 1, to = Integer.MAX_VALUE) int pageSize,
+                               @Range(from = 1, to = Integer.MAX_VALUE) int maxPages,
+                               @Nullable ExecutorService executor) {
+        super();
+        this.loader   = loader;
+        this.pageSize = Math.max(1, pageSize);
+        this.maxPages = Math.max(1, maxPages);
+        this.executor = Objects.requireNonNullElseGet(executor, PGPagedDataSupplier::createDefaultExecutor);
+        this.pages    = new LinkedHashMap<>(16, 0.75f, true) {
+            protected @Override boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return (size() > PGPagedDataSupplier.this.maxPages);
+            }
+        };
+        this.size     = loadSize();
+    }
+
+    public @Override void forEach(@NotNull Consumer<? super T> consumer) {
+        stream().forEach(consumer);
+    }
+
+    /**
+     * Returns the item at the given index if the page containing it is currently loaded. Otherwise, the page is queued to be loaded in the background and
+     * <code>null</code> is returned. Once the page arrives a {@link com.projectgalen.lib.ui.events.PGDataSupplierEvent.EventType#RowsUpdated} event is fired for
+     * the rows it contains.
+     *
+     * @param index The index of the item.
+     *
+     * @return The item or <code>null</code> if it has not been loaded yet.
+     */
+    public @Override @Nullable T get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        int page = (index / pageSize);
+        synchronized(lock) {
+            List<T> items = pages.get(page);
+            if(items != null) return itemFromPage(items, index);
+            requestPage(page);
+            return null;
+        }
+    }
+
+    public int getLoadedPageCount() {
+        synchronized(lock) { return pages.size(); }
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public @Override boolean isAvailable(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        synchronized(lock) { return pages.containsKey(index / pageSize); }
+    }
+
+    /**
+     * Returns the item at the given index, loading the page containing it on the calling thread if it is not loaded yet. The page is added to the page cache
+     * and a {@link com.projectgalen.lib.ui.events.PGDataSupplierEvent.EventType#RowsUpdated} event is fired for its rows, just as when it is loaded in the
+     * background.
+     *
+     * @param index The index of the item.
+     *
+     * @return The item.
+     */
+    public @Override @Nullable T load(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        int page = (index / pageSize);
+        int gen;
+
+        synchronized(lock) {
+            List<T> items = pages.get(page);
+            if(items != null) return itemFromPage(items, index);
+            gen = generation;
+        }
+
+        List<T> items = loadPageNow(page);
+        onPageLoaded(page, gen, items);
+        return itemFromPage(items, index);
+    }
+
+    /**
+     * Queues the page containing the given index to be loaded in the background if it is neither loaded nor already queued.
+     *
+     * @param index The index of the item.
+     */
+    public @Override void prefetch(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        int page = (index / pageSize);
+        synchronized(lock) { if(!pages.containsKey(page)) requestPage(page); }
+    }
+
+    /**
+     * Returns a reader that loads the pages it needs on the calling threads without adding them to the page cache or firing any events. Pages already in the
+     * cache are used as they are. The reader remembers the last pages it loaded, as many as the cache holds, and when several threads need the same page it
+     * is loaded only once.
+     *
+     * @return The reader.
+     */
+    public @Override @NotNull IntFunction<T> reader() {
+        Map<Integer, CompletableFuture<List<T>>> read = new LinkedHashMap<>(16, 0.75f, true) {
+            protected @Override boolean removeEldestEntry(Map.Entry<Integer, CompletableFuture<List<T>>> eldest) {
+                return (size() > maxPages);
+            }
+        };
+
+        return index -> {
+            int                        page = (index / pageSize);
+            CompletableFuture<List<T>> items;
+            boolean                    owner;
+
+            synchronized(read) {
+                items = read.get(page);
+                owner = (items == null);
+                if(owner) read.put(page, (items = new CompletableFuture<>()));
+            }
+            if(owner) {
+                try {
+                    items.complete(loadPageNow(page));
+                }
+                catch(RuntimeException e) {
+                    items.completeExceptionally(e);
+                    throw e;
+                }
+            }
+            return itemFromPage(items.join(), index);
+        };
+    }
+
+    /**
+     * Discards all loaded pages, queries the loader for the current number of items, and notifies the listeners that all the data has changed.
+     */
+    public void refresh() {
+        int sz = loadSize();
+        synchronized(lock) {
+            generation++;
+            pages.clear();
+            pending.clear();
+            size = sz;
+        }
+        fireDataChanged();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public @Override int size() {
+        synchronized(lock) { return size; }
+    }
+
+    /**
+     * Streams all the items by loading them page by page on the calling thread. Pages loaded this way bypass the page cache so that walking the whole data set
+     * does not evict the pages that are currently on screen.
+     *
+     * @return The stream.
+     */
+    public @Override @NotNull Stream<T> stream() {
+        int sz = size();
+        return IntStream.range(0, ((sz + pageSize - 1) / pageSize)).mapToObj(this::loadPageNow).flatMap(List::stream);
+    }
+
+    private @Nullable T itemFromPage(@NotNull List<T> items, int index) {
+        int i = (index % pageSize);
+        return ((i < items.size()) ? items.get(i) : null);
+    }
+
+    private @NotNull List<T> loadPage(int page) throws Exception {
+        int offset = (page * pageSize);
+        return loader.loadPage(offset, Math.max(1, Math.min(pageSize, (size() - offset))));
+    }
+
+    private @NotNull List<T> loadPageNow(int page) {
+        synchronized(lock) {
+            List<T> items = pages.get(page);
+            if(items != null) return items;
+        }
+        try { return loadPage(page); } catch(Exception e) { throw makeRuntimeException(e); }
+    }
+
+    private int loadSize() {
+        try { return Math.max(0, loader.size()); } catch(Exception e) { throw makeRuntimeException(e); }
+    }
+
+    private void onPageLoaded(int page, int gen, @NotNull List<T> items) {
+        synchronized(lock) {
+            if(gen != generation) return;
+            pending.remove(page);
+            pages.put(page, List.copyOf(items));
+        }
+        int first = (page * pageSize);
+        fireRowsUpdated(first, (first + Math.max(1, items.size()) - 1));
+    }
+
+    private void requestPage(int page) {
+        if(pending.add(page)) {
+            int gen = generation;
+            executor.execute(() -> {
+                try {
+                    onPageLoaded(page, gen, loadPage(page));
+                }
+                catch(Exception e) {
+                    synchronized(lock) { pending.remove(page); }
+                    e.printStackTrace(System.err);
+                }
+            });
+        }
+    }
+
+    private static @NotNull ExecutorService createDefaultExecutor() {
+        return Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "PGPagedDataSupplier-Loader");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
@@ -0,0 +1,705 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGRangeSelectionModel.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static com.projectgalen.lib.ui.M.msgs;
+
+/**
+ * A {@link ListSelectionModel} that stores the selection as a sorted list of runs of selected indexes instead of one bit per index. Selecting, deselecting, or
+ * inverting a range of indexes, and inserting or removing indexes, take time proportional to the number of runs rather than the number of indexes, so
+ * selecting every row of a table with millions of rows is as cheap as selecting one.
+ * <p>
+ * This class extends {@link DefaultListSelectionModel} only so that the Swing actions that are enabled just for that class, such as moving the lead with
+ * Ctrl+Arrow, keep working. None of the state of the superclass is used.
+ */
+@SuppressWarnings("unused")
+public class PGRangeSelectionModel extends DefaultListSelectionModel {
+
+    private static final int MIN = -1;
+    private static final int MAX = Integer.MAX_VALUE;
+
+    private Runs    runs          = new Runs();
+    private int     selectionMode = MULTIPLE_INTERVAL_SELECTION;
+    private int     anchorIndex   = -1;
+    private int     leadIndex     = -1;
+    private int     firstAdjusted = MAX;
+    private int     lastAdjusted  = MIN;
+    private int     firstChanged  = MAX;
+    private int     lastChanged   = MIN;
+    private boolean isAdjusting   = false;
+
+    public PGRangeSelectionModel() {
+        super();
+    }
+
+    public @Override void addSelectionInterval(int index0, int index1) {
+        if((index0 == -1) || (index1 == -1)) return;
+
+        if(selectionMode == SINGLE_SELECTION) {
+            setSelectionInterval(index0, index1);
+            return;
+        }
+
+        int setMin = Math.min(index0, index1);
+        int setMax = Math.max(index0, index1);
+
+        updateLeadAnchorIndices(index0, index1);
+
+        if((selectionMode == SINGLE_INTERVAL_SELECTION) && !runs.isEmpty() && ((setMax < (runs.min() - 1)) || (setMin > (runs.max() + 1)))) {
+            setSelectionInterval(index0, index1);
+            return;
+        }
+
+        changeSelection(MAX, MIN, setMin, setMax, true);
+    }
+
+    public @Override void clearSelection() {
+        if(!runs.isEmpty()) changeSelection(runs.min(), runs.max(), MAX, MIN, true);
+    }
+
+    public @Override Object clone() throws CloneNotSupportedException {
+        PGRangeSelectionModel clone = (PGRangeSelectionModel)super.clone();
+        clone.runs = runs.copy();
+        return clone;
+    }
+
+    public @Override int getAnchorSelectionIndex() {
+        return anchorIndex;
+    }
+
+    public @Override int getLeadSelectionIndex() {
+        return leadIndex;
+    }
+
+    public @Override int getMaxSelectionIndex() {
+        return (runs.isEmpty() ? -1 : runs.max());
+    }
+
+    public @Override int getMinSelectionIndex() {
+        return (runs.isEmpty() ? -1 : runs.min());
+    }
+
+    public @Override int[] getSelectedIndices() {
+        return getSelectedRanges().toArray();
+    }
+
+    public @Override int getSelectedItemsCount() {
+        return runs.size();
+    }
+
+    /**
+     * Returns a snapshot of the selection as ranges. This takes time proportional to the number of runs, not the number of selected indexes.
+     *
+     * @return The selected ranges.
+     */
+    public @NotNull PGSelectionRanges getSelectedRanges() {
+        PGSelectionRanges.Builder builder = new PGSelectionRanges.Builder();
+        for(int i = 0; i < runs.count; i++) builder.add(runs.starts[i], runs.ends[i]);
+        return builder.build();
+    }
+
+    public int getSelectedRunCount() {
+        return runs.count;
+    }
+
+    public @Override int getSelectionMode() {
+        return selectionMode;
+    }
+
+    public @Override boolean getValueIsAdjusting() {
+        return isAdjusting;
+    }
+
+    public @Override void insertIndexInterval(int index, int length, boolean before) {
+        int     insMin = (before ? index : (index + 1));
+        int     insMax = ((insMin + length) - 1);
+        boolean select = ((selectionMode != SINGLE_SELECTION) && runs.contains(index));
+        Runs    old    = runs;
+
+        if(!runs.isEmpty() && (runs.max() >= insMin)) runs = runs.insertIndexes(insMin, length);
+        else if(select) runs = runs.copy();
+        if(select) runs.select(insMin, insMax);
+        markChanges(old, runs);
+
+        int lead   = (((leadIndex > index) || (before && (leadIndex == index))) ? (leadIndex + length) : leadIndex);
+        int anchor = (((anchorIndex > index) || (before && (anchorIndex == index))) ? (anchorIndex + length) : anchorIndex);
+        if((lead != leadIndex) || (anchor != anchorIndex)) updateLeadAnchorIndices(anchor, lead);
+
+        fireChanges();
+    }
+
+    /**
+     * Invert the selection state of every index in the given range. This is ignored unless the selection mode is
+     * {@link ListSelectionModel#MULTIPLE_INTERVAL_SELECTION}.
+     *
+     * @param index0 One end of the range.
+     * @param index1 The other end of the range.
+     */
+    public void invertSelection(int index0, int index1) {
+        if((selectionMode == MULTIPLE_INTERVAL_SELECTION) && (index0 >= 0) && (index1 >= 0)) {
+            int min = Math.min(index0, index1);
+            int max = Math.max(index0, index1);
+            runs = runs.invert(min, max);
+            markAsDirty(min, max);
+            fireChanges();
+        }
+    }
+
+    public @Override boolean isSelectedIndex(int index) {
+        return runs.contains(index);
+    }
+
+    public @Override boolean isSelectionEmpty() {
+        return runs.isEmpty();
+    }
+
+    public @Override void moveLeadSelectionIndex(int leadIndex) {
+        if(leadIndex == -1) {
+            if(anchorIndex != -1) return;
+        }
+        updateLeadAnchorIndices(anchorIndex, leadIndex);
+        fireChanges();
+    }
+
+    public @Override void removeIndexInterval(int index0, int index1) {
+        int rmMin = Math.min(index0, index1);
+        int rmMax = Math.max(index0, index1);
+        int gap   = ((rmMax - rmMin) + 1);
+
+        if(!runs.isEmpty() && (runs.max() >= rmMin)) {
+            Runs before = runs;
+            runs = runs.removeIndexes(rmMin, rmMax);
+            markChanges(before, runs);
+        }
+
+        int lead   = adjustForRemove(leadIndex, rmMin, rmMax, gap);
+        int anchor = adjustForRemove(anchorIndex, rmMin, rmMax, gap);
+        if((lead != leadIndex) || (anchor != anchorIndex)) updateLeadAnchorIndices(anchor, lead);
+
+        fireChanges();
+    }
+
+    public @Override void removeSelectionInterval(int index0, int index1) {
+        removeSelectionInterval(index0, index1, true);
+    }
+
+    /**
+     * Returns an iterator over the selected indexes in ascending order. The iterator reads the runs directly so it does not build an array of the selected
+     * indexes. The selection must not be changed while iterating.
+     *
+     * @return The iterator.
+     */
+    public @NotNull PrimitiveIterator.OfInt selectedIndexIterator() {
+        Runs r = runs;
+        return new PrimitiveIterator.OfInt() {
+            private int run  = 0;
+            private int next = ((r.count > 0) ? r.starts[0] : 0);
+
+            public @Override boolean hasNext() {
+                return (run < r.count);
+            }
+
+            public @Override int nextInt() {
+                if(run >= r.count) throw new NoSuchElementException();
+                int i = next++;
+                if((next > r.ends[run]) && (++run < r.count)) next = r.starts[run];
+                return i;
+            }
+        };
+    }
+
+    public @Override void setAnchorSelectionIndex(int anchorIndex) {
+        updateLeadAnchorIndices(anchorIndex, leadIndex);
+        fireChanges();
+    }
+
+    public @Override void setLeadSelectionIndex(int leadIndex) {
+        int anchor = anchorIndex;
+
+        if(leadIndex == -1) {
+            if(anchor == -1) {
+                updateLeadAnchorIndices(anchor, leadIndex);
+                fireChanges();
+            }
+            return;
+        }
+        else if(anchor == -1) {
+            return;
+        }
+
+        if(this.leadIndex == -1) this.leadIndex = leadIndex;
+
+        boolean shouldSelect = runs.contains(anchorIndex);
+
+        if(selectionMode == SINGLE_SELECTION) {
+            anchor       = leadIndex;
+            shouldSelect = true;
+        }
+
+        int oldMin = Math.min(anchorIndex, this.leadIndex);
+        int oldMax = Math.max(anchorIndex, this.leadIndex);
+        int newMin = Math.min(anchor, leadIndex);
+        int newMax = Math.max(anchor, leadIndex);
+
+        updateLeadAnchorIndices(anchor, leadIndex);
+
+        if(shouldSelect) changeSelection(oldMin, oldMax, newMin, newMax, true);
+        else changeSelection(newMin, newMax, oldMin, oldMax, false);
+    }
+
+    public @Override void setSelectionInterval(int index0, int index1) {
+        if((index0 == -1) || (index1 == -1)) return;
+        if(selectionMode == SINGLE_SELECTION) index0 = index1;
+
+        updateLeadAnchorIndices(index0, index1);
+
+        int clearMin = (runs.isEmpty() ? MAX : runs.min());
+        int clearMax = (runs.isEmpty() ? MIN : runs.max());
+        changeSelection(clearMin, clearMax, Math.min(index0, index1), Math.max(index0, index1), true);
+    }
+
+    public @Override void setSelectionMode(int selectionMode) {
+        int oldMode = this.selectionMode;
+
+        switch(selectionMode) {
+            case SINGLE_SELECTION, SINGLE_INTERVAL_SELECTION, MULTIPLE_INTERVAL_SELECTION -> this.selectionMode = selectionMode;
+            default -> throw new IllegalArgumentException(msgs.format("msg.err.invalid_selection_mode", selectionMode));
+        }
+
+        if((oldMode > this.selectionMode) && !runs.isEmpty()) {
+            if(this.selectionMode == SINGLE_SELECTION) setSelectionInterval(runs.min(), runs.min());
+            else setSelectionInterval(runs.starts[0], runs.ends[0]);
+        }
+    }
+
+    public @Override void setValueIsAdjusting(boolean isAdjusting) {
+        if(isAdjusting != this.isAdjusting) {
+            this.isAdjusting = isAdjusting;
+            fireValueChanged(isAdjusting);
+        }
+    }
+
+    public @Override String toString() {
+        return "%s %d %s%s".formatted(getClass().getName(), hashCode(), (isAdjusting ? "~" : "="), getSelectedRanges());
+    }
+
+    protected @Override void fireValueChanged(boolean isAdjusting) {
+        if(lastChanged != MIN) {
+            int first = firstChanged;
+            int last  = lastChanged;
+            firstChanged = MAX;
+            lastChanged  = MIN;
+            fireValueChanged(first, last, isAdjusting);
+        }
+    }
+
+    private void addRange(int min, int max) {
+        if(min <= max) {
+            int first = runs.firstClear(min);
+            if(first <= max) {
+                markAsDirty(first, runs.lastClear(max));
+                runs.select(min, max);
+            }
+        }
+    }
+
+    private void changeSelection(int clearMin, int clearMax, int setMin, int setMax, boolean clearFirst) {
+        // Where the two ranges overlap the index ends up selected if clearFirst is true and unselected if it isn't, like DefaultListSelectionModel, so only
+        // the indexes outside the overlap are touched by the other range and only the indexes whose state changes are marked as dirty.
+        if(clearFirst) {
+            if(setMin > setMax) {
+                removeRange(clearMin, clearMax);
+            }
+            else {
+                removeRange(clearMin, Math.min(clearMax, (setMin - 1)));
+                removeRange(Math.max(clearMin, (setMax + 1)), clearMax);
+                addRange(setMin, setMax);
+            }
+        }
+        else {
+            if(clearMin > clearMax) {
+                addRange(setMin, setMax);
+            }
+            else {
+                addRange(setMin, Math.min(setMax, (clearMin - 1)));
+                addRange(Math.max(setMin, (clearMax + 1)), setMax);
+                removeRange(clearMin, clearMax);
+            }
+        }
+        fireChanges();
+    }
+
+    private void fireChanges() {
+        if(lastAdjusted != MIN) {
+            if(isAdjusting) {
+                firstChanged = Math.min(firstChanged, firstAdjusted);
+                lastChanged  = Math.max(lastChanged, lastAdjusted);
+            }
+
+            int first = firstAdjusted;
+            int last  = lastAdjusted;
+            firstAdjusted = MAX;
+            lastAdjusted  = MIN;
+            fireValueChanged(first, last);
+        }
+    }
+
+    private void markAsDirty(int min, int max) {
+        if(max >= 0) {
+            firstAdjusted = Math.min(firstAdjusted, Math.max(0, min));
+            lastAdjusted  = Math.max(lastAdjusted, max);
+        }
+    }
+
+    /**
+     * Mark as dirty the span from the first to the last index whose selection state differs between the two sets of runs.
+     */
+    private void markChanges(@NotNull Runs before, @NotNull Runs after) {
+        long first = Runs.firstDifference(before, after);
+        if(first < MAX) markAsDirty((int)first, (int)(Runs.lastDifference(before, after) - 1));
+    }
+
+    private void removeRange(int min, int max) {
+        if(min <= max) {
+            int first = runs.firstSet(min);
+            int last  = runs.lastSet(max);
+            if((first <= max) && (last >= min)) {
+                markAsDirty(Math.max(first, min), Math.min(last, max));
+                runs.deselect(min, max);
+            }
+        }
+    }
+
+    private void removeSelectionInterval(int index0, int index1, boolean changeLeadAnchor) {
+        if((index0 == -1) || (index1 == -1)) return;
+        if(changeLeadAnchor) updateLeadAnchorIndices(index0, index1);
+
+        int clearMin = Math.min(index0, index1);
+        int clearMax = Math.max(index0, index1);
+
+        // Removing from the middle of the only interval allowed would split it in two so remove everything up to the end instead.
+        if((selectionMode != MULTIPLE_INTERVAL_SELECTION) && !runs.isEmpty() && (clearMin > runs.min()) && (clearMax < runs.max())) clearMax = runs.max();
+
+        changeSelection(clearMin, clearMax, MAX, MIN, true);
+    }
+
+    private void updateLeadAnchorIndices(int anchorIndex, int leadIndex) {
+        if(isLeadAnchorNotificationEnabled()) {
+            if(this.anchorIndex != anchorIndex) {
+                markAsDirty(this.anchorIndex, this.anchorIndex);
+                markAsDirty(anchorIndex, anchorIndex);
+            }
+            if(this.leadIndex != leadIndex) {
+                markAsDirty(this.leadIndex, this.leadIndex);
+                markAsDirty(leadIndex, leadIndex);
+            }
+        }
+        this.anchorIndex = anchorIndex;
+        this.leadIndex   = leadIndex;
+    }
+
+    private static int adjustForRemove(int index, int rmMin, int rmMax, int gap) {
+        if((index == 0) && (rmMin == 0)) return index;
+        if(index > rmMax) return (index - gap);
+        if(index >= rmMin) return (rmMin - 1);
+        return index;
+    }
+
+    /**
+     * The selected runs: closed ranges sorted by their start with at least one unselected index between any two of them.
+     */
+    private static final class Runs {
+        private int[] starts;
+        private int[] ends;
+        private int   count = 0;
+
+        public Runs() {
+            this(8);
+        }
+
+        public Runs(int capacity) {
+            starts = new int[Math.max(8, capacity)];
+            ends   = new int[starts.length];
+        }
+
+        public boolean contains(int index) {
+            int i = lastStartingAtOrBefore(index);
+            return ((i >= 0) && (index <= ends[i]));
+        }
+
+        public @NotNull Runs copy() {
+            Runs r = new Runs(count);
+            System.arraycopy(starts, 0, r.starts, 0, count);
+            System.arraycopy(ends, 0, r.ends, 0, count);
+            r.count = count;
+            return r;
+        }
+
+        /**
+         * Returns the first unselected index at or after the given index.
+         */
+        public int firstClear(int index) {
+            int i = lastStartingAtOrBefore(index);
+            return (((i >= 0) && (ends[i] >= index)) ? (ends[i] + 1) : index);
+        }
+
+        /**
+         * Returns the first selected index at or after the given index, or <code>Integer.MAX_VALUE</code> if there isn't one.
+         */
+        public int firstSet(int index) {
+            int i = firstEndingAtOrAfter(index);
+            return ((i < count) ? Math.max(starts[i], index) : MAX);
+        }
+
+        /**
+         * Returns the last unselected index at or before the given index.
+         */
+        public int lastClear(int index) {
+            int i = lastStartingAtOrBefore(index);
+            return (((i >= 0) && (ends[i] >= index)) ? (starts[i] - 1) : index);
+        }
+
+        /**
+         * Returns the last selected index at or before the given index, or -1 if there isn't one.
+         */
+        public int lastSet(int index) {
+            int i = lastStartingAtOrBefore(index);
+            return ((i >= 0) ? Math.min(ends[i], index) : MIN);
+        }
+
+        /**
+         * Deselect the range.
+         *
+         * @return <code>true</code> if anything changed.
+         */
+        public boolean deselect(int min, int max) {
+            int i = firstEndingAtOrAfter(min);
+            int j = lastStartingAtOrBefore(max);
+            if(i > j) return false;
+
+            int     leftStart = starts[i];
+            int     rightEnd  = ends[j];
+            boolean keepLeft  = (leftStart < min);
+            boolean keepRight = (rightEnd > max);
+
+            if(keepLeft && keepRight) replace(i, (j + 1), leftStart, (min - 1), (max + 1), rightEnd);
+            else if(keepLeft) replace(i, (j + 1), leftStart, (min - 1));
+            else if(keepRight) replace(i, (j + 1), (max + 1), rightEnd);
+            else replace(i, (j + 1));
+            return true;
+        }
+
+        /**
+         * Returns a copy with the indexes from <code>at</code> on moved up by <code>length</code>, leaving an unselected gap.
+         */
+        public @NotNull Runs insertIndexes(int at, int length) {
+            Runs out = new Runs(count + 1);
+
+            for(int i = 0; i < count; i++) {
+                if(starts[i] < at) out.append(starts[i], Math.min(ends[i], (at - 1)));
+                if(ends[i] >= at) out.append((Math.max(starts[i], at) + length), (ends[i] + length));
+            }
+            return out;
+        }
+
+        /**
+         * Returns a copy with the selection state of every index in the range flipped.
+         */
+        public @NotNull Runs invert(int min, int max) {
+            Runs out    = new Runs(count + 2);
+            int  cursor = min;
+            int  i      = 0;
+
+            for(; (i < count) && (ends[i] < min); i++) out.append(starts[i], ends[i]);
+
+            for(; (i < count) && (starts[i] <= max); i++) {
+                if(starts[i] < min) out.append(starts[i], (min - 1));
+                if(starts[i] > cursor) out.append(cursor, (starts[i] - 1));
+                if(ends[i] > max) out.append((max + 1), ends[i]);
+                cursor = (Math.min(ends[i], max) + 1);
+            }
+
+            if(cursor <= max) out.append(cursor, max);
+            for(; i < count; i++) out.append(starts[i], ends[i]);
+            return out;
+        }
+
+        public boolean isEmpty() {
+            return (count == 0);
+        }
+
+        public int max() {
+            return ends[count - 1];
+        }
+
+        public int min() {
+            return starts[0];
+        }
+
+        /**
+         * Returns a copy with the indexes in the range removed and the indexes after it moved down to close the gap.
+         */
+        public @NotNull Runs removeIndexes(int min, int max) {
+            Runs out = new Runs(count);
+            int  gap = ((max - min) + 1);
+
+            for(int i = 0; i < count; i++) {
+                if(starts[i] < min) out.append(starts[i], Math.min(ends[i], (min - 1)));
+                if(ends[i] > max) out.append((Math.max(starts[i], (max + 1)) - gap), (ends[i] - gap));
+            }
+            return out;
+        }
+
+        /**
+         * Select the range.
+         *
+         * @return <code>true</code> if anything changed.
+         */
+        public boolean select(int min, int max) {
+            int i = firstEndingAtOrAfter(min - 1);
+            int j = lastStartingAtOrBefore(max + 1);
+
+            if(i > j) {
+                replace(i, i, min, max);
+                return true;
+            }
+            if((i == j) && (starts[i] <= min) && (ends[i] >= max)) return false;
+
+            replace(i, (j + 1), Math.min(min, starts[i]), Math.max(max, ends[j]));
+            return true;
+        }
+
+        public int size() {
+            long sz = 0;
+            for(int i = 0; i < count; i++) sz += ((ends[i] - starts[i]) + 1L);
+            return (int)Math.min(sz, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Returns the first index whose selection state differs between the two sets of runs, or <code>Integer.MAX_VALUE</code> if they are the same. Each
+         * set of runs is walked as the sorted list of points where the state toggles, so the first point found in only one of them is the first difference.
+         */
+        static long firstDifference(@NotNull Runs a, @NotNull Runs b) {
+            int i = 0, j = 0, n = (a.count * 2), m = (b.count * 2);
+            while((i < n) && (j < m)) {
+                long pa = a.toggle(i), pb = b.toggle(j);
+                if(pa != pb) return Math.min(pa, pb);
+                i++;
+                j++;
+            }
+            return ((i < n) ? a.toggle(i) : ((j < m) ? b.toggle(j) : MAX));
+        }
+
+        /**
+         * Returns the last point where the selection state toggles in only one of the two sets of runs. The last index that differs is the one before it.
+         * Only meaningful if {@link #firstDifference(Runs, Runs)} found a difference.
+         */
+        static long lastDifference(@NotNull Runs a, @NotNull Runs b) {
+            int i = ((a.count * 2) - 1), j = ((b.count * 2) - 1);
+            while((i >= 0) && (j >= 0)) {
+                long pa = a.toggle(i), pb = b.toggle(j);
+                if(pa != pb) return Math.max(pa, pb);
+                i--;
+                j--;
+            }
+            return ((i >= 0) ? a.toggle(i) : b.toggle(j));
+        }
+
+        private void append(int start, int end) {
+            if((count > 0) && (start <= (ends[count - 1] + 1))) {
+                ends[count - 1] = Math.max(ends[count - 1], end);
+            }
+            else {
+                ensureCapacity(count + 1);
+                starts[count] = start;
+                ends[count++] = end;
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if(capacity > starts.length) {
+                int newLength = Math.max(capacity, (starts.length * 2));
+                starts = Arrays.copyOf(starts, newLength);
+                ends   = Arrays.copyOf(ends, newLength);
+            }
+        }
+
+        /**
+         * Returns the n'th point where the selection state toggles: the start of run <code>n / 2</code> if <code>n</code> is even, otherwise the index
+         * after its end.
+         */
+        private long toggle(int n) {
+            return (((n & 1) == 0) ? starts[n / 2] : (ends[n / 2] + 1L));
+        }
+
+        /**
+         * Returns the index of the first run that ends at or after the given index, or <code>count</code> if there isn't one.
+         */
+        private int firstEndingAtOrAfter(int index) {
+            int lo = 0, hi = count;
+            while(lo < hi) {
+                int mid = ((lo + hi) >>> 1);
+                if(ends[mid] < index) lo = (mid + 1);
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /**
+         * Returns the index of the last run that starts at or before the given index, or -1 if there isn't one.
+         */
+        private int lastStartingAtOrBefore(int index) {
+            int lo = 0, hi = count;
+            while(lo < hi) {
+                int mid = ((lo + hi) >>> 1);
+                if(starts[mid] <= index) lo = (mid + 1);
+                else hi = mid;
+            }
+            return (lo - 1);
+        }
+
+        /**
+         * Replace the runs from <code>from</code> (inclusive) to <code>to</code> (exclusive) with the given runs, passed as start/end pairs.
+         */
+        private void replace(int from, int to, int @NotNull ... newRuns) {
+            int n     = (newRuns.length / 2);
+            int delta = (n - (to - from));
+
+            ensureCapacity(count + delta);
+            System.arraycopy(starts, to, starts, (to + delta), (count - to));
+            System.arraycopy(ends, to, ends, (to + delta), (count - to));
+            for(int k = 0; k < n; k++) {
+                starts[from + k] = newRuns[k * 2];
+                ends[from + k]   = newRuns[(k * 2) + 1];
+            }
+            count += delta;
+        }
+    }
+}
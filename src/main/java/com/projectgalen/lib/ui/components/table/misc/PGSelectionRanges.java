@@ -0,0 +1,248 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGSelectionRanges.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable, sorted set of indexes stored as a list of closed ranges. Selecting every row of a table with a million rows takes a single range rather than a
+ * million element array.
+ */
+@SuppressWarnings("unused")
+public final class PGSelectionRanges {
+
+    public static final PGSelectionRanges EMPTY = new PGSelectionRanges(new int[0], new int[0]);
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] offsets;
+    private final int   size;
+
+    private PGSelectionRanges(int @NotNull [] starts, int @NotNull [] ends) {
+        this.starts  = starts;
+        this.ends    = ends;
+        this.offsets = new int[starts.length];
+
+        int sz = 0;
+        for(int i = 0; i < starts.length; i++) {
+            offsets[i] = sz;
+            sz += (ends[i] - starts[i] + 1);
+        }
+        this.size = sz;
+    }
+
+    /**
+     * Returns a read-only list view that maps each index in this set to an object. The objects are looked up each time they are asked for.
+     *
+     * @param mapper The function that maps an index to an object.
+     * @param <T>    The type of the objects.
+     *
+     * @return The list view.
+     */
+    public <T> @NotNull List<T> asList(@NotNull IntFunction<? extends T> mapper) {
+        return new IndexList<>(this, mapper);
+    }
+
+    public boolean contains(int index) {
+        int i = findRange(index);
+        return ((i >= 0) && (index <= ends[i]));
+    }
+
+    public @Override boolean equals(Object o) {
+        return ((this == o) || ((o instanceof PGSelectionRanges r) && Arrays.equals(starts, r.starts) && Arrays.equals(ends, r.ends)));
+    }
+
+    /**
+     * Call the consumer for every index in ascending order.
+     *
+     * @param consumer The consumer.
+     */
+    public void forEachIndex(@NotNull IntConsumer consumer) {
+        for(int i = 0; i < starts.length; i++) for(int j = starts[i], k = ends[i]; j <= k; j++) consumer.accept(j);
+    }
+
+    /**
+     * Returns the n<sup>th</sup> index in the set.
+     *
+     * @param n The position of the index, from zero to {@link #size()} - 1.
+     *
+     * @return The index.
+     */
+    public int get(int n) {
+        if((n < 0) || (n >= size)) throw new IndexOutOfBoundsException(n);
+        int i = Arrays.binarySearch(offsets, n);
+        if(i < 0) i = (-(i + 1) - 1);
+        return (starts[i] + (n - offsets[i]));
+    }
+
+    public int getFirst() {
+        return ((size == 0) ? -1 : starts[0]);
+    }
+
+    public int getLast() {
+        return ((size == 0) ? -1 : ends[ends.length - 1]);
+    }
+
+    public int getRangeCount() {
+        return starts.length;
+    }
+
+    public int getRangeEnd(int range) {
+        return ends[range];
+    }
+
+    public int getRangeStart(int range) {
+        return starts[range];
+    }
+
+    public @Override int hashCode() {
+        return ((31 * Arrays.hashCode(starts)) + Arrays.hashCode(ends));
+    }
+
+    public @NotNull IntStream indexes() {
+        return IntStream.range(0, starts.length).flatMap(i -> IntStream.rangeClosed(starts[i], ends[i]));
+    }
+
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int @NotNull [] toArray() {
+        int[] array = new int[size];
+        for(int i = 0, n = 0; i < starts.length; i++) for(int j = starts[i], k = ends[i]; j <= k; j++) array[n++] = j;
+        return array;
+    }
+
+    public @Override @NotNull String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for(int i = 0; i < starts.length; i++) {
+            if(i > 0) sb.append(", ");
+            sb.append(starts[i]);
+            if(ends[i] != starts[i]) sb.append('-').append(ends[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    private int findRange(int index) {
+        int i = Arrays.binarySearch(starts, index);
+        return ((i < 0) ? (-(i + 1) - 1) : i);
+    }
+
+    /**
+     * Returns the selected indexes of a {@link ListSelectionModel}. For a {@link PGRangeSelectionModel} this takes time proportional to the number of selected
+     * runs. For any other selection model every index between the first and last selected index is checked.
+     *
+     * @param selectionModel The selection model.
+     *
+     * @return The selected indexes.
+     */
+    public static @NotNull PGSelectionRanges of(@NotNull ListSelectionModel selectionModel) {
+        if(selectionModel instanceof PGRangeSelectionModel m) return m.getSelectedRanges();
+        if(selectionModel.isSelectionEmpty()) return EMPTY;
+
+        Builder builder = new Builder();
+        int     min     = selectionModel.getMinSelectionIndex();
+        int     max     = selectionModel.getMaxSelectionIndex();
+
+        for(int i = min; i <= max; i++) if(selectionModel.isSelectedIndex(i)) builder.add(i, i);
+        return builder.build();
+    }
+
+    /**
+     * Returns the given indexes as a set of ranges. The indexes do not have to be sorted and may contain duplicates.
+     *
+     * @param indexes The indexes.
+     *
+     * @return The ranges.
+     */
+    public static @NotNull PGSelectionRanges of(int @NotNull ... indexes) {
+        if(indexes.length == 0) return EMPTY;
+
+        int[]   sorted  = indexes.clone();
+        Builder builder = new Builder();
+
+        Arrays.sort(sorted);
+        for(int i : sorted) builder.add(i, i);
+        return builder.build();
+    }
+
+    /**
+     * Collects ranges that are added in ascending order, joining ranges that touch or overlap.
+     */
+    static final class Builder {
+        private int[] starts = new int[8];
+        private int[] ends   = new int[8];
+        private int   count  = 0;
+
+        public Builder() { }
+
+        public void add(int start, int end) {
+            if((count > 0) && (start <= (ends[count - 1] + 1))) {
+                ends[count - 1] = Math.max(ends[count - 1], end);
+            }
+            else {
+                if(count == starts.length) {
+                    starts = Arrays.copyOf(starts, (count * 2));
+                    ends   = Arrays.copyOf(ends, (count * 2));
+                }
+                starts[count] = start;
+                ends[count++] = end;
+            }
+        }
+
+        public @NotNull PGSelectionRanges build() {
+            return ((count == 0) ? EMPTY : new PGSelectionRanges(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count)));
+        }
+    }
+
+    private static final class IndexList<T> extends AbstractList<T> implements RandomAccess {
+        private final PGSelectionRanges        ranges;
+        private final IntFunction<? extends T> mapper;
+
+        public IndexList(@NotNull PGSelectionRanges ranges, @NotNull IntFunction<? extends T> mapper) {
+            this.ranges = ranges;
+            this.mapper = mapper;
+        }
+
+        public @Override T get(int index) {
+            return mapper.apply(ranges.get(index));
+        }
+
+        public @Override int size() {
+            return ranges.size();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGStreamingDataSupplier.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import com.projectgalen.lib.ui.events.PGDataSupplierEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import javax.swing.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.projectgalen.lib.ui.M.props;
+
+/**
+ * A data supplier for live streams. Producer threads {@link #append(Object)} items concurrently and the items are moved into a bounded buffer on the event
+ * dispatch thread at most once per frame, followed by one {@link PGDataSupplierEvent.EventType#RowsDeleted} event for the items that fell off the head
+ * and one {@link PGDataSupplierEvent.EventType#RowsInserted} event for the new items at the tail. The table therefore sees one pair of events per frame no
+ * matter how many items arrive.
+ * <p>
+ * Items waiting for the next frame are bounded by the capacity too, so a stalled event dispatch thread never causes more than the last capacity items to be
+ * kept.
+ * <p>
+ * The buffer is made of fixed-size chunks that are never reused, and each frame publishes an immutable view of them, so {@link #get(int)}, {@link #size()},
+ * {@link #stream()} and {@link #forEach(Consumer)} may be called from background threads too. They see the items as of the last frame. Everything else except
+ * {@link #append(Object)}, {@link #appendAll(Collection)} and {@link #clear()} must be called from the event dispatch thread.
+ *
+ * @param <T> The type of the items.
+ */
+@SuppressWarnings("unused")
+public class PGStreamingDataSupplier<T> extends AbstractPGDataSupplier<T> {
+
+    public static final int DEFAULT_CAPACITY    = props.getInt("streaming.supplier.capacity");
+    public static final int DEFAULT_FRAME_DELAY = props.getInt("streaming.supplier.frame.delay");
+
+    private static final int    CHUNK_BITS = 10;
+    private static final int    CHUNK_SIZE = (1 << CHUNK_BITS);
+    private static final int    CHUNK_MASK = (CHUNK_SIZE - 1);
+    private static final Window EMPTY      = new Window(new Object[0][], 0, 0);
+
+    private final    int           capacity;
+    private final    ArrayDeque<T> pending;
+    private final    Object        lock      = new Object();
+    private final    Timer         frameTimer;
+    private volatile Window        window    = EMPTY;
+    private          boolean       scheduled = false;
+    private          boolean       clearing  = false;
+    private          long          dropped   = 0;
+    private          boolean       disposed  = false;
+
+    public PGStreamingDataSupplier() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PGStreamingDataSupplier(@Range(from = 1, to = Integer.MAX_VALUE) int capacity) {
+        this(capacity, DEFAULT_FRAME_DELAY);
+    }
+
+    public PGStreamingDataSupplier(@Range(from = 1, to = Integer.MAX_VALUE) int capacity, @Range(from = 0, to = Integer.MAX_VALUE) int frameDelay) {
+        super();
+        this.capacity   = Math.max(1, capacity);
+        this.pending    = new ArrayDeque<>(Math.min(this.capacity, 1024));
+        this.frameTimer = new Timer(Math.max(0, frameDelay), e -> flush());
+        this.frameTimer.setRepeats(false);
+    }
+
+    /**
+     * Appends an item. May be called from any thread. Items may not be <code>null</code>.
+     *
+     * @param item The item.
+     */
+    public void append(@NotNull T item) {
+        synchronized(lock) {
+            enqueue(item);
+            schedule();
+        }
+    }
+
+    /**
+     * Appends items. May be called from any thread.
+     *
+     * @param items The items.
+     */
+    public void appendAll(@NotNull Collection<? extends T> items) {
+        synchronized(lock) {
+            for(T item : items) enqueue(item);
+            schedule();
+        }
+    }
+
+    /**
+     * Removes all the items, including the ones waiting for the next frame. May be called from any thread.
+     */
+    public void clear() {
+        synchronized(lock) {
+            pending.clear();
+            clearing = true;
+            schedule();
+        }
+    }
+
+    /**
+     * Stops the frame timer. Items appended afterwards are only shown when {@link #flush()} is called.
+     */
+    public void dispose() {
+        disposed = true;
+        frameTimer.stop();
+    }
+
+    /**
+     * Moves the items waiting for the next frame into the ring buffer right away and fires the events for them.
+     */
+    public void flush() {
+        Object[] items;
+        boolean  clr;
+
+        synchronized(lock) {
+            items     = pending.toArray();
+            clr       = clearing;
+            clearing  = false;
+            scheduled = false;
+            pending.clear();
+        }
+
+        Window     w      = window;
+        Object[][] chunks = w.chunks();
+        int        offset = w.offset();
+        int        count  = w.count();
+
+        if(clr && (count > 0)) {
+            int last = (count - 1);
+            chunks = EMPTY.chunks();
+            offset = 0;
+            count  = 0;
+            window = EMPTY;
+            fireRowsDeleted(0, last);
+        }
+
+        if(items.length > 0) {
+            int n     = Math.min(items.length, capacity);
+            int evict = Math.max(0, (count + n - capacity));
+
+            if(evict > 0) {
+                int drop = ((offset + evict) >> CHUNK_BITS);
+                if(drop > 0) chunks = Arrays.copyOfRange(chunks, drop, chunks.length);
+                offset = ((offset + evict) & CHUNK_MASK);
+                count -= evict;
+                window = new Window(chunks, offset, count);
+                fireRowsDeleted(0, evict - 1);
+            }
+
+            // Slots below the published count are never written again, so a view taken earlier by a background thread stays valid.
+            int first = count;
+            int need  = ((offset + count + n + CHUNK_MASK) >> CHUNK_BITS);
+            if(need > chunks.length) {
+                int have = chunks.length;
+                chunks = Arrays.copyOf(chunks, need);
+                for(int i = have; i < need; i++) chunks[i] = new Object[CHUNK_SIZE];
+            }
+            for(int i = (items.length - n); i < items.length; i++) {
+                int p = (offset + count++);
+                chunks[p >> CHUNK_BITS][p & CHUNK_MASK] = items[i];
+            }
+            window = new Window(chunks, offset, count);
+            fireRowsInserted(first, count - 1);
+        }
+    }
+
+    public @Override void forEach(@NotNull Consumer<? super T> consumer) {
+        Window w = window;
+        for(int i = 0; i < w.count(); i++) consumer.accept(w.get(i));
+    }
+
+    public @Override T get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        return window.get(index);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of items that were appended but never shown because more than the capacity arrived within one frame.
+     *
+     * @return The number of dropped items.
+     */
+    public long getDroppedCount() {
+        synchronized(lock) { return dropped; }
+    }
+
+    public int getFrameDelay() {
+        return frameTimer.getInitialDelay();
+    }
+
+    public int getPendingCount() {
+        synchronized(lock) { return pending.size(); }
+    }
+
+    public void setFrameDelay(@Range(from = 0, to = Integer.MAX_VALUE) int frameDelay) {
+        frameTimer.setInitialDelay(Math.max(0, frameDelay));
+    }
+
+    public @Override int size() {
+        return window.count();
+    }
+
+    public @Override @NotNull Stream<T> stream() {
+        Window w = window;
+        return IntStream.range(0, w.count()).mapToObj(w::get);
+    }
+
+    private void enqueue(T item) {
+        if(pending.size() == capacity) {
+            pending.pollFirst();
+            dropped++;
+        }
+        pending.addLast(item);
+    }
+
+    private void schedule() {
+        if(!scheduled) {
+            // The timer is started on the event dispatch thread so that it is never started while its previous event is still being delivered. A timer that
+            // fires then is coalesced with that event and lost.
+            scheduled = true;
+            SwingUtilities.invokeLater(this::startFrameTimer);
+        }
+    }
+
+    private void startFrameTimer() {
+        if(!disposed) frameTimer.start();
+    }
+
+    /**
+     * An immutable view of the items published by one frame. The item at index <code>i</code> is in slot <code>offset + i</code> of the concatenated chunks.
+     */
+    private record Window(Object @NotNull [][] chunks, int offset, int count) {
+        @SuppressWarnings("unchecked")
+        <T> T get(int index) {
+            if((index < 0) || (index >= count)) throw new IndexOutOfBoundsException(index);
+            int p = (offset + index);
+            return (T)chunks[p >> CHUNK_BITS][p & CHUNK_MASK];
+        }
+    }
+}
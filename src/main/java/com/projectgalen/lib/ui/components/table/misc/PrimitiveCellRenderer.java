@@ -0,0 +1,167 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PrimitiveCellRenderer.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.accessibility.AccessibleContext;
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.util.Map;
+
+/**
+ * Renders <code>int</code>, <code>long</code>, <code>double</code>, and <code>boolean</code> columns by reading the value straight from the
+ * {@link PGJTableRowModel}'s primitive accessors and drawing the characters from a reusable buffer, so painting these cells does not box the value or build a
+ * string.
+ */
+@SuppressWarnings("unused")
+public class PrimitiveCellRenderer extends DefaultTableCellRenderer {
+
+    private static final char[] TRUE_CHARS  = "true".toCharArray();
+    private static final char[] FALSE_CHARS = "false".toCharArray();
+
+    private final char[]        buffer   = new char[32];
+    private final StringBuilder doubles  = new StringBuilder(32);
+    private final Insets        insets   = new Insets(0, 0, 0, 0);
+    private       char[]        chars    = buffer;
+    private       int           offset   = 0;
+    private       int           length   = 0;
+    private       boolean       painting = false;
+
+    public PrimitiveCellRenderer() { super(); }
+
+    public @Override AccessibleContext getAccessibleContext() {
+        if(accessibleContext == null) accessibleContext = new AccessiblePrimitiveCell();
+        return accessibleContext;
+    }
+
+    public @Override Dimension getPreferredSize() {
+        if((length == 0) || isPreferredSizeSet()) return super.getPreferredSize();
+        FontMetrics fm = getFontMetrics(getFont());
+        Insets      in = getInsets(insets);
+        return new Dimension((in.left + in.right + fm.charsWidth(chars, offset, length)), (in.top + in.bottom + fm.getHeight()));
+    }
+
+    public @NotNull Component getPrimitiveCellRendererComponent(@NotNull JTable table,
+                                                                @NotNull PGJTableModel<?> model,
+                                                                boolean isSelected,
+                                                                boolean hasFocus,
+                                                                int row,
+                                                                int column,
+                                                                int modelRow,
+                                                                int modelColumn) {
+        super.getTableCellRendererComponent(table, null, isSelected, hasFocus, row, column);
+        Class<?> cls = model.getColumnClass(modelColumn);
+
+        if(!model.isRowAvailable(modelRow)) setChars(buffer, 0, 0);
+        else if(cls == int.class) setLong(model.getIntValueAt(modelRow, modelColumn));
+        else if(cls == long.class) setLong(model.getLongValueAt(modelRow, modelColumn));
+        else if(cls == boolean.class) setChars((model.getBooleanValueAt(modelRow, modelColumn) ? TRUE_CHARS : FALSE_CHARS));
+        else if(cls == double.class) setDouble(model.getDoubleValueAt(modelRow, modelColumn));
+        else setChars(String.valueOf(model.getValueAt(modelRow, modelColumn)).toCharArray());
+
+        return this;
+    }
+
+    public @Override Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+        setChars(buffer, 0, 0);
+        return super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+    }
+
+    /**
+     * Returns the characters drawn from the buffer as a string. This only allocates when something other than painting asks for the text, such as a tooltip or
+     * an accessibility client.
+     */
+    public @Override String getText() {
+        return (((length == 0) || painting) ? super.getText() : new String(chars, offset, length));
+    }
+
+    protected @Override void paintComponent(Graphics g) {
+        painting = true;
+        try {
+            super.paintComponent(g);
+        }
+        finally {
+            painting = false;
+        }
+        if(length > 0) {
+            Font        font = getFont();
+            FontMetrics fm   = getFontMetrics(font);
+            Insets      in   = getInsets(insets);
+            int         w    = fm.charsWidth(chars, offset, length);
+            int         x    = switch(getHorizontalAlignment()) {/*@f0*/
+                case SwingConstants.LEFT     -> in.left;
+                case SwingConstants.CENTER   -> ((getWidth() - w) / 2);
+                case SwingConstants.LEADING  -> (getComponentOrientation().isLeftToRight() ? in.left : (getWidth() - in.right - w));
+                case SwingConstants.TRAILING -> (getComponentOrientation().isLeftToRight() ? (getWidth() - in.right - w) : in.left);
+                default                      -> (getWidth() - in.right - w);
+            };/*@f1*/
+            int y = (in.top + ((getHeight() - in.top - in.bottom - fm.getHeight()) / 2) + fm.getAscent());
+
+            if((g instanceof Graphics2D g2) && (Toolkit.getDefaultToolkit().getDesktopProperty("awt.font.desktophints") instanceof Map<?, ?> hints)) g2.addRenderingHints(hints);
+            g.setFont(font);
+            g.setColor(getForeground());
+            g.drawChars(chars, offset, length, x, y);
+        }
+    }
+
+    private void setChars(char @NotNull [] chars) {
+        setChars(chars, 0, chars.length);
+    }
+
+    private void setChars(char @NotNull [] chars, int offset, int length) {
+        this.chars  = chars;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private void setDouble(double value) {
+        doubles.setLength(0);
+        doubles.append(value);
+        int len = Math.min(doubles.length(), buffer.length);
+        doubles.getChars(0, len, buffer, 0);
+        setChars(buffer, 0, len);
+    }
+
+    private void setLong(long value) {
+        int  i = buffer.length;
+        long v = ((value < 0) ? value : -value);
+
+        do {
+            buffer[--i] = (char)('0' - (v % 10));
+            v /= 10;
+        }
+        while(v != 0);
+
+        if(value < 0) buffer[--i] = '-';
+        setChars(buffer, i, (buffer.length - i));
+    }
+
+    private final class AccessiblePrimitiveCell extends AccessibleJLabel {
+        public @Override String getAccessibleName() {
+            String name = super.getAccessibleName();
+            return (((name == null) && (length > 0)) ? new String(chars, offset, length) : name);
+        }
+    }
+}
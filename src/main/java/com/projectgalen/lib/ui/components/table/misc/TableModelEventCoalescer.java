@@ -0,0 +1,156 @@
+package com.projectgalen.lib.ui.components.table.misc;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: TableModelEventCoalescer.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.TableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static javax.swing.event.TableModelEvent.*;
+
+/**
+ * Collects the {@link TableModelEvent}s fired during a batch update and reduces them to the smallest equivalent sequence. Adjacent inserts and deletes are
+ * merged, updates are merged with the updates that overlap or touch them, updates to rows that were inserted in the same batch are dropped, and anything that
+ * still needs more than {@link #MAX_EVENTS} events collapses into a single data-changed event.
+ */
+final class TableModelEventCoalescer {
+
+    static final int MAX_EVENTS = 32;
+
+    private final List<Op> ops = new ArrayList<>();
+    private       boolean  dataChanged;
+    private       boolean  structureChanged;
+
+    TableModelEventCoalescer() { }
+
+    public void add(@NotNull TableModelEvent e) {
+        if(structureChanged) return;
+        if(e.getFirstRow() == HEADER_ROW) {
+            structureChanged = true;
+            ops.clear();
+        }
+        else if(!dataChanged) {
+            if((e.getType() == UPDATE) && ((e.getFirstRow() < 0) || (e.getLastRow() == Integer.MAX_VALUE))) {
+                dataChanged = true;
+                ops.clear();
+            }
+            else {
+                switch(e.getType()) {/*@f0*/
+                    case INSERT -> addInsert(e.getFirstRow(), e.getLastRow());
+                    case DELETE -> addDelete(e.getFirstRow(), e.getLastRow());
+                    default     -> addUpdate(e.getFirstRow(), e.getLastRow(), e.getColumn());
+                }/*@f1*/
+                if(ops.size() > MAX_EVENTS) {
+                    dataChanged = true;
+                    ops.clear();
+                }
+            }
+        }
+    }
+
+    public @NotNull List<TableModelEvent> drain(@NotNull TableModel source) {
+        List<TableModelEvent> events = new ArrayList<>();
+
+        if(structureChanged) events.add(new TableModelEvent(source, HEADER_ROW));
+        else if(dataChanged) events.add(new TableModelEvent(source));
+        else for(Op op : ops) events.add(new TableModelEvent(source, op.first, op.last, op.column, op.type));
+
+        ops.clear();
+        dataChanged      = false;
+        structureChanged = false;
+        return events;
+    }
+
+    public boolean isEmpty() {
+        return (ops.isEmpty() && !dataChanged && !structureChanged);
+    }
+
+    private void addDelete(int first, int last) {
+        Op op = lastOp();
+        if((op != null) && (op.type == DELETE) && (first <= op.first) && (last >= (op.first - 1))) {
+            op.last  = (last + op.count());
+            op.first = first;
+        }
+        else {
+            ops.add(new Op(DELETE, first, last, ALL_COLUMNS));
+        }
+    }
+
+    private void addInsert(int first, int last) {
+        Op op = lastOp();
+        if((op != null) && (op.type == INSERT) && (first >= op.first) && (first <= (op.last + 1))) op.last += (last - first + 1);
+        else ops.add(new Op(INSERT, first, last, ALL_COLUMNS));
+    }
+
+    private void addUpdate(int first, int last, int column) {
+        Op op = lastOp();
+        if((op != null) && (op.type == INSERT) && (first >= op.first) && (last <= op.last)) return;
+
+        // Updates commute with each other so the new one can be merged with any of the trailing run of updates.
+        int start = ops.size();
+        while((start > 0) && (ops.get(start - 1).type == UPDATE)) start--;
+
+        Op      merged = new Op(UPDATE, first, last, column);
+        boolean found;
+        do {
+            found = false;
+            for(int i = (ops.size() - 1); i >= start; i--) {
+                Op u = ops.get(i);
+                if((merged.first <= (u.last + 1)) && (u.first <= (merged.last + 1))) {
+                    merged.first  = Math.min(merged.first, u.first);
+                    merged.last   = Math.max(merged.last, u.last);
+                    merged.column = ((merged.column == u.column) ? merged.column : ALL_COLUMNS);
+                    ops.remove(i);
+                    found = true;
+                }
+            }
+        }
+        while(found);
+        ops.add(merged);
+    }
+
+    private Op lastOp() {
+        return (ops.isEmpty() ? null : ops.get(ops.size() - 1));
+    }
+
+    private static final class Op {
+        final int type;
+        int       first;
+        int       last;
+        int       column;
+
+        Op(int type, int first, int last, int column) {
+            this.type   = type;
+            this.first  = Math.min(first, last);
+            this.last   = Math.max(first, last);
+            this.column = column;
+        }
+
+        int count() {
+            return (last - first + 1);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.projectgalen.lib.ui.events;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGDataSupplierEvent.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EventObject;
+import java.util.Objects;
+
+@SuppressWarnings("unused")
+public class PGDataSupplierEvent extends EventObject {
+    private final EventType eventType;
+    private final int       firstRow;
+    private final int       lastRow;
+
+    public PGDataSupplierEvent(@NotNull Object source, @NotNull EventType eventType, int firstRow, int lastRow) {
+        super(source);
+        this.eventType = eventType;
+        this.firstRow  = Math.min(firstRow, lastRow);
+        this.lastRow   = Math.max(firstRow, lastRow);
+    }
+
+    public @Override boolean equals(Object o) {
+        return ((this == o) || ((o instanceof PGDataSupplierEvent e) && Objects.equals(getSource(), e.getSource()) && (eventType == e.eventType) && (firstRow == e.firstRow) && (lastRow == e.lastRow)));
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    public int getLastRow() {
+        return lastRow;
+    }
+
+    public @Override int hashCode() {
+        return Objects.hash(getSource(), eventType, firstRow, lastRow);
+    }
+
+    public enum EventType {
+        RowsUpdated, RowsInserted, RowsDeleted, DataChanged
+    }
+}
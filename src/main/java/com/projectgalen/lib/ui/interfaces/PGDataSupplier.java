@@ -22,18 +22,61 @@ package com.projectgalen.lib.ui.interfaces;
 // IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
 // ===========================================================================
 
+import com.projectgalen.lib.ui.listeners.PGDataSupplierListener;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 public interface PGDataSupplier<T> {
 
+    default void addDataSupplierListener(@NotNull PGDataSupplierListener listener) { }
+
     void forEach(@NotNull Consumer<? super T> consumer);
 
     T get(@Range(from = 0, to = Integer.MAX_VALUE) int index);
 
+    /**
+     * Returns <code>true</code> if the item at the given index can be returned by {@link #get(int)} without blocking. Suppliers that load their data lazily
+     * return <code>false</code> for rows that have not been fetched yet and the table shows a placeholder for them instead.
+     *
+     * @param index The index of the item.
+     *
+     * @return <code>true</code> if the item is available.
+     */
+    default boolean isAvailable(@Range(from = 0, to = Integer.MAX_VALUE) int index) { return true; }
+
+    /**
+     * Returns the item at the given index, loading it on the calling thread first if it is not available. Suppliers that load their data lazily block until it
+     * has been fetched, so this should not be called on the event dispatch thread. The default returns {@link #get(int)}.
+     *
+     * @param index The index of the item.
+     *
+     * @return The item.
+     */
+    default T load(@Range(from = 0, to = Integer.MAX_VALUE) int index) { return get(index); }
+
+    /**
+     * Asks the supplier to start fetching the item at the given index in the background if it is not available, without blocking. The table calls this for
+     * each row it paints a placeholder for, so suppliers that load their data lazily fetch exactly the rows on screen. The default does nothing.
+     *
+     * @param index The index of the item.
+     */
+    default void prefetch(@Range(from = 0, to = Integer.MAX_VALUE) int index) { }
+
+    /**
+     * Returns a function that reads items on the calling thread for a pass over many rows, such as an export. Unlike {@link #load(int)} the reader leaves any
+     * cache the supplier keeps for the rows on screen alone and notifies no listeners. A reader may be shared by several threads and should not outlive the
+     * pass. The default reads with {@link #load(int)}.
+     *
+     * @return The reader.
+     */
+    default @NotNull IntFunction<T> reader() { return this::load; }
+
+    default void removeDataSupplierListener(@NotNull PGDataSupplierListener listener) { }
+
     int size();
 
     @NotNull Stream<T> stream();
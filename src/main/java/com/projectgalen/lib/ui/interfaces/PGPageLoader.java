@@ -0,0 +1,45 @@
+package com.projectgalen.lib.ui.interfaces;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGPageLoader.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.List;
+
+public interface PGPageLoader<T> {
+
+    /**
+     * Load a single page of items. This method is always called from a background thread.
+     *
+     * @param offset The index of the first item in the page.
+     * @param count  The maximum number of items to load.
+     *
+     * @return The items. The list may be shorter than <code>count</code> if the end of the data was reached.
+     *
+     * @throws Exception If an error occurs loading the page.
+     */
+    @NotNull List<T> loadPage(@Range(from = 0, to = Integer.MAX_VALUE) int offset, @Range(from = 1, to = Integer.MAX_VALUE) int count) throws Exception;
+
+    int size() throws Exception;
+}
@@ -0,0 +1,43 @@
+package com.projectgalen.lib.ui.interfaces;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGRecordCodec.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+public interface PGRecordCodec<T> {
+
+    /**
+     * Decode a single record. The buffer is a read-only view of just the record's bytes, positioned at its first byte with its limit at the end of the record,
+     * in {@link java.nio.ByteOrder#BIG_ENDIAN} order unless the codec changes it. This method may be called from any thread, including several at once.
+     *
+     * @param record The record's bytes.
+     * @param index  The index of the record.
+     *
+     * @return The decoded item.
+     *
+     * @throws Exception If the record cannot be decoded.
+     */
+    T decode(@NotNull ByteBuffer record, int index) throws Exception;
+}
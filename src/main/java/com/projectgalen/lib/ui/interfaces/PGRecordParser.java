@@ -0,0 +1,47 @@
+package com.projectgalen.lib.ui.interfaces;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PGRecordParser.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+public interface PGRecordParser<T> {
+
+    /**
+     * Called once with the column names from the file's header line, before any calls to {@link #parse(String[], long)}. Not called if the file has no header.
+     *
+     * @param names The column names.
+     */
+    default void header(@NotNull String @NotNull [] names) { }
+
+    /**
+     * Create an item from the fields of a single record. This method may be called from any thread, including several at once.
+     *
+     * @param fields The record's fields with quotes removed.
+     * @param index  The index of the record in the file, not counting the header line.
+     *
+     * @return The item or <code>null</code> to skip the record.
+     *
+     * @throws Exception If the record cannot be parsed.
+     */
+    T parse(@NotNull String @NotNull [] fields, long index) throws Exception;
+}
@@ -2,6 +2,7 @@ package com.projectgalen.lib.ui.progressdialog;
 
 import com.projectgalen.lib.ui.UIButtonChoice;
 import com.projectgalen.lib.ui.errors.ProgressDialogException;
+import com.projectgalen.lib.ui.interfaces.Cancelable;
 import com.projectgalen.lib.utils.ProgressReporter;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -14,9 +15,12 @@ import java.lang.reflect.Method;
 import java.util.ResourceBundle;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.projectgalen.lib.ui.M.msgs;
 
 @SuppressWarnings("unused")
-public class ProgressDialog extends JDialog implements ProgressReporter {
+public class ProgressDialog extends JDialog implements ProgressReporter, Cancelable {
 
     protected      JPanel         contentPane;
     protected      JButton        buttonOK;
@@ -25,6 +29,7 @@ public class ProgressDialog extends JDialog implements ProgressReporter {
     protected      UIButtonChoice buttonChoice                = UIButtonChoice.None;
     protected      JLabel         finalMessageLabel;
     private static Method         $$$cachedGetBundleMethod$$$ = null;
+    private final  AtomicBoolean  canceled                    = new AtomicBoolean(false);
 
     public ProgressDialog(@NotNull String title,
                           @NotNull String message,
@@ -81,10 +86,26 @@ public class ProgressDialog extends JDialog implements ProgressReporter {
         return progressBar.getString();
     }
 
+    /**
+     * Returns true if the user asked to cancel the operation by closing the dialog. Long-running tasks should poll this and stop early.
+     *
+     * @return <code>true</code> if the operation was canceled.
+     */
+    public boolean isCanceled() {
+        return canceled.get();
+    }
+
     public boolean isIndeterminate() {
         return progressBar.isIndeterminate();
     }
 
+    public @Override void onCancel() {
+        if(canceled.compareAndSet(false, true)) {
+            buttonChoice = UIButtonChoice.Cancel;
+            setProgressText(msgs.getString("txt.progress.canceling"));
+        }
+    }
+
     public void setIndeterminate(boolean isIndeterminate) {
         SwingUtilities.invokeLater(() -> progressBar.setIndeterminate(isIndeterminate));
     }
@@ -157,6 +178,7 @@ public class ProgressDialog extends JDialog implements ProgressReporter {
         getRootPane().setDefaultButton(buttonOK);
         setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
         buttonOK.addActionListener(e -> onOK());
+        addWindowListener(new CallsCancelWindowAdapter(this));
         progressBar.setMinimum(minValue);
         progressBar.setMaximum(maxValue);
         progressBar.setValue(initialValue);
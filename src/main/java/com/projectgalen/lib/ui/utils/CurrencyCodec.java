@@ -0,0 +1,256 @@
+package com.projectgalen.lib.ui.utils;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: CurrencyCodec.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParseException;
+
+import static com.projectgalen.lib.ui.M.msgs;
+
+/**
+ * Formats and parses currency amounts directly from their unscaled <code>long</code> value (or a {@link BigDecimal}) without going through
+ * <code>double</code>. The affixes, separators, grouping, rounding and digit limits are taken from a {@link DecimalFormat} once, so an instance is immutable
+ * and can be shared between threads.
+ */
+@SuppressWarnings("unused")
+public final class CurrencyCodec {
+
+    private static final long[] POW10 = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L,
+                                          100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+                                          10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L };
+
+    private final DecimalFormat prototype;
+    private final int           intDigits;
+    private final int           fracDigits;
+    private final int           groupSize;
+    private final char          groupSep;
+    private final char          decimalSep;
+    private final char          minusSign;
+    private final char          zeroDigit;
+    private final String        posPrefix;
+    private final String        posSuffix;
+    private final String        negPrefix;
+    private final String        negSuffix;
+    private final String        affixChars;
+    private final RoundingMode  rounding;
+    private final boolean       longSafe;
+    private final BigInteger    modulus;
+    private final int           bufferSize;
+
+    public CurrencyCodec(@NotNull DecimalFormat format) {
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+
+        prototype  = (DecimalFormat)format.clone();
+        intDigits  = Math.max(1, format.getMaximumIntegerDigits());
+        fracDigits = format.getMaximumFractionDigits();
+        groupSize  = ((format.isGroupingUsed() && (format.getGroupingSize() > 0)) ? format.getGroupingSize() : Integer.MAX_VALUE);
+        groupSep   = symbols.getMonetaryGroupingSeparator();
+        decimalSep = symbols.getMonetaryDecimalSeparator();
+        minusSign  = symbols.getMinusSign();
+        zeroDigit  = symbols.getZeroDigit();
+        posPrefix  = format.getPositivePrefix();
+        posSuffix  = format.getPositiveSuffix();
+        negPrefix  = format.getNegativePrefix();
+        negSuffix  = format.getNegativeSuffix();
+        affixChars = (posPrefix + posSuffix + negPrefix + negSuffix + symbols.getCurrencySymbol());
+        rounding   = format.getRoundingMode();
+        longSafe   = ((intDigits < POW10.length) && ((intDigits + fracDigits) < POW10.length));
+        modulus    = (longSafe ? BigInteger.valueOf(POW10[intDigits + fracDigits]) : null);
+        bufferSize = (Math.max(posPrefix.length(), negPrefix.length()) + Math.max(posSuffix.length(), negSuffix.length()) + 48);
+    }
+
+    /**
+     * Formats an amount given as its unscaled value, that is, the amount multiplied by ten to the power of {@link #getFractionDigits()}. Integer digits beyond
+     * {@link #getIntegerDigits()} are dropped, just as {@link DecimalFormat} drops them.
+     *
+     * @param unscaled The unscaled amount.
+     *
+     * @return The formatted amount.
+     */
+    public @NotNull String format(long unscaled) {
+        if(!longSafe) return format(BigDecimal.valueOf(unscaled, fracDigits));
+
+        boolean neg = (unscaled < 0);
+        long    v   = (neg ? unscaled : -unscaled);  // Kept negative so that Long.MIN_VALUE needs no special case.
+        long    ip  = ((v / POW10[fracDigits]) % POW10[intDigits]);
+        long    fp  = (v % POW10[fracDigits]);
+        char[]  buf = new char[bufferSize];
+        int     pos = buf.length;
+
+        pos = putAffix(buf, pos, (neg ? negSuffix : posSuffix));
+
+        for(int i = 0; i < fracDigits; i++) {
+            buf[--pos] = (char)(zeroDigit - (fp % 10));
+            fp /= 10;
+        }
+        if(fracDigits > 0) buf[--pos] = decimalSep;
+
+        int count = 0;
+        do {
+            if((count > 0) && ((count % groupSize) == 0)) buf[--pos] = groupSep;
+            buf[--pos] = (char)(zeroDigit - (ip % 10));
+            ip /= 10;
+            count++;
+        }
+        while(ip != 0);
+
+        pos = putAffix(buf, pos, (neg ? negPrefix : posPrefix));
+        return new String(buf, pos, (buf.length - pos));
+    }
+
+    public @NotNull String format(@NotNull BigDecimal value) {
+        if(!longSafe) return ((NumberFormat)prototype.clone()).format(value);
+        BigInteger unscaled = value.setScale(fracDigits, rounding).unscaledValue();
+        return format(((unscaled.bitLength() < 64) ? unscaled : unscaled.remainder(modulus)).longValue());
+    }
+
+    public int getFractionDigits() {
+        return fracDigits;
+    }
+
+    public int getIntegerDigits() {
+        return intDigits;
+    }
+
+    public @NotNull RoundingMode getRoundingMode() {
+        return rounding;
+    }
+
+    /**
+     * Parses an amount. The parser is lenient about the currency symbol, the affixes, grouping separators and white space, so "$1,234.50", "1234.5" and
+     * "(1,234.50)" are all accepted. The sign, the affixes, the currency symbol and white space may only appear before the first digit or after the last one,
+     * and grouping separators only between them. Extra fraction digits are rounded with the format's rounding mode. Amounts with more integer digits than
+     * {@link #getIntegerDigits()} are rejected.
+     *
+     * @param text The text to parse.
+     *
+     * @return The amount with a scale of {@link #getFractionDigits()}.
+     *
+     * @throws ParseException If the text is not an amount.
+     */
+    public @NotNull BigDecimal parse(@NotNull CharSequence text) throws ParseException {
+        long    unscaled  = 0;
+        int     intCount  = 0;
+        int     fracCount = -1;
+        int     first     = -1;
+        int     last      = -1;
+        boolean neg       = false;
+        boolean digits    = false;
+
+        for(int i = 0, j = text.length(); i < j; i++) {
+            char c = text.charAt(i);
+            if((digit(c) >= 0) || (c == decimalSep)) {
+                if(first < 0) first = i;
+                last = i;
+            }
+        }
+
+        for(int i = 0, j = text.length(); i < j; i++) {
+            char c = text.charAt(i);
+            int  d = digit(c);
+
+            if(d >= 0) {
+                try {
+                    unscaled = Math.addExact(Math.multiplyExact(unscaled, 10L), d);
+                }
+                catch(ArithmeticException e) {
+                    if(fracCount >= 0) throw new ParseException(msgs.format("msg.err.currency.too_many_fraction_digits", text), i);
+                    throw new ParseException(msgs.format("msg.err.currency.too_many_digits", text, Math.min(intDigits, (POW10.length - 1))), i);
+                }
+                digits = true;
+                if(fracCount >= 0) fracCount++;
+                else if((unscaled != 0) && (++intCount > intDigits)) {
+                    throw new ParseException(msgs.format("msg.err.currency.too_many_digits", text, intDigits), i);
+                }
+            }
+            else if(c == decimalSep) {
+                if(fracCount >= 0) throw new ParseException(msgs.format("msg.err.currency.invalid_char", c, i, text), i);
+                fracCount = 0;
+            }
+            else if((i > first) && (i < last)) {
+                if(c != groupSep) throw new ParseException(msgs.format("msg.err.currency.invalid_char", c, i, text), i);
+            }
+            else if((c == '-') || (c == minusSign) || (c == '(') || (c == ')')) {
+                neg = true;
+            }
+            else if(!Character.isWhitespace(c) && !Character.isSpaceChar(c) && (affixChars.indexOf(c) < 0)) {
+                throw new ParseException(msgs.format("msg.err.currency.invalid_char", c, i, text), i);
+            }
+        }
+        if(!digits) throw new ParseException(msgs.format("msg.err.currency.no_digits", text), 0);
+
+        BigDecimal value = BigDecimal.valueOf((neg ? -unscaled : unscaled), Math.max(0, fracCount));
+        if(value.scale() <= fracDigits) {
+            value = value.setScale(fracDigits);
+        }
+        else {
+            try {
+                value = value.setScale(fracDigits, rounding);
+            }
+            catch(ArithmeticException e) {
+                // Only thrown if the rounding mode is UNNECESSARY.
+                throw new ParseException(msgs.format("msg.err.currency.too_many_fraction_digits", text), 0);
+            }
+        }
+        // Rounding can carry into another integer digit.
+        if((value.precision() - value.scale()) > intDigits) throw new ParseException(msgs.format("msg.err.currency.too_many_digits", text, intDigits), 0);
+        return value;
+    }
+
+    /**
+     * Parses an amount and returns its unscaled value.
+     *
+     * @param text The text to parse.
+     *
+     * @return The unscaled amount.
+     *
+     * @throws ParseException If the text is not an amount or its unscaled value does not fit in a <code>long</code>.
+     * @see #parse(CharSequence)
+     */
+    public long parseUnscaled(@NotNull CharSequence text) throws ParseException {
+        try {
+            return parse(text).unscaledValue().longValueExact();
+        }
+        catch(ArithmeticException e) {
+            throw new ParseException(msgs.format("msg.err.currency.too_many_digits", text, intDigits), 0);
+        }
+    }
+
+    private int digit(char c) {
+        int d = (c - zeroDigit);
+        return (((d >= 0) && (d <= 9)) ? d : (((c >= '0') && (c <= '9')) ? (c - '0') : -1));
+    }
+
+    private static int putAffix(char @NotNull [] buf, int pos, @NotNull String affix) {
+        int len = affix.length();
+        affix.getChars(0, len, buf, pos - len);
+        return (pos - len);
+    }
+}
@@ -0,0 +1,174 @@
+package com.projectgalen.lib.ui.utils;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: CurrencyFormats.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.projectgalen.lib.ui.M.props;
+
+/**
+ * Shared currency formatting for {@link com.projectgalen.lib.ui.components.PGCurrencyTextField} and the currency table cells. The digit limits are taken from the
+ * "largest.currency.string" setting once, amounts are formatted and parsed by a shared {@link CurrencyCodec} without going through <code>double</code>, and
+ * the strings for recently formatted values are kept in a small LRU so that repainting the same cells does not format them again. Each thread also gets its
+ * own cached {@link NumberFormat} for callers that need one.
+ */
+@SuppressWarnings("unused")
+public final class CurrencyFormats {
+
+    public static final String MAX_VALUE_STRING = props.getProperty("largest.currency.string", "$999,999,999,999.99");
+    public static final int    CACHE_SIZE       = props.getInt("currency.format.cache.size");
+
+    private static final Set<Class<?>>             CACHEABLE  = Set.of(BigDecimal.class, BigInteger.class, Double.class, Float.class, Long.class, Integer.class, Short.class, Byte.class);
+    private static final int                       INT_DIGITS;
+    private static final int                       FRAC_DIGITS;
+    private static final NumberFormat              PROTOTYPE;
+    private static final CurrencyCodec             CODEC;
+    private static final ThreadLocal<NumberFormat> FORMATTERS = ThreadLocal.withInitial(CurrencyFormats::newFormatter);
+    private static final Map<Number, String>       CACHE      = new LinkedHashMap<>(64, 0.75f, true) {
+        protected @Override boolean removeEldestEntry(Map.Entry<Number, String> eldest) {
+            return (size() > CACHE_SIZE);
+        }
+    };
+
+    static {
+        String str = MAX_VALUE_STRING.replaceAll("[^0-9.]", "");
+        int    dp  = str.lastIndexOf('.');
+
+        INT_DIGITS  = ((dp < 0) ? str.length() : dp);
+        FRAC_DIGITS = ((dp < 0) ? 2 : (str.length() - dp - 1));
+        PROTOTYPE   = NumberFormat.getCurrencyInstance();
+        PROTOTYPE.setMaximumIntegerDigits(INT_DIGITS);
+        PROTOTYPE.setMinimumIntegerDigits(1);
+        PROTOTYPE.setMinimumFractionDigits(FRAC_DIGITS);
+        PROTOTYPE.setMaximumFractionDigits(FRAC_DIGITS);
+        CODEC = new CurrencyCodec((PROTOTYPE instanceof DecimalFormat df) ? df : new DecimalFormat("\u00a4#,##0.00"));
+    }
+
+    private CurrencyFormats() { }
+
+    public static void clearCache() {
+        synchronized(CACHE) { CACHE.clear(); }
+    }
+
+    /**
+     * Formats the given value as currency. A <code>null</code> value is formatted as zero.
+     *
+     * @param value The value.
+     *
+     * @return The formatted value.
+     */
+    public static @NotNull String format(@Nullable Number value) {
+        Number n = ((value == null) ? BigDecimal.ZERO : value);
+
+        if(((n instanceof Double) || (n instanceof Float)) && !Double.isFinite(n.doubleValue())) return getFormatter().format(n.doubleValue());
+        if((CACHE_SIZE <= 0) || !CACHEABLE.contains(n.getClass())) return CODEC.format(toBigDecimal(n));
+
+        String str;
+        synchronized(CACHE) { str = CACHE.get(n); }
+        if(str == null) {
+            str = CODEC.format(toBigDecimal(n));
+            synchronized(CACHE) { CACHE.put(n, str); }
+        }
+        return str;
+    }
+
+    public static @NotNull String format(double value) {
+        return format(Double.valueOf(value));
+    }
+
+    /**
+     * Formats an amount given as its unscaled value. See {@link CurrencyCodec#format(long)}.
+     *
+     * @param unscaled The amount multiplied by ten to the power of {@link #getFractionDigits()}.
+     *
+     * @return The formatted value.
+     */
+    public static @NotNull String formatUnscaled(long unscaled) {
+        return CODEC.format(unscaled);
+    }
+
+    public static @NotNull CurrencyCodec getCodec() {
+        return CODEC;
+    }
+
+    /**
+     * Returns the calling thread's cached formatter. It is shared by every caller on that thread and must not be modified or handed to a component that keeps it;
+     * use {@link #newFormatter()} for that.
+     *
+     * @return The calling thread's formatter.
+     */
+    public static @NotNull NumberFormat getFormatter() {
+        return FORMATTERS.get();
+    }
+
+    public static int getFractionDigits() {
+        return FRAC_DIGITS;
+    }
+
+    public static int getIntegerDigits() {
+        return INT_DIGITS;
+    }
+
+    /**
+     * Returns a new formatter that the caller owns. It is cloned from a prepared prototype so the setting does not have to be parsed again.
+     *
+     * @return A new formatter.
+     */
+    public static @NotNull NumberFormat newFormatter() {
+        synchronized(PROTOTYPE) { return (NumberFormat)PROTOTYPE.clone(); }
+    }
+
+    public static @NotNull BigDecimal parse(@NotNull CharSequence text) throws ParseException {
+        return CODEC.parse(text);
+    }
+
+    /**
+     * Converts a number to a {@link BigDecimal} without the binary noise of <code>new BigDecimal(double)</code>.
+     *
+     * @param value The number.
+     *
+     * @return The number as a {@link BigDecimal}, or zero if it is <code>null</code> or not finite.
+     */
+    public static @NotNull BigDecimal toBigDecimal(@Nullable Number value) {
+        if(value == null) return BigDecimal.ZERO;
+        if(value instanceof BigDecimal bd) return bd;
+        if(value instanceof BigInteger bi) return new BigDecimal(bi);
+        if((value instanceof Long) || (value instanceof Integer) || (value instanceof Short) || (value instanceof Byte) || (value instanceof AtomicLong) || (value instanceof AtomicInteger)) {
+            return BigDecimal.valueOf(value.longValue());
+        }
+        double d = value.doubleValue();
+        return (Double.isFinite(d) ? BigDecimal.valueOf(d) : BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,51 @@
+package com.projectgalen.lib.ui.paint;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: CalendarFaceScenario.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.components.calendar.PGCalendarFace;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+
+/**
+ * Paints a {@link PGCalendarFace}. The script flips through months that start on every day of the week and have 28 to 31 days, moving the selected date
+ * each frame.
+ */
+final class CalendarFaceScenario extends PaintScenario {
+
+    private PGCalendarFace calendarFace;
+
+    CalendarFaceScenario() {
+        super("calendar", 320, 260);
+    }
+
+    protected @Override @NotNull JComponent createComponent() {
+        return (calendarFace = new PGCalendarFace());
+    }
+
+    protected @Override void frame(int frame) {
+        calendarFace.setData((1 + (frame % 7)), (28 + ((frame / 7) % 4)), (1 + (frame % 28)));
+        layout(calendarFace);
+    }
+}
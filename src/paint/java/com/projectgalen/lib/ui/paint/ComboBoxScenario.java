@@ -0,0 +1,70 @@
+package com.projectgalen.lib.ui.paint;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: ComboBoxScenario.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.components.combobox.PGJComboBox;
+import com.projectgalen.lib.ui.test.TestData;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.plaf.basic.ComboPopup;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Paints an optional {@link PGJComboBox} over all the test rows together with its popup list. A popup cannot be shown headless so the scroll pane holding
+ * the popup list is moved under the combo box in the same panel. The script walks the selection down the list a row at a time, the way the arrow keys do.
+ */
+final class ComboBoxScenario extends PaintScenario {
+
+    private final List<TestData>        data;
+    private       PGJComboBox<TestData> comboBox;
+
+    ComboBoxScenario(@NotNull List<TestData> data) {
+        super("combobox", 400, 380);
+        this.data = data;
+    }
+
+    protected @Override @NotNull JComponent createComponent() {
+        comboBox = new PGJComboBox<>(data, true, TestData::getName);
+        comboBox.setMaximumRowCount(20);
+        comboBox.setPrototypeDisplayValue(data.get(0));
+
+        ComboPopup popup    = (ComboPopup)comboBox.getUI().getAccessibleChild(comboBox, 0);
+        Component  scroller = ((Container)popup).getComponent(0);
+        JPanel     panel    = new JPanel(null);
+        int        height   = comboBox.getPreferredSize().height;
+
+        popup.getList().setVisibleRowCount(comboBox.getMaximumRowCount());
+        comboBox.setBounds(0, 0, getWidth(), height);
+        scroller.setBounds(0, height, getWidth(), scroller.getPreferredSize().height);
+        panel.add(comboBox);
+        panel.add(scroller);
+        return panel;
+    }
+
+    protected @Override void frame(int frame) {
+        comboBox.setSelectedIndex(frame % comboBox.getItemCount());
+    }
+}
@@ -0,0 +1,103 @@
+package com.projectgalen.lib.ui.paint;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PaintResult.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * The frame times and allocation measured for one {@link PaintScenario} and the budgets it missed. A budget is read from the budgets file as
+ * <code><scenario>.fps.min</code>, <code><scenario>.p99.millis.max</code> or <code><scenario>.alloc.bytes.max</code>; a missing budget is not checked.
+ */
+final class PaintResult {
+
+    private final String       name;
+    private final int          frames;
+    private final double       fps;
+    private final double       p50Millis;
+    private final double       p99Millis;
+    private final long         allocatedPerFrame;
+    private final List<String> failures = new ArrayList<>();
+
+    PaintResult(@NotNull String name, long @NotNull [] frameNanos, long allocatedBytes) {
+        long[] sorted = frameNanos.clone();
+        Arrays.sort(sorted);
+
+        this.name              = name;
+        this.frames            = sorted.length;
+        this.fps               = (frames / (Arrays.stream(sorted).sum() / 1e9));
+        this.p50Millis         = (percentile(sorted, 0.50) / 1e6);
+        this.p99Millis         = (percentile(sorted, 0.99) / 1e6);
+        this.allocatedPerFrame = (allocatedBytes / frames);
+    }
+
+    void check(@NotNull Properties budgets) {
+        String fpsMin   = budgets.getProperty(name + ".fps.min");
+        String p99Max   = budgets.getProperty(name + ".p99.millis.max");
+        String allocMax = budgets.getProperty(name + ".alloc.bytes.max");
+
+        if((fpsMin != null) && (fps < Double.parseDouble(fpsMin))) failures.add("%.1f fps is below %s fps".formatted(fps, fpsMin));
+        if((p99Max != null) && (p99Millis > Double.parseDouble(p99Max))) failures.add("p99 of %.3f ms is above %s ms".formatted(p99Millis, p99Max));
+        if((allocMax != null) && (allocatedPerFrame > Long.parseLong(allocMax))) failures.add("%,d bytes per frame is above %s bytes".formatted(allocatedPerFrame, allocMax));
+    }
+
+    @NotNull List<String> getFailures() {
+        return failures;
+    }
+
+    boolean isPassed() {
+        return failures.isEmpty();
+    }
+
+    @NotNull String toJson() {
+        String f = failures.stream().map(s -> ('"' + s.replace("\"", "\\\"") + '"')).collect(Collectors.joining(", ", "[", "]"));
+        // JSON numbers always use a period as the decimal separator, whatever the default locale.
+        return String.format(Locale.ROOT,
+                             "{ \"scenario\": \"%s\", \"frames\": %d, \"fps\": %.2f, \"p50Millis\": %.4f, \"p99Millis\": %.4f, \"allocatedBytesPerFrame\": %d, " +
+                             "\"passed\": %b, \"failures\": %s }",
+                             name,
+                             frames,
+                             fps,
+                             p50Millis,
+                             p99Millis,
+                             allocatedPerFrame,
+                             isPassed(),
+                             f);
+    }
+
+    public @Override String toString() {
+        String status = (isPassed() ? "OK" : "FAILED");
+        return "%-10s %6d frames %10.1f fps   p50 %8.3f ms   p99 %8.3f ms   %,12d bytes/frame   %s".formatted(name, frames, fps, p50Millis, p99Millis, allocatedPerFrame, status);
+    }
+
+    private static long percentile(long @NotNull [] sorted, double p) {
+        return sorted[Math.max(0, ((int)Math.ceil(p * sorted.length) - 1))];
+    }
+}
@@ -0,0 +1,95 @@
+package com.projectgalen.lib.ui.paint;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PaintScenario.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * One component painted by {@link PaintSuite}. Everything here runs on the event dispatch thread. The component is created by {@link #setUp()} and each
+ * frame first moves it to its scripted position with {@link #frame(int)} and then paints it into an offscreen image.
+ */
+abstract class PaintScenario {
+
+    private final String     name;
+    private final int        width;
+    private final int        height;
+    private       JComponent component = null;
+
+    PaintScenario(@NotNull String name, int width, int height) {
+        this.name   = name;
+        this.width  = width;
+        this.height = height;
+    }
+
+    @NotNull String getName() {
+        return name;
+    }
+
+    int getHeight() {
+        return height;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    void paintFrame(@NotNull BufferedImage image, int frame) {
+        frame(frame);
+        Graphics2D g = image.createGraphics();
+        try {
+            component.paint(g);
+        }
+        finally {
+            g.dispose();
+        }
+    }
+
+    void setUp() {
+        component = createComponent();
+        component.setSize(width, height);
+        layout(component);
+    }
+
+    protected abstract @NotNull JComponent createComponent();
+
+    /**
+     * Moves the component to where it should be for the given frame. Frames are numbered from zero, warm-up frames included, so the same frame number always
+     * paints the same thing.
+     */
+    protected abstract void frame(int frame);
+
+    /**
+     * Lays out the whole tree. There is no native peer when running headless so {@link Container#validate()} does nothing.
+     */
+    protected static void layout(@NotNull Component c) {
+        if(c instanceof Container cx) {
+            cx.doLayout();
+            for(Component child : cx.getComponents()) layout(child);
+        }
+    }
+}
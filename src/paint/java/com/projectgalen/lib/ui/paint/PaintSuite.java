@@ -0,0 +1,120 @@
+package com.projectgalen.lib.ui.paint;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: PaintSuite.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.test.TestData;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Headless paint-throughput regression suite. Each {@link PaintScenario} is built on the event dispatch thread and painted into an offscreen image for a
+ * number of warm-up frames and then for the measured frames. The results are printed, written as JSON and checked against the budgets. The process exits with
+ * a status of 1 if any budget was missed so the build fails.
+ * <p>
+ * Settings are system properties: <code>paint.rows</code>, <code>paint.warmup</code>, <code>paint.frames</code>, <code>paint.budgets</code> and
+ * <code>paint.result.file</code>. At least one frame has to be measured.
+ */
+public final class PaintSuite {
+
+    private static final long SEED = 8675309L;
+
+    private PaintSuite() { }
+
+    public static void main(String[] args) throws Exception {
+        int        rows       = Integer.getInteger("paint.rows", 2_000_000);
+        int        warmup     = Integer.getInteger("paint.warmup", 100);
+        int        frames     = Integer.getInteger("paint.frames", 300);
+        Properties budgets    = loadBudgets(System.getProperty("paint.budgets"));
+        String     resultFile = System.getProperty("paint.result.file", "target/paint-result.json");
+
+        if(frames < 1) throw new IllegalArgumentException("paint.frames must be at least 1 but was %d.".formatted(frames));
+
+        System.out.printf("Creating %,d rows of test data...%n", rows);
+        List<TestData>      data      = TestData.createTestData(rows, SEED);
+        List<PaintScenario> scenarios = List.of(new TableScenario(data, SEED), new ComboBoxScenario(data), new CalendarFaceScenario(), new ProgressScenario());
+        List<PaintResult>   results   = new ArrayList<>();
+
+        SwingUtilities.invokeAndWait(() -> RepaintManager.currentManager(null).setDoubleBufferingEnabled(false));
+
+        for(PaintScenario scenario : scenarios) {
+            PaintResult result = run(scenario, warmup, frames);
+            result.check(budgets);
+            results.add(result);
+            System.out.println(result);
+            for(String failure : result.getFailures()) System.out.printf("    %s%n", failure);
+        }
+
+        Path path = Path.of(resultFile);
+        if(path.getParent() != null) Files.createDirectories(path.getParent());
+        Files.writeString(path, results.stream().map(r -> ("  " + r.toJson())).collect(Collectors.joining(",\n", "[\n", "\n]\n")), StandardCharsets.UTF_8);
+
+        System.exit(results.stream().allMatch(PaintResult::isPassed) ? 0 : 1);
+    }
+
+    private static @NotNull Properties loadBudgets(String filename) throws IOException {
+        Properties budgets = new Properties();
+        if(filename != null) try(Reader reader = Files.newBufferedReader(Path.of(filename), StandardCharsets.UTF_8)) { budgets.load(reader); }
+        return budgets;
+    }
+
+    /**
+     * Runs one scenario. It is set up in its own event so that anything the component queues with {@link SwingUtilities#invokeLater(Runnable)} while it is
+     * being built has run before the first frame is painted.
+     */
+    private static @NotNull PaintResult run(@NotNull PaintScenario scenario, int warmup, int frames) throws Exception {
+        AtomicReference<PaintResult> result = new AtomicReference<>();
+
+        SwingUtilities.invokeAndWait(scenario::setUp);
+        SwingUtilities.invokeAndWait(() -> {
+            com.sun.management.ThreadMXBean mx    = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+            BufferedImage                   image = new BufferedImage(scenario.getWidth(), scenario.getHeight(), BufferedImage.TYPE_INT_RGB);
+            long[]                          nanos = new long[frames];
+
+            for(int i = 0; i < warmup; i++) scenario.paintFrame(image, i);
+
+            long allocated = mx.getCurrentThreadAllocatedBytes();
+            for(int i = 0; i < frames; i++) {
+                long start = System.nanoTime();
+                scenario.paintFrame(image, (warmup + i));
+                nanos[i] = (System.nanoTime() - start);
+            }
+            result.set(new PaintResult(scenario.getName(), nanos, (mx.getCurrentThreadAllocatedBytes() - allocated)));
+        });
+
+        return result.get();
+    }
+}
@@ -0,0 +1,81 @@
+package com.projectgalen.lib.ui.paint;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: ProgressScenario.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.progressdialog.ProgressDialog;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Objects;
+
+/**
+ * Paints the content pane of a {@link ProgressDialog}. The dialog itself cannot be created headless, so the content pane is rebuilt here from the same
+ * components and settings as <code>ProgressDialog.form</code>. The script advances the progress bar and the message every frame.
+ */
+final class ProgressScenario extends PaintScenario {
+
+    private static final int MAXIMUM = 1000;
+
+    private JProgressBar progressBar;
+    private JLabel       message;
+
+    ProgressScenario() {
+        super("progress", 400, 140);
+    }
+
+    protected @Override @NotNull JComponent createComponent() {
+        JPanel  contentPane  = new JPanel(new BorderLayout());
+        JPanel  body         = new JPanel();
+        JLabel  finalMessage = new JLabel(" ");
+        JButton buttonOK     = new JButton("OK", new ImageIcon(Objects.requireNonNull(ProgressDialog.class.getResource("/com/projectgalen/lib/ui/icons/accept.png"))));
+
+        message     = new JLabel();
+        progressBar = new JProgressBar(0, MAXIMUM);
+        progressBar.setStringPainted(true);
+        progressBar.setMaximumSize(new Dimension(Integer.MAX_VALUE, (int)(progressBar.getPreferredSize().height * 1.5)));
+
+        for(JComponent c : new JComponent[] { message, progressBar, finalMessage }) c.setAlignmentX(Component.CENTER_ALIGNMENT);
+        body.setLayout(new BoxLayout(body, BoxLayout.Y_AXIS));
+        body.add(message);
+        body.add(progressBar);
+        body.add(finalMessage);
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 0));
+        buttons.add(buttonOK);
+
+        contentPane.setBorder(new EmptyBorder(10, 10, 10, 10));
+        contentPane.add(body, BorderLayout.CENTER);
+        contentPane.add(buttons, BorderLayout.SOUTH);
+        return contentPane;
+    }
+
+    protected @Override void frame(int frame) {
+        int value = (frame % (MAXIMUM + 1));
+        progressBar.setValue(value);
+        message.setText("Processing record %,d of %,d".formatted(value, MAXIMUM));
+        layout(progressBar.getParent());
+    }
+}
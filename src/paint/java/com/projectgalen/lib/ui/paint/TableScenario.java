@@ -0,0 +1,82 @@
+package com.projectgalen.lib.ui.paint;
+
+// ===========================================================================
+//     PROJECT: PGUI
+//    FILENAME: TableScenario.java
+//         IDE: IntelliJ IDEA
+//      AUTHOR: Galen Rhodes
+//        DATE: October 18, 2026
+//
+// Copyright © 2026 Project Galen. All rights reserved.
+//
+// Permission to use, copy, modify, and distribute this software for any
+// purpose with or without fee is hereby granted, provided that the above
+// copyright notice and this permission notice appear in all copies.
+//
+// THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+// WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+// MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+// SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+// WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+// ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+// IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+// ===========================================================================
+
+
+import com.projectgalen.lib.ui.components.table.PGJTable;
+import com.projectgalen.lib.ui.components.table.SelectionMode;
+import com.projectgalen.lib.ui.components.table.misc.CurrencyCellRenderer;
+import com.projectgalen.lib.ui.components.table.misc.PGJTableModel;
+import com.projectgalen.lib.ui.components.table.misc.PGListDataSupplier;
+import com.projectgalen.lib.ui.test.TestData;
+import com.projectgalen.lib.ui.test.TestRowModel;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Paints a {@link PGJTable} over all the test rows. The script repeats three segments: scrolling one row at a time, paging down, and jumping to random rows
+ * the way dragging the scroll bar thumb does.
+ */
+final class TableScenario extends PaintScenario {
+
+    private static final int SEGMENT = 50;
+
+    private final List<TestData>     data;
+    private final Random             random;
+    private       PGJTable<TestData> table;
+    private       JViewport          viewport;
+    private       JTable             view;
+
+    TableScenario(@NotNull List<TestData> data, long seed) {
+        super("table", 1024, 768);
+        this.data   = data;
+        this.random = new Random(seed);
+    }
+
+    protected @Override @NotNull JComponent createComponent() {
+        table    = new PGJTable<>(new PGJTableModel<>(new TestRowModel(), new PGListDataSupplier<>(data)), SelectionMode.MultiInterval);
+        viewport = table.getViewport();
+        view     = (JTable)viewport.getView();
+        view.getColumnModel().getColumn(3).setCellRenderer(new CurrencyCellRenderer());
+        // JTable installs its header from addNotify(), which never happens headless.
+        table.setColumnHeaderView(view.getTableHeader());
+        return table;
+    }
+
+    protected @Override void frame(int frame) {
+        int rows     = data.size();
+        int pageRows = Math.max(1, (viewport.getHeight() / view.getRowHeight()));
+        int row      = switch((frame / SEGMENT) % 3) {/*@f0*/
+            case 0  -> (frame % rows);
+            case 1  -> (int)(((long)frame * pageRows) % rows);
+            default -> random.nextInt(rows);
+        };/*@f1*/
+        int y        = Math.max(0, Math.min(view.getCellRect(row, 0, true).y, (view.getHeight() - viewport.getHeight())));
+
+        viewport.setViewPosition(new Point(0, y));
+    }
+}
@@ -32,6 +32,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 
 public class TestData implements Comparable<TestData> {
     private String     name;
@@ -103,18 +104,33 @@ public class TestData implements Comparable<TestData> {
     }
 
     public static @NotNull List<TestData> createTestData(int recordCount) {
-        List<TestData> testData  = new ArrayList<>();
+        return createTestData(recordCount, new Random());
+    }
+
+    /**
+     * Creates the same records for the same seed so runs with millions of rows can be compared with each other.
+     */
+    public static @NotNull List<TestData> createTestData(int recordCount, long seed) {
+        return createTestData(recordCount, new Random(seed));
+    }
+
+    private static @NotNull List<TestData> createTestData(int recordCount, @NotNull Random rnd) {
+        List<TestData> testData  = new ArrayList<>(recordCount);
         List<String>   wordList  = loadWordList();
         int            wordCount = wordList.size();
+        StringBuilder  sb        = new StringBuilder();
 
-        for(int i = 0; i < recordCount; i++) {
-            String     firstName = wordList.get((int)(Math.random() * wordCount));
-            String     lastName  = wordList.get((int)(Math.random() * wordCount));
-            TestEnum   gender    = TestEnum.valueOf((int)(Math.random() * 3));
-            int        age       = (int)(randomInRange(21, 72)); // Ages ranged between 21 and 71 inclusive.
-            BigDecimal salary    = BigDecimal.valueOf(randomInRange(30_000.00, 150_000.00)); // Salaries ranged between $30,000 and $149,999.99 inclusive.
+        wordList.replaceAll(w -> (Character.toUpperCase(w.charAt(0)) + w.substring(1)));
 
-            testData.add(new TestData("%C%s %C%s".formatted(firstName.charAt(0), firstName.substring(1), lastName.charAt(0), lastName.substring(1)), age, gender, salary));
+        for(int i = 0; i < recordCount; i++) {
+            String     firstName = wordList.get(rnd.nextInt(wordCount));
+            String     lastName  = wordList.get(rnd.nextInt(wordCount));
+            TestEnum   gender    = TestEnum.valueOf(rnd.nextInt(3));
+            int        age       = (21 + rnd.nextInt(51)); // Ages ranged between 21 and 71 inclusive.
+            BigDecimal salary    = BigDecimal.valueOf((3_000_000L + rnd.nextInt(12_000_000)), 2); // Salaries ranged between $30,000 and $149,999.99 inclusive.
+
+            sb.setLength(0);
+            testData.add(new TestData(sb.append(firstName).append(' ').append(lastName).toString(), age, gender, salary));
         }
 
         return testData;
@@ -134,8 +150,4 @@ public class TestData implements Comparable<TestData> {
             throw new RuntimeException(e);
         }
     }
-
-    private static double randomInRange(double low, double high) {
-        return (low + (Math.random() * (high - low)));
-    }
 }
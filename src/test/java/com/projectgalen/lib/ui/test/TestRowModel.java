@@ -49,6 +49,10 @@ public class TestRowModel extends AbstractPGJTableRowModel<TestData> {
         return 4;
     }
 
+    @Override public int getColumnIntValue(@NotNull TestData obj, int columnIndex) {
+        return ((columnIndex == 1) ? obj.getAge() : super.getColumnIntValue(obj, columnIndex));
+    }
+
     @Override public String getColumnName(int columnIndex) {
         return columnNames[columnIndex];
     }